@@ -0,0 +1,69 @@
+val javaVersion: Int = project.property("javaVersion").toString().toInt()
+val greenMailVersion: String by project
+val commonsTextVersion: String by project
+
+plugins {
+    id("java")
+    id("io.spring.dependency-management") version "1.1.6"
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+group = "hu.bhr"
+version = "0.0.1"
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(javaVersion)
+    }
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencyManagement {
+    imports {
+        mavenBom("org.springframework.boot:spring-boot-dependencies:3.4.1")
+    }
+}
+
+dependencies {
+    jmh(project(":backend"))
+    jmh("org.springframework:spring-context")
+    jmh("jakarta.validation:jakarta.validation-api")
+    jmh("org.hibernate.validator:hibernate-validator")
+    jmh("org.apache.commons:commons-text:$commonsTextVersion")
+    jmh("org.springframework:spring-context-support")
+    jmh("org.eclipse.angus:jakarta.mail")
+    jmh("com.icegreen:greenmail:$greenMailVersion")
+    jmh("org.springframework.data:spring-data-mongodb")
+    jmh("org.mongodb:mongodb-driver-sync")
+    jmh("org.testcontainers:mongodb")
+}
+
+jmh {
+    jmhVersion = project.property("jmhVersion").toString()
+    profilers = listOf("gc")
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    resultFormat = "JSON"
+    // Run a subset with: ./gradlew :backend-benchmarks:jmh -PjmhIncludes=Mapper
+    if (project.hasProperty("jmhIncludes")) {
+        includes = listOf(project.property("jmhIncludes").toString())
+    }
+}
+
+// Load test of a running backend, see ServletLoadTest. Run it against each threading mode and compare:
+//   ./gradlew :backend-benchmarks:loadTest -PloadTest.label=platform
+//   ./gradlew :backend-benchmarks:loadTest -PloadTest.label=virtual -PloadTest.concurrency=1000
+// after starting the backend without and with the virtual-threads profile, respectively.
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Measures throughput and latency percentiles of a running backend."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass = "hu.bhr.crm.benchmark.ServletLoadTest"
+    project.properties
+        .filterKeys { it.startsWith("loadTest.") }
+        .forEach { (name, value) -> systemProperty(name, value.toString()) }
+}
@@ -0,0 +1,97 @@
+package hu.bhr.crm.benchmark;
+
+import hu.bhr.crm.model.CustomerDetails;
+import hu.bhr.crm.model.EmailContent;
+import hu.bhr.crm.model.Residence;
+import hu.bhr.crm.model.TaskStatus;
+import hu.bhr.crm.repository.entity.CustomerEntity;
+import hu.bhr.crm.repository.entity.ResidenceEntity;
+import hu.bhr.crm.repository.entity.TaskEntity;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Representative objects shared by the benchmarks, shaped like a typical request or reminder.
+ */
+public final class BenchmarkFixtures {
+
+    public static final Instant NOW = Instant.parse("2025-03-01T10:15:30Z");
+
+    private BenchmarkFixtures() {
+    }
+
+    public static CustomerEntity customerEntity() {
+        CustomerEntity customerEntity = CustomerEntity.builder()
+                .id(UUID.randomUUID())
+                .firstName("Harry")
+                .lastName("Potter")
+                .nickname("The Boy Who Lived")
+                .email("harry.potter@hogwarts.co.uk")
+                .phoneNumber("+36301234567")
+                .relationship("friend")
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+        customerEntity.setResidence(ResidenceEntity.builder()
+                .id(UUID.randomUUID())
+                .zipCode("1051")
+                .streetAddress("4 Privet Drive")
+                .addressLine2("Cupboard under the stairs")
+                .city("Little Whinging")
+                .country("United Kingdom")
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build());
+
+        return customerEntity;
+    }
+
+    public static TaskEntity taskEntity() {
+        TaskEntity taskEntity = new TaskEntity();
+        taskEntity.setId(UUID.randomUUID());
+        taskEntity.setCustomerId(UUID.randomUUID());
+        taskEntity.setTitle("Call customer");
+        taskEntity.setDescription("Going bouldering with the customer");
+        taskEntity.setReminder(NOW.plusSeconds(3_600));
+        taskEntity.setDueDate(NOW.plusSeconds(86_400));
+        taskEntity.setStatus(TaskStatus.IN_PROGRESS);
+        taskEntity.setCreatedAt(NOW);
+        taskEntity.setUpdatedAt(NOW);
+
+        return taskEntity;
+    }
+
+    public static EmailContent emailContent(int noteCount) {
+        Residence residence = Residence.builder()
+                .zipCode("1051")
+                .streetAddress("4 Privet Drive")
+                .addressLine2("Cupboard under the stairs")
+                .city("Little Whinging")
+                .country("United Kingdom")
+                .build();
+
+        List<CustomerDetails> notes = new ArrayList<>(noteCount);
+        for (int i = 0; i < noteCount; i++) {
+            notes.add(CustomerDetails.builder()
+                    .id(UUID.randomUUID())
+                    .note("Note #" + i + ": likes <b>butterbeer</b> & \"quidditch\", dislikes Dursleys")
+                    .createdAt(NOW)
+                    .build());
+        }
+
+        return EmailContent.builder()
+                .taskTitle("Call customer about the Triwizard Tournament")
+                .dueDate(NOW.plusSeconds(86_400))
+                .taskDescription("Discuss the <second> task & bring the golden egg")
+                .customerFirstName("Harry")
+                .customerLastName("Potter")
+                .customerPhoneNumber("+36301234567")
+                .customerEmail("harry.potter@hogwarts.co.uk")
+                .customerResidence(residence)
+                .customerDetailsList(notes)
+                .build();
+    }
+}
@@ -0,0 +1,178 @@
+package hu.bhr.crm.benchmark;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import hu.bhr.crm.repository.mongo.document.CustomerDocument;
+import org.bson.UuidRepresentation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.testcontainers.containers.MongoDBContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Measures the latency of searching the customer notes on a synthetic dataset of 1M notes
+ * (10 per customer), comparing the text index to the unindexed case-insensitive regex scan.
+ * <p>
+ * The notes are made of common words, and one in a thousand also mentions a rare word, so a search
+ * term either matches a large share of the collection ({@code wine}) or only a few documents
+ * ({@code anniversary}). Both queries return the first page of a ranked result: the text search ranks
+ * by relevance, and the regex scan, which has no relevance score, by the newest update. A ranked page
+ * needs every match, so the regex scan always reads the whole collection and sorts the matches in memory,
+ * while the text index reads only the matching documents. MongoDB runs in a container, so Docker has to be
+ * available, and the dataset is inserted once per trial.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CustomerDetailsSearchBenchmark {
+
+    private static final int NOTES_PER_CUSTOMER = 10;
+    private static final int WORDS_PER_NOTE = 30;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+    private static final int PAGE_SIZE = 20;
+    private static final String[] COMMON_WORDS = {
+            "customer", "prefers", "wine", "beer", "coffee", "meeting", "call", "email", "birthday", "family",
+            "children", "holiday", "summer", "winter", "garden", "football", "concert", "dinner", "lunch", "office",
+            "project", "invoice", "payment", "contract", "renewal", "discount", "gift", "flowers", "travel", "hotel"
+    };
+    private static final String RARE_WORD = "anniversary";
+    private static final double RARE_WORD_RATIO = 0.001;
+
+    @Param({"1000000"})
+    private int notes;
+
+    @Param({"wine", "anniversary"})
+    private String term;
+
+    private MongoDBContainer mongoDBContainer;
+    private MongoClient mongoClient;
+    private MongoTemplate mongoTemplate;
+    private UUID customerId;
+    private Pattern termPattern;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mongoDBContainer = new MongoDBContainer("mongo:8.0.10");
+        mongoDBContainer.start();
+        mongoClient = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(mongoDBContainer.getConnectionString()))
+                // the representation Spring Boot configures for the application
+                .uuidRepresentation(UuidRepresentation.JAVA_LEGACY)
+                .build());
+        mongoTemplate = new MongoTemplate(mongoClient, "crm");
+
+        MongoPersistentEntityIndexResolver indexResolver =
+                new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+        IndexOperations indexOperations = mongoTemplate.indexOps(CustomerDocument.class);
+        indexResolver.resolveIndexFor(CustomerDocument.class).forEach(indexOperations::ensureIndex);
+
+        insertNotes();
+        termPattern = Pattern.compile(Pattern.quote(term), Pattern.CASE_INSENSITIVE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mongoClient.close();
+        mongoDBContainer.stop();
+    }
+
+    @Benchmark
+    public List<CustomerDocument> textSearch() {
+        Query query = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(term))
+                .sortByScore()
+                .with(PageRequest.of(0, PAGE_SIZE));
+
+        return mongoTemplate.find(query, CustomerDocument.class);
+    }
+
+    @Benchmark
+    public List<CustomerDocument> textSearchOfCustomer() {
+        Query query = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(term))
+                .sortByScore()
+                .addCriteria(Criteria.where("customerId").is(customerId))
+                .with(PageRequest.of(0, PAGE_SIZE));
+
+        return mongoTemplate.find(query, CustomerDocument.class);
+    }
+
+    @Benchmark
+    public List<CustomerDocument> regexScan() {
+        Query query = Query.query(Criteria.where("note").regex(termPattern))
+                .with(PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "updatedAt")));
+
+        return mongoTemplate.find(query, CustomerDocument.class);
+    }
+
+    private void insertNotes() {
+        Random random = new Random(42);
+        List<CustomerDocument> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        UUID currentCustomerId = null;
+
+        for (int i = 0; i < notes; i++) {
+            if (i % NOTES_PER_CUSTOMER == 0) {
+                currentCustomerId = UUID.randomUUID();
+            }
+            batch.add(CustomerDocument.builder()
+                    .id(UUID.randomUUID())
+                    .customerId(currentCustomerId)
+                    .note(note(random))
+                    .createdAt(BenchmarkFixtures.NOW.plusSeconds(i))
+                    .updatedAt(BenchmarkFixtures.NOW.plusSeconds(i))
+                    .build());
+
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                mongoTemplate.insert(batch, CustomerDocument.class);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            mongoTemplate.insert(batch, CustomerDocument.class);
+        }
+
+        // a customer in the middle of the dataset, whose notes are not at the start of any index
+        customerId = mongoTemplate.findOne(
+                Query.query(Criteria.where("createdAt").is(BenchmarkFixtures.NOW.plusSeconds(notes / 2))),
+                CustomerDocument.class).getCustomerId();
+    }
+
+    private static String note(Random random) {
+        StringBuilder note = new StringBuilder();
+        for (int i = 0; i < WORDS_PER_NOTE; i++) {
+            if (i > 0) {
+                note.append(' ');
+            }
+            note.append(COMMON_WORDS[random.nextInt(COMMON_WORDS.length)]);
+        }
+        if (random.nextDouble() < RARE_WORD_RATIO) {
+            note.append(' ').append(RARE_WORD);
+        }
+
+        return note.toString();
+    }
+}
@@ -0,0 +1,101 @@
+package hu.bhr.crm.benchmark;
+
+import hu.bhr.crm.model.CustomerDetails;
+import hu.bhr.crm.model.EmailContent;
+import hu.bhr.crm.model.EmailContentHtmlBuilder;
+import hu.bhr.crm.model.Residence;
+import org.apache.commons.text.StringEscapeUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rendering the reminder email HTML for a fully populated task, customer and residence
+ * with a varying number of customer notes.
+ * <p>
+ * {@link #buildWithStringFormat()} keeps the former renderer, one {@code String.format} call and one
+ * escaped copy per field, as a baseline.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmailContentHtmlBuilderBenchmark {
+
+    @Param({"0", "5", "50"})
+    private int noteCount;
+
+    private EmailContent emailContent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        emailContent = BenchmarkFixtures.emailContent(noteCount);
+    }
+
+    @Benchmark
+    public String build() {
+        return EmailContentHtmlBuilder.build(emailContent);
+    }
+
+    @Benchmark
+    public String buildWithStringFormat() {
+        EmailContent content = emailContent;
+        StringBuilder html = new StringBuilder();
+        html.append("<h2>Task Reminder</h2>");
+        html.append("<ul>");
+
+        html.append(String.format("<li><strong>Task Title:</strong> %s</li>", escape(content.taskTitle())));
+        if (content.dueDate() != null) {
+            html.append(String.format("<li><strong>Due Date:</strong> %s</li>", content.dueDate()));
+        }
+        appendIfNotBlank(html, "<li><strong>Task Description:</strong> %s</li>", content.taskDescription());
+        html.append("<br>");
+
+        html.append("<li><strong>Customer Information:</strong></li>");
+        html.append("<ul>");
+        appendIfNotBlank(html, "<li><strong>First Name:</strong> %s</li>", content.customerFirstName());
+        appendIfNotBlank(html, "<li><strong>Last Name:</strong> %s</li>", content.customerLastName());
+        appendIfNotBlank(html, "<li><strong>Phone Number:</strong> %s</li>", content.customerPhoneNumber());
+        appendIfNotBlank(html, "<li><strong>Email:</strong> %s</li>", content.customerEmail());
+
+        Residence residence = content.customerResidence();
+        html.append("<li><strong>Residence:</strong></li>");
+        html.append("<ul>");
+        appendIfNotBlank(html, "<li>Zip Code: %s</li>", residence.zipCode());
+        appendIfNotBlank(html, "<li>Street Address: %s</li>", residence.streetAddress());
+        appendIfNotBlank(html, "<li>Address Line 2: %s</li>", residence.addressLine2());
+        appendIfNotBlank(html, "<li>City: %s</li>", residence.city());
+        appendIfNotBlank(html, "<li>Country: %s</li>", residence.country());
+        html.append("</ul></li>");
+
+        if (!content.customerDetailsList().isEmpty()) {
+            html.append("<li><strong>Additional Details:</strong></li>");
+            html.append("<ul>");
+            for (CustomerDetails detail : content.customerDetailsList()) {
+                html.append(String.format("<li>%s</li>", escape(detail.note())));
+            }
+            html.append("</ul></li>");
+        }
+        html.append("</ul>");
+
+        return html.toString();
+    }
+
+    private static void appendIfNotBlank(StringBuilder html, String format, String value) {
+        if (value != null && !value.isBlank()) {
+            html.append(String.format(format, escape(value)));
+        }
+    }
+
+    private static String escape(String value) {
+        return StringEscapeUtils.escapeHtml4(value);
+    }
+}
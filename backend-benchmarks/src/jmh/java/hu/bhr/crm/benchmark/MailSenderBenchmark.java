@@ -0,0 +1,86 @@
+package hu.bhr.crm.benchmark;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import hu.bhr.crm.mail.PooledJavaMailSender;
+import hu.bhr.crm.model.EmailContentHtmlBuilder;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-email latency of sending one reminder to a local GreenMail SMTP server,
+ * with a new connection per email ({@code pooled=false}) and with a reused pooled connection.
+ * <p>
+ * The local server offers neither STARTTLS nor authentication, so the measured gain covers only the
+ * TCP connect and the SMTP greeting; against the real server the TLS handshake and AUTH are saved as well.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MailSenderBenchmark {
+
+    private static final int SMTP_PORT = 3925;
+
+    @Param({"false", "true"})
+    private boolean pooled;
+
+    private GreenMail greenMail;
+    private JavaMailSenderImpl mailSender;
+    private String html;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        greenMail = new GreenMail(new ServerSetup(SMTP_PORT, "localhost", ServerSetup.PROTOCOL_SMTP));
+        greenMail.start();
+
+        mailSender = pooled
+                ? new PooledJavaMailSender(1, Duration.ofMinutes(5), Duration.ofSeconds(5))
+                : new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(SMTP_PORT);
+
+        html = EmailContentHtmlBuilder.build(BenchmarkFixtures.emailContent(5));
+    }
+
+    @Setup(Level.Iteration)
+    public void purgeMailboxes() {
+        greenMail.reset();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (mailSender instanceof PooledJavaMailSender pooledMailSender) {
+            pooledMailSender.destroy();
+        }
+        greenMail.stop();
+    }
+
+    @Benchmark
+    public MimeMessage send() throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, "UTF-8");
+        helper.setFrom("crm@example.com");
+        helper.setTo("owner@example.com");
+        helper.setSubject("Task Reminder - Call back");
+        helper.setText(html, true);
+
+        mailSender.send(mimeMessage);
+        return mimeMessage;
+    }
+}
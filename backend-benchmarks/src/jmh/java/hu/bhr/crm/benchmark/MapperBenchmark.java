@@ -0,0 +1,98 @@
+package hu.bhr.crm.benchmark;
+
+import hu.bhr.crm.controller.dto.CustomerResponse;
+import hu.bhr.crm.controller.dto.TaskResponse;
+import hu.bhr.crm.mapper.CustomerMapper;
+import hu.bhr.crm.mapper.DateTimeMapper;
+import hu.bhr.crm.mapper.TaskMapper;
+import hu.bhr.crm.model.Customer;
+import hu.bhr.crm.model.Task;
+import hu.bhr.crm.repository.entity.CustomerEntity;
+import hu.bhr.crm.repository.entity.TaskEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the MapStruct mappers on the entity to domain to response path of every read request.
+ * <p>
+ * The generated mapper implementations are wired by Spring exactly as in the application,
+ * so nested mappers ({@code ResidenceMapper}, {@code DateTimeMapper}) are part of the measurement.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+    private CustomerMapper customerMapper;
+    private TaskMapper taskMapper;
+    private DateTimeMapper dateTimeMapper;
+
+    private CustomerEntity customerEntity;
+    private Customer customer;
+    private TaskEntity taskEntity;
+    private Task task;
+    private Instant instant;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext("hu.bhr.crm.mapper");
+        customerMapper = context.getBean(CustomerMapper.class);
+        taskMapper = context.getBean(TaskMapper.class);
+        dateTimeMapper = context.getBean(DateTimeMapper.class);
+
+        customerEntity = BenchmarkFixtures.customerEntity();
+        customer = customerMapper.customerEntityToCustomer(customerEntity);
+        taskEntity = BenchmarkFixtures.taskEntity();
+        task = taskMapper.taskEntityToTask(taskEntity);
+        instant = BenchmarkFixtures.NOW;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Customer customerEntityToCustomer() {
+        return customerMapper.customerEntityToCustomer(customerEntity);
+    }
+
+    @Benchmark
+    public CustomerResponse customerToCustomerResponse() {
+        return customerMapper.customerToCustomerResponse(customer);
+    }
+
+    @Benchmark
+    public CustomerEntity customerToCustomerEntity() {
+        return customerMapper.customerToCustomerEntity(customer);
+    }
+
+    @Benchmark
+    public Task taskEntityToTask() {
+        return taskMapper.taskEntityToTask(taskEntity);
+    }
+
+    @Benchmark
+    public TaskResponse taskToTaskResponse() {
+        return taskMapper.taskToTaskResponse(task);
+    }
+
+    @Benchmark
+    public ZonedDateTime instantToZonedDateTime() {
+        return dateTimeMapper.instantToZonedDateTime(instant);
+    }
+}
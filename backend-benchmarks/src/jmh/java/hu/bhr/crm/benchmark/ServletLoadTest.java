@@ -0,0 +1,158 @@
+package hu.bhr.crm.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the throughput and latency percentiles of a running backend under a fixed number of concurrent clients.
+ * <p>
+ * Run it once against a backend started with the default platform threads, and once against one started
+ * with the {@code virtual-threads} profile, then compare the reports. Each client sends its next request as soon
+ * as the previous one completed, cycling through the configured paths. With more clients than Tomcat's 200
+ * platform threads, requests queue for a thread in the default mode, and for a database connection in the
+ * virtual-thread mode, which shows in the p99 latency. The requests of the warmup are not recorded.
+ * </p>
+ * <p>
+ * Configured with system properties:
+ * <ul>
+ * <li>{@code loadTest.baseUrl}: the backend, {@value #DEFAULT_BASE_URL} by default.</li>
+ * <li>{@code loadTest.paths}: comma separated paths requested in turn, {@value #DEFAULT_PATHS} by default.
+ * Endpoints reading both Postgres and MongoDB, like {@code /api/v1/customers/{id}/overview}, block the longest.</li>
+ * <li>{@code loadTest.concurrency}: the number of concurrent clients, {@value #DEFAULT_CONCURRENCY} by default.</li>
+ * <li>{@code loadTest.warmup} and {@code loadTest.duration}: ISO-8601 durations, {@value #DEFAULT_WARMUP}
+ * and {@value #DEFAULT_DURATION} by default.</li>
+ * <li>{@code loadTest.label}: the name of the run in the report.</li>
+ * </ul>
+ * </p>
+ */
+public class ServletLoadTest {
+
+    private static final String DEFAULT_BASE_URL = "http://localhost:8080";
+    private static final String DEFAULT_PATHS = "/api/v1/customers/page?limit=20";
+    private static final int DEFAULT_CONCURRENCY = 400;
+    private static final String DEFAULT_WARMUP = "PT15S";
+    private static final String DEFAULT_DURATION = "PT60S";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(REQUEST_TIMEOUT)
+            .build();
+    private final List<URI> uris;
+    private final AtomicLong errors = new AtomicLong();
+
+    private ServletLoadTest(String baseUrl, String paths) {
+        this.uris = Arrays.stream(paths.split(","))
+                .map(String::trim)
+                .filter(path -> !path.isEmpty())
+                .map(path -> URI.create(baseUrl + path))
+                .toList();
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String baseUrl = System.getProperty("loadTest.baseUrl", DEFAULT_BASE_URL);
+        String paths = System.getProperty("loadTest.paths", DEFAULT_PATHS);
+        int concurrency = Integer.getInteger("loadTest.concurrency", DEFAULT_CONCURRENCY);
+        Duration warmup = Duration.parse(System.getProperty("loadTest.warmup", DEFAULT_WARMUP));
+        Duration duration = Duration.parse(System.getProperty("loadTest.duration", DEFAULT_DURATION));
+        String label = System.getProperty("loadTest.label", baseUrl);
+
+        ServletLoadTest loadTest = new ServletLoadTest(baseUrl, paths);
+        System.out.printf("Warming up %s with %d clients for %ss%n", label, concurrency, warmup.toSeconds());
+        loadTest.run(concurrency, warmup);
+        loadTest.errors.set(0);
+
+        System.out.printf("Measuring %s with %d clients for %ss%n", label, concurrency, duration.toSeconds());
+        long started = System.nanoTime();
+        long[] latencies = loadTest.run(concurrency, duration);
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        Arrays.sort(latencies);
+        System.out.printf("%s: %d requests, %d errors, %.1f requests/s, latency p50 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+                label, latencies.length, loadTest.errors.get(), latencies.length / elapsedSeconds,
+                millis(percentile(latencies, 0.50)), millis(percentile(latencies, 0.99)),
+                millis(latencies.length == 0 ? 0 : latencies[latencies.length - 1]));
+    }
+
+    /**
+     * Sends requests from the given number of clients until the duration elapses.
+     *
+     * @return the latency of every request in nanoseconds, failed ones included
+     */
+    private long[] run(int concurrency, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<LatencyRecorder> recorders = new ArrayList<>(concurrency);
+
+        // the clients must not be limited by the load generator's own threads
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                LatencyRecorder recorder = new LatencyRecorder();
+                recorders.add(recorder);
+                int offset = i;
+                clients.execute(() -> sendUntil(deadline, offset, recorder));
+            }
+        }
+
+        return recorders.stream()
+                .flatMapToLong(recorder -> Arrays.stream(recorder.latencies, 0, recorder.size))
+                .toArray();
+    }
+
+    private void sendUntil(long deadline, int offset, LatencyRecorder recorder) {
+        for (int i = offset; System.nanoTime() < deadline; i++) {
+            HttpRequest request = HttpRequest.newBuilder(uris.get(i % uris.size()))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build();
+
+            long started = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() >= 400) {
+                    errors.incrementAndGet();
+                }
+            } catch (IOException e) {
+                errors.incrementAndGet();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            recorder.record(System.nanoTime() - started);
+        }
+    }
+
+    private static long percentile(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static final class LatencyRecorder {
+
+        private long[] latencies = new long[1024];
+        private int size;
+
+        void record(long latency) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latency;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package hu.bhr.crm.benchmark;
+
+import hu.bhr.crm.controller.dto.CustomerRequest;
+import hu.bhr.crm.controller.dto.TaskRequest;
+import hu.bhr.crm.validation.annotation.AtLeastOneFieldRequired;
+import hu.bhr.crm.validation.annotation.ValidEnum;
+import hu.bhr.crm.validation.validator.AtLeastOneFieldRequiredValidator;
+import hu.bhr.crm.validation.validator.EmailValidator;
+import hu.bhr.crm.validation.validator.EnumValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the custom constraint validators run on every customer and task request.
+ * <p>
+ * The validators are initialized from the annotations declared on the real request DTOs.
+ * Only passing inputs are benchmarked for {@link AtLeastOneFieldRequiredValidator}, since a failing
+ * input needs a Hibernate Validator context to report the violation.
+ * {@link #emailLegacyRegex} keeps the regular expression the {@link EmailValidator} used to run on every
+ * call as a baseline for the hand-written matcher.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidatorBenchmark {
+
+    private static final String LEGACY_EMAIL_REGEX =
+            "^(?=.{1,64}@)[A-Za-z0-9_-]+(\\.[A-Za-z0-9_-]+)*@[^-][A-Za-z0-9-]+(\\.[A-Za-z0-9-]+)*(\\.[A-Za-z]{2,})$";
+
+    @State(Scope.Benchmark)
+    public static class EmailInput {
+
+        @Param({
+                "harry.potter@hogwarts.co.uk",
+                "not-an-email",
+                "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa@example.com"
+        })
+        String email;
+    }
+
+    @State(Scope.Benchmark)
+    public static class StatusInput {
+
+        @Param({"IN_PROGRESS", " in-progress ", "unknown"})
+        String status;
+    }
+
+    private EmailValidator emailValidator;
+    private EnumValidator enumValidator;
+    private AtLeastOneFieldRequiredValidator atLeastOneFieldRequiredValidator;
+
+    private CustomerRequest customerWithFirstName;
+    private CustomerRequest customerWithNicknameOnly;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchFieldException {
+        emailValidator = new EmailValidator();
+
+        enumValidator = new EnumValidator();
+        enumValidator.initialize(TaskRequest.class.getDeclaredField("status").getAnnotation(ValidEnum.class));
+
+        atLeastOneFieldRequiredValidator = new AtLeastOneFieldRequiredValidator();
+        atLeastOneFieldRequiredValidator.initialize(CustomerRequest.class.getAnnotation(AtLeastOneFieldRequired.class));
+
+        customerWithFirstName = CustomerRequest.builder()
+                .firstName("Harry")
+                .relationship("friend")
+                .build();
+        customerWithNicknameOnly = CustomerRequest.builder()
+                .nickname("The Boy Who Lived")
+                .relationship("friend")
+                .build();
+    }
+
+    @Benchmark
+    public boolean emailValidator(EmailInput input) {
+        return emailValidator.isValid(input.email, null);
+    }
+
+    @Benchmark
+    public boolean emailLegacyRegex(EmailInput input) {
+        return input.email.matches(LEGACY_EMAIL_REGEX);
+    }
+
+    @Benchmark
+    public boolean enumValidator(StatusInput input) {
+        return enumValidator.isValid(input.status, null);
+    }
+
+    @Benchmark
+    public boolean atLeastOneFieldRequiredFirstField() {
+        return atLeastOneFieldRequiredValidator.isValid(customerWithFirstName, null);
+    }
+
+    @Benchmark
+    public boolean atLeastOneFieldRequiredLastField() {
+        return atLeastOneFieldRequiredValidator.isValid(customerWithNicknameOnly, null);
+    }
+}
@@ -4,6 +4,7 @@ val postgresVersion: String by project
 val mapstructVersion: String by project
 val lombokVersion: String by project
 val springDocVersion: String by project
+val greenMailVersion: String by project
 
 plugins {
     id("java")
@@ -39,9 +40,18 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-mail")
     implementation("org.springframework.boot:spring-boot-starter-quartz")
+    implementation("org.springframework.boot:spring-boot-starter-cache")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-aop")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+    implementation("com.github.ben-manes.caffeine:caffeine")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:$springDocVersion")
 
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testImplementation("org.springframework.boot:spring-boot-testcontainers")
+    testImplementation("org.testcontainers:junit-jupiter")
+    testImplementation("org.testcontainers:postgresql")
+    testImplementation("com.icegreen:greenmail-junit5:$greenMailVersion")
 
     // Lombok
     compileOnly("org.projectlombok:lombok:$lombokVersion")
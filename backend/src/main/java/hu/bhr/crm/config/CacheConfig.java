@@ -0,0 +1,23 @@
+package hu.bhr.crm.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the in-process cache for frequently read customer data.
+ * <p>
+ * The caches are provided by Caffeine. Their size and time-based eviction is set through
+ * {@code spring.cache.caffeine.spec}, and their hit/miss statistics are published as the
+ * {@code cache.gets} metric.
+ * </p>
+ * <p>
+ * The caches are evicted on the replica making the change only, so the {@code clustered} profile turns them off.
+ * </p>
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String CUSTOMERS = "customers";
+    public static final String CUSTOMER_EXISTS = "customerExists";
+}
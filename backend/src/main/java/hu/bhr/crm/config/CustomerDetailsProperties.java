@@ -0,0 +1,15 @@
+package hu.bhr.crm.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "crm.customer-details")
+@Getter
+@Setter
+public class CustomerDetailsProperties {
+    private int bulkChunkSize = 1000;
+    private int maxBulkSize = 10_000;
+}
@@ -0,0 +1,15 @@
+package hu.bhr.crm.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "crm.customer-import")
+@Getter
+@Setter
+public class CustomerImportProperties {
+    private int chunkSize = 500;
+    private int maxRows = 10_000;
+}
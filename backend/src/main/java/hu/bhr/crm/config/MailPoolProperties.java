@@ -0,0 +1,19 @@
+package hu.bhr.crm.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "crm.mail.pool")
+@Getter
+@Setter
+public class MailPoolProperties {
+    private boolean enabled = true;
+    private int maxSize = 4;
+    private Duration maxIdleTime = Duration.ofSeconds(60);
+    private Duration validationInterval = Duration.ofSeconds(5);
+}
@@ -0,0 +1,48 @@
+package hu.bhr.crm.config;
+
+import hu.bhr.crm.mail.PooledJavaMailSender;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Properties;
+
+/**
+ * Replaces the auto-configured mail sender with a {@link PooledJavaMailSender}.
+ * <p>
+ * The sender is configured from the standard {@code spring.mail} properties, exactly like the
+ * auto-configured one, and pooled according to {@code crm.mail.pool}. Setting
+ * {@code crm.mail.pool.enabled} to false restores the auto-configured, non-pooled sender.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "crm.mail.pool", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(org.springframework.boot.autoconfigure.mail.MailProperties.class)
+public class MailSenderConfig {
+
+    @Bean
+    public PooledJavaMailSender javaMailSender(org.springframework.boot.autoconfigure.mail.MailProperties mailProperties,
+                                               MailPoolProperties poolProperties) {
+        PooledJavaMailSender sender = new PooledJavaMailSender(
+                poolProperties.getMaxSize(), poolProperties.getMaxIdleTime(), poolProperties.getValidationInterval());
+
+        sender.setHost(mailProperties.getHost());
+        if (mailProperties.getPort() != null) {
+            sender.setPort(mailProperties.getPort());
+        }
+        sender.setUsername(mailProperties.getUsername());
+        sender.setPassword(mailProperties.getPassword());
+        sender.setProtocol(mailProperties.getProtocol());
+        if (mailProperties.getDefaultEncoding() != null) {
+            sender.setDefaultEncoding(mailProperties.getDefaultEncoding().name());
+        }
+        if (!mailProperties.getProperties().isEmpty()) {
+            Properties javaMailProperties = new Properties();
+            javaMailProperties.putAll(mailProperties.getProperties());
+            sender.setJavaMailProperties(javaMailProperties);
+        }
+
+        return sender;
+    }
+}
@@ -0,0 +1,34 @@
+package hu.bhr.crm.config;
+
+import hu.bhr.crm.repository.mongo.document.CustomerDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Creates the indexes declared on the MongoDB documents at startup.
+ * <p>
+ * Automatic index creation of Spring Data is disabled by default, so the indexes are resolved from
+ * the annotations of the documents and ensured explicitly. Ensuring an existing index is a no-op.
+ * </p>
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MongoIndexConfig {
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mongoMappingContext;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        MongoPersistentEntityIndexResolver indexResolver = new MongoPersistentEntityIndexResolver(mongoMappingContext);
+        IndexOperations indexOperations = mongoTemplate.indexOps(CustomerDocument.class);
+
+        indexResolver.resolveIndexFor(CustomerDocument.class).forEach(indexOperations::ensureIndex);
+    }
+}
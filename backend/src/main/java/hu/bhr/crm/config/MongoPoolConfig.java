@@ -0,0 +1,26 @@
+package hu.bhr.crm.config;
+
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sizes the connection pool of the MongoDB client according to {@code crm.mongo.pool}.
+ * <p>
+ * Spring Boot has no properties for the pool when the connection is configured with host and port,
+ * so the settings are applied to the auto-configured client. The defaults are those of the driver.
+ * </p>
+ */
+@Configuration
+public class MongoPoolConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoPoolCustomizer(MongoPoolProperties poolProperties) {
+        return settings -> settings.applyToConnectionPoolSettings(pool -> pool
+                .maxSize(poolProperties.getMaxSize())
+                .minSize(poolProperties.getMinSize())
+                .maxWaitTime(poolProperties.getMaxWaitTime().toMillis(), TimeUnit.MILLISECONDS));
+    }
+}
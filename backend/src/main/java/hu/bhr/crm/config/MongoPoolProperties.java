@@ -0,0 +1,18 @@
+package hu.bhr.crm.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "crm.mongo.pool")
+@Getter
+@Setter
+public class MongoPoolProperties {
+    private int maxSize = 100;
+    private int minSize = 0;
+    private Duration maxWaitTime = Duration.ofMinutes(2);
+}
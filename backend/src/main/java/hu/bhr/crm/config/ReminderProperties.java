@@ -0,0 +1,76 @@
+package hu.bhr.crm.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "crm.reminder")
+@Getter
+@Setter
+public class ReminderProperties {
+    private Engine engine = Engine.QUARTZ;
+    private Polling polling = new Polling();
+    private DispatchMode dispatchMode = DispatchMode.IMMEDIATE;
+    private Duration batchWindow = Duration.ofMillis(500);
+    private int maxBatchSize = 200;
+    private Digest digest = new Digest();
+    private Outbox outbox = new Outbox();
+    private Snapshot snapshot = new Snapshot();
+    private Monitoring monitoring = new Monitoring();
+
+    public enum Engine {
+        QUARTZ,
+        POLLING
+    }
+
+    public enum DispatchMode {
+        IMMEDIATE,
+        BATCHED,
+        DIGEST,
+        OUTBOX
+    }
+
+    @Getter
+    @Setter
+    public static class Polling {
+        private Duration pollInterval = Duration.ofSeconds(1);
+        private int batchSize = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class Digest {
+        private Duration window = Duration.ofSeconds(30);
+        private int maxReminders = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class Outbox {
+        private int senderThreads = 4;
+        private Duration pollInterval = Duration.ofSeconds(1);
+        private int maxAttempts = 8;
+        private Duration initialBackoff = Duration.ofSeconds(30);
+        private Duration maxBackoff = Duration.ofHours(1);
+        private Duration lease = Duration.ofMinutes(5);
+        private Duration retention = Duration.ofDays(7);
+        private Duration purgeInterval = Duration.ofHours(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Snapshot {
+        private boolean enabled = false;
+    }
+
+    @Getter
+    @Setter
+    public static class Monitoring {
+        private Duration overdueRefreshInterval = Duration.ofSeconds(30);
+        private Duration misfireThreshold = Duration.ofMinutes(1);
+    }
+}
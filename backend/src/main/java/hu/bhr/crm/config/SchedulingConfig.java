@@ -0,0 +1,13 @@
+package hu.bhr.crm.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@link org.springframework.scheduling.annotation.Scheduled} methods, used for the
+ * in-process pollers of the reminder subsystem.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,35 @@
+package hu.bhr.crm.config;
+
+import hu.bhr.crm.validation.annotation.AtLeastOneFieldRequired;
+import hu.bhr.crm.validation.validator.AtLeastOneFieldRequiredValidator;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Verifies the declarations of class-level custom constraints at startup.
+ * <p>
+ * Every type annotated with {@link AtLeastOneFieldRequired} is resolved once here, so a misspelled
+ * field name stops the application from starting instead of surfacing on the first request.
+ * </p>
+ */
+@Configuration
+public class ValidationConfig {
+
+    private static final String BASE_PACKAGE = "hu.bhr.crm";
+
+    @PostConstruct
+    void verifyAtLeastOneFieldRequiredDeclarations() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(AtLeastOneFieldRequired.class));
+
+        for (BeanDefinition candidate : scanner.findCandidateComponents(BASE_PACKAGE)) {
+            Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), getClass().getClassLoader());
+            AtLeastOneFieldRequired annotation = type.getAnnotation(AtLeastOneFieldRequired.class);
+            AtLeastOneFieldRequiredValidator.resolveGetters(type, annotation.fields());
+        }
+    }
+}
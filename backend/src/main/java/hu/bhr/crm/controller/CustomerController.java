@@ -1,14 +1,28 @@
 package hu.bhr.crm.controller;
 
 import hu.bhr.crm.controller.api.CustomerControllerApi;
+import hu.bhr.crm.controller.dto.CursorPageResponse;
+import hu.bhr.crm.controller.dto.CustomerImportResponse;
+import hu.bhr.crm.controller.dto.CustomerOverviewResponse;
 import hu.bhr.crm.controller.dto.CustomerRequest;
 import hu.bhr.crm.controller.dto.CustomerResponse;
 import hu.bhr.crm.controller.dto.PlatformResponse;
 import hu.bhr.crm.mapper.CustomerFactory;
+import hu.bhr.crm.mapper.CustomerImportMapper;
 import hu.bhr.crm.mapper.CustomerMapper;
+import hu.bhr.crm.mapper.CustomerOverviewMapper;
+import hu.bhr.crm.mapper.PageCursorCodec;
+import hu.bhr.crm.model.CursorPage;
 import hu.bhr.crm.model.Customer;
+import hu.bhr.crm.model.CustomerFilter;
+import hu.bhr.crm.model.CustomerImportRow;
+import hu.bhr.crm.model.CustomerImportRowResult;
+import hu.bhr.crm.model.CustomerOverview;
+import hu.bhr.crm.model.PageCursor;
 import hu.bhr.crm.service.CustomerServiceFacade;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -20,11 +34,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.http.MediaType;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -43,6 +60,9 @@ public class CustomerController implements CustomerControllerApi {
 
     private final CustomerServiceFacade customerServiceFacade;
     private final CustomerMapper customerMapper;
+    private final CustomerImportMapper customerImportMapper;
+    private final CustomerOverviewMapper customerOverviewMapper;
+    private final Validator validator;
 
     /**
      * Retrieves a specific customer by their unique identifier.
@@ -63,6 +83,29 @@ public class CustomerController implements CustomerControllerApi {
         return new PlatformResponse<>(customerResponse);
     }
 
+    /**
+     * Retrieves a customer together with its residence, notes and tasks in one response.
+     * <p>
+     * Replaces the separate calls for the customer, its notes and its tasks; the data is loaded concurrently.
+     * </p>
+     *
+     * @param id the unique UUID of the customer
+     * @return a {@link PlatformResponse} containing the {@link CustomerOverviewResponse} (HTTP 200 OK)
+     * @throws hu.bhr.crm.exception.CustomerNotFoundException if the customer does not exist (HTTP 404 Not Found)
+     */
+    @Override
+    @GetMapping("/{id}/overview")
+    @ResponseStatus(HttpStatus.OK)
+    public PlatformResponse<CustomerOverviewResponse> getCustomerOverview(@PathVariable UUID id) {
+        log.info("Fetching overview of customer with id: {}", id);
+        CustomerOverview customerOverview = customerServiceFacade.getCustomerOverview(id);
+        CustomerOverviewResponse customerOverviewResponse =
+                customerOverviewMapper.customerOverviewToCustomerOverviewResponse(customerOverview);
+        log.info("Overview of customer with id {} retrieved successfully", id);
+
+        return new PlatformResponse<>(customerOverviewResponse);
+    }
+
     /**
      * Retrieves a list of all registered customers.
      *
@@ -83,6 +126,48 @@ public class CustomerController implements CustomerControllerApi {
         return new PlatformResponse<>(customerResponses);
     }
 
+    /**
+     * Retrieves one page of customers, ordered by creation time, optionally filtered.
+     * <p>
+     * Pagination is cursor-based: the {@code nextCursor} of a response has to be passed
+     * as {@code cursor} to fetch the following page. If the page size is out of range
+     * or the cursor is malformed, returns HTTP 400 Bad Request.
+     * </p>
+     *
+     * @param cursor       the opaque cursor of the requested page (omitted for the first page)
+     * @param limit        the maximum number of customers on the page
+     * @param relationship the relationship to filter on (case-insensitive, optional)
+     * @param city         the residence city to filter on (case-insensitive, optional)
+     * @param namePrefix   the prefix of the first name, last name or nickname (case-insensitive, optional)
+     * @return a {@link PlatformResponse} containing a {@link CursorPageResponse} of {@link CustomerResponse} DTOs (HTTP 200 OK)
+     */
+    @Override
+    @GetMapping("/page")
+    @ResponseStatus(HttpStatus.OK)
+    public PlatformResponse<CursorPageResponse<CustomerResponse>> getCustomerPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String relationship,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String namePrefix) {
+
+        log.info("Fetching customer page with limit: {}", limit);
+        PageCursor after = PageCursorCodec.decode(cursor);
+        CustomerFilter filter = CustomerFilter.builder()
+                .relationship(relationship)
+                .city(city)
+                .namePrefix(namePrefix)
+                .build();
+
+        CursorPage<Customer> page = customerServiceFacade.getCustomerPage(filter, after, limit);
+        List<CustomerResponse> customerResponses = page.items().stream()
+                .map(customerMapper::customerToCustomerResponse)
+                .toList();
+        log.info("Customer page with {} customers retrieved successfully", customerResponses.size());
+
+        return new PlatformResponse<>(new CursorPageResponse<>(customerResponses, PageCursorCodec.encode(page.nextCursor())));
+    }
+
     /**
      * Creates and registers a new customer in the system.
      * <p>
@@ -105,6 +190,37 @@ public class CustomerController implements CustomerControllerApi {
         return new PlatformResponse<>(customerResponse);
     }
 
+    /**
+     * Imports customers in bulk and reports the outcome of each one.
+     * <p>
+     * Every customer is validated on its own: an invalid customer, or one whose email or phone number
+     * is already in use, is reported as failed without aborting the rest of the import.
+     * If the number of customers is out of the allowed range, returns HTTP 400 Bad Request
+     * before any customer is validated.
+     * </p>
+     *
+     * @param customerRequests the DTOs containing the details of the customers to import
+     * @return a {@link PlatformResponse} containing the {@link CustomerImportResponse} report (HTTP 200 OK)
+     */
+    @Override
+    @PostMapping("/import")
+    @ResponseStatus(HttpStatus.OK)
+    public PlatformResponse<CustomerImportResponse> importCustomers(@RequestBody List<CustomerRequest> customerRequests) {
+        log.info("Importing {} customers", customerRequests.size());
+        customerServiceFacade.checkImportRowCount(customerRequests.size());
+
+        List<CustomerImportRow> rows = new ArrayList<>(customerRequests.size());
+        for (int i = 0; i < customerRequests.size(); i++) {
+            rows.add(toImportRow(i, customerRequests.get(i)));
+        }
+
+        List<CustomerImportRowResult> rowResults = customerServiceFacade.importCustomers(rows);
+        CustomerImportResponse importResponse = customerImportMapper.rowResultsToImportResponse(rowResults);
+        log.info("Customer import finished: {} imported, {} failed", importResponse.imported(), importResponse.failed());
+
+        return new PlatformResponse<>(importResponse);
+    }
+
     /**
      * Permanently deletes a customer by their unique identifier.
      * <p>
@@ -151,5 +267,20 @@ public class CustomerController implements CustomerControllerApi {
 
         return new PlatformResponse<>(customerResponse);
     }
-}
 
+    private CustomerImportRow toImportRow(int index, CustomerRequest customerRequest) {
+        if (customerRequest == null) {
+            return CustomerImportRow.invalid(index, List.of("Customer is required"));
+        }
+
+        Set<ConstraintViolation<CustomerRequest>> violations = validator.validate(customerRequest);
+        if (!violations.isEmpty()) {
+            return CustomerImportRow.invalid(index, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .toList());
+        }
+
+        return CustomerImportRow.valid(index, CustomerFactory.createCustomer(customerRequest));
+    }
+}
@@ -1,12 +1,20 @@
 package hu.bhr.crm.controller;
 
 import hu.bhr.crm.controller.api.CustomerDetailsControllerApi;
+import hu.bhr.crm.controller.dto.CursorPageResponse;
+import hu.bhr.crm.controller.dto.CustomerDetailsBulkRequest;
+import hu.bhr.crm.controller.dto.CustomerDetailsIdsRequest;
 import hu.bhr.crm.controller.dto.CustomerDetailsRequest;
 import hu.bhr.crm.controller.dto.CustomerDetailsResponse;
 import hu.bhr.crm.controller.dto.PlatformResponse;
+import hu.bhr.crm.controller.dto.SearchPageResponse;
 import hu.bhr.crm.mapper.CustomerDetailsFactory;
 import hu.bhr.crm.mapper.CustomerDetailsMapper;
+import hu.bhr.crm.mapper.PageCursorCodec;
+import hu.bhr.crm.model.CursorPage;
 import hu.bhr.crm.model.CustomerDetails;
+import hu.bhr.crm.model.PageCursor;
+import hu.bhr.crm.model.SearchPage;
 import hu.bhr.crm.service.CustomerDetailsService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +27,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.http.MediaType;
@@ -84,6 +93,76 @@ public class CustomerDetailsController implements CustomerDetailsControllerApi {
         return new PlatformResponse<>(customerDetailsResponses);
     }
 
+    /**
+     * Retrieves one page of the detail documents of a specific customer, ordered by creation time.
+     * <p>
+     * Pagination is cursor-based: the {@code nextCursor} of a response has to be passed
+     * as {@code cursor} to fetch the following page. If the page size is out of range
+     * or the cursor is malformed, returns HTTP 400 Bad Request.
+     * </p>
+     *
+     * @param customerId the unique UUID of the customer (parent entity)
+     * @param cursor     the opaque cursor of the requested page (omitted for the first page)
+     * @param limit      the maximum number of documents on the page
+     * @param preview    whether only the beginning of each note is returned
+     * @return a {@link PlatformResponse} containing a {@link CursorPageResponse} of details (HTTP 200 OK)
+     * @throws hu.bhr.crm.exception.CustomerNotFoundException if the customerId does not exist (HTTP 404 Not Found)
+     */
+    @Override
+    @GetMapping("/{customerId}/details/page")
+    @ResponseStatus(HttpStatus.OK)
+    public PlatformResponse<CursorPageResponse<CustomerDetailsResponse>> getCustomerDetailsPage(
+            @PathVariable UUID customerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(defaultValue = "false") boolean preview) {
+
+        log.info("Fetching customer details page for customer with id: {}, limit: {}", customerId, limit);
+        PageCursor after = PageCursorCodec.decode(cursor);
+        CursorPage<CustomerDetails> page = service.getCustomerDetailsPage(customerId, after, limit, preview);
+        List<CustomerDetailsResponse> customerDetailsResponses = page.items().stream()
+                .map(mapper::customerDetailsToCustomerDetailsResponse)
+                .toList();
+        log.info("Customer details page with {} documents retrieved successfully for customer with id {}",
+                customerDetailsResponses.size(), customerId);
+
+        return new PlatformResponse<>(
+                new CursorPageResponse<>(customerDetailsResponses, PageCursorCodec.encode(page.nextCursor())));
+    }
+
+    /**
+     * Searches the notes of all customers, or of a single customer, ranked by relevance.
+     * <p>
+     * If the text is blank or the page is out of range, returns HTTP 400 Bad Request.
+     * </p>
+     *
+     * @param text       the words or quoted phrases to search for
+     * @param customerId the unique UUID of the customer whose notes are searched (optional)
+     * @param page       the zero-based number of the page
+     * @param size       the maximum number of results on the page
+     * @return a {@link PlatformResponse} containing a {@link SearchPageResponse} of details (HTTP 200 OK)
+     * @throws hu.bhr.crm.exception.CustomerNotFoundException if the customerId does not exist (HTTP 404 Not Found)
+     */
+    @Override
+    @GetMapping("/details/search")
+    @ResponseStatus(HttpStatus.OK)
+    public PlatformResponse<SearchPageResponse<CustomerDetailsResponse>> searchCustomerDetails(
+            @RequestParam String text,
+            @RequestParam(required = false) UUID customerId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("Searching customer details on page {} with size {}", page, size);
+        SearchPage<CustomerDetails> searchPage = service.searchCustomerDetails(text, customerId, page, size);
+        List<CustomerDetailsResponse> customerDetailsResponses = searchPage.items().stream()
+                .map(mapper::customerDetailsToCustomerDetailsResponse)
+                .toList();
+        log.info("Customer details search returned {} documents", customerDetailsResponses.size());
+
+        return new PlatformResponse<>(
+                new SearchPageResponse<>(customerDetailsResponses, searchPage.page(), searchPage.hasNext()));
+    }
+
     /**
      * Creates a new detail document for a specific customer.
      * <p>
@@ -111,6 +190,38 @@ public class CustomerDetailsController implements CustomerDetailsControllerApi {
         return new PlatformResponse<>(customerDetailsResponse);
     }
 
+    /**
+     * Creates many detail documents for a specific customer at once.
+     * <p>
+     * Validates the request body and ensures the customer exists, once for all notes.
+     * If validation fails, returns HTTP 400 Bad Request.
+     * </p>
+     *
+     * @param customerId the UUID of the customer to attach the details to
+     * @param request    the DTO containing the notes
+     * @return a {@link PlatformResponse} with the created documents (HTTP 201 Created)
+     * @throws hu.bhr.crm.exception.CustomerNotFoundException if the customer does not exist (HTTP 404 Not Found)
+     */
+    @Override
+    @PostMapping("/{customerId}/details/bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    public PlatformResponse<List<CustomerDetailsResponse>> registerAllCustomerDetails(
+            @PathVariable UUID customerId,
+            @RequestBody @Valid CustomerDetailsBulkRequest request
+    ) {
+        log.info("Saving {} customer details for customer with id {}", request.notes().size(), customerId);
+        List<CustomerDetails> customerDetailsList = request.notes().stream()
+                .map(note -> CustomerDetailsFactory.createCustomerDetails(customerId, note))
+                .toList();
+        List<CustomerDetailsResponse> customerDetailsResponses = service.saveAllCustomerDetails(customerId, customerDetailsList)
+                .stream()
+                .map(mapper::customerDetailsToCustomerDetailsResponse)
+                .toList();
+        log.info("{} customer details saved successfully for customer with id {}", customerDetailsResponses.size(), customerId);
+
+        return new PlatformResponse<>(customerDetailsResponses);
+    }
+
     /**
      * Permanently deletes a specific detail document.
      * <p>
@@ -130,6 +241,23 @@ public class CustomerDetailsController implements CustomerDetailsControllerApi {
         log.info("Customer details with id {} deleted successfully", id);
     }
 
+    /**
+     * Permanently deletes many detail documents at once.
+     * <p>
+     * Documents that do not exist are ignored. If the operation is successful, no content is returned.
+     * </p>
+     *
+     * @param idsRequest the DTO containing the UUIDs of the detail documents to delete
+     */
+    @Override
+    @PostMapping("/details/bulk-delete")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteAllCustomerDetails(@RequestBody @Valid CustomerDetailsIdsRequest idsRequest) {
+        log.info("Deleting {} customer details", idsRequest.ids().size());
+        service.deleteAllCustomerDetailsByIds(idsRequest.ids());
+        log.info("{} customer details deleted successfully", idsRequest.ids().size());
+    }
+
     /**
      * Updates an existing detail document.
      * <p>
@@ -0,0 +1,53 @@
+package hu.bhr.crm.controller;
+
+import hu.bhr.crm.controller.api.ReminderAdminControllerApi;
+import hu.bhr.crm.controller.dto.OverdueReminderResponse;
+import hu.bhr.crm.controller.dto.PlatformResponse;
+import hu.bhr.crm.mapper.OverdueReminderMapper;
+import hu.bhr.crm.service.ReminderMonitoringService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST Controller for monitoring the delivery of reminders.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(value = "/api/v1/admin/reminders", produces = MediaType.APPLICATION_JSON_VALUE)
+public class ReminderAdminController implements ReminderAdminControllerApi {
+
+    private final ReminderMonitoringService reminderMonitoringService;
+    private final OverdueReminderMapper overdueReminderMapper;
+
+    /**
+     * Retrieves the reminders whose time has passed but have not fired yet.
+     *
+     * @param limit the maximum number of reminders to return
+     * @return a {@link PlatformResponse} containing a {@link List} of {@link OverdueReminderResponse} DTOs (HTTP 200 OK)
+     * @throws hu.bhr.crm.exception.InvalidRequestException if the limit is out of range (HTTP 400 Bad Request)
+     */
+    @Override
+    @GetMapping("/overdue")
+    @ResponseStatus(HttpStatus.OK)
+    public PlatformResponse<List<OverdueReminderResponse>> getOverdueReminders(
+            @RequestParam(defaultValue = "100") int limit) {
+
+        log.info("Fetching overdue reminders with limit: {}", limit);
+        List<OverdueReminderResponse> overdueReminderResponses = reminderMonitoringService.getOverdueReminders(limit).stream()
+                .map(overdueReminderMapper::overdueReminderToOverdueReminderResponse)
+                .toList();
+        log.info("{} overdue reminders retrieved", overdueReminderResponses.size());
+
+        return new PlatformResponse<>(overdueReminderResponses);
+    }
+}
@@ -1,7 +1,13 @@
 package hu.bhr.crm.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import hu.bhr.crm.controller.api.TaskControllerApi;
 import hu.bhr.crm.controller.dto.PlatformResponse;
+import hu.bhr.crm.controller.dto.TaskIdsRequest;
+import hu.bhr.crm.controller.dto.TaskRemindersRequest;
 import hu.bhr.crm.controller.dto.TaskRequest;
 import hu.bhr.crm.controller.dto.TaskResponse;
 import hu.bhr.crm.mapper.TaskFactory;
@@ -23,7 +29,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -43,6 +52,7 @@ public class TaskController implements TaskControllerApi {
 
     private final TaskService taskService;
     private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
 
     /**
      * Retrieves a specific task by their unique identifier.
@@ -82,6 +92,33 @@ public class TaskController implements TaskControllerApi {
         return new PlatformResponse<>(taskResponses);
     }
 
+    /**
+     * Exports all tasks as newline-delimited JSON (NDJSON).
+     * <p>
+     * Each task is written to the response as a single-line {@link TaskResponse} as soon as it is read
+     * from the database, so the full list is never held in memory.
+     * </p>
+     *
+     * @return a {@link StreamingResponseBody} writing one task per line (HTTP 200 OK)
+     */
+    @Override
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    public StreamingResponseBody exportAllTasks() {
+        log.info("Exporting all tasks");
+        // the lines are separated by writeLine only, not by Jackson's default root value separator
+        ObjectWriter taskWriter = objectMapper.writerFor(TaskResponse.class)
+                .withRootValueSeparator((String) null)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        return outputStream -> {
+            try (JsonGenerator generator = taskWriter.createGenerator(outputStream)) {
+                taskService.exportAllTasks(task -> writeLine(taskWriter, generator, taskMapper.taskToTaskResponse(task)));
+            }
+            log.info("Exported all tasks");
+        };
+    }
+
     /**
      * Retrieves all tasks associated with a specific customer.
      *
@@ -149,6 +186,42 @@ public class TaskController implements TaskControllerApi {
         log.info("Task with id {} deleted successfully", id);
     }
 
+    /**
+     * Deletes many tasks at once, together with their scheduled email reminders.
+     * <p>
+     * Either all tasks are deleted, or none of them if any does not exist.
+     * </p>
+     *
+     * @param taskIdsRequest the DTO containing the UUIDs of the tasks to delete
+     * @throws hu.bhr.crm.exception.TaskNotFoundException if any of the tasks does not exist (HTTP 404 Not Found)
+     */
+    @Override
+    @PostMapping("/bulk-delete")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteTasks(@RequestBody @Valid TaskIdsRequest taskIdsRequest) {
+        log.info("Deleting {} tasks", taskIdsRequest.ids().size());
+        taskService.deleteTasks(taskIdsRequest.ids());
+        log.info("{} tasks deleted successfully", taskIdsRequest.ids().size());
+    }
+
+    /**
+     * Sets the reminder dates of many tasks at once and updates their email schedules accordingly.
+     * <p>
+     * Either all reminders are updated, or none of them if any task does not exist.
+     * </p>
+     *
+     * @param remindersRequest the DTO containing the new reminder date of each task
+     * @throws hu.bhr.crm.exception.TaskNotFoundException if any of the tasks does not exist (HTTP 404 Not Found)
+     */
+    @Override
+    @PutMapping("/reminders")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void updateReminders(@RequestBody @Valid TaskRemindersRequest remindersRequest) {
+        log.info("Updating the reminders of {} tasks", remindersRequest.reminders().size());
+        taskService.updateReminders(TaskFactory.createRemindersByTaskId(remindersRequest));
+        log.info("Reminders of {} tasks updated successfully", remindersRequest.reminders().size());
+    }
+
     /**
      * Updates an existing task's details.
      * <p>
@@ -177,4 +250,12 @@ public class TaskController implements TaskControllerApi {
         return new PlatformResponse<>(taskResponse);
     }
 
+    private static void writeLine(ObjectWriter taskWriter, JsonGenerator generator, TaskResponse taskResponse) {
+        try {
+            taskWriter.writeValue(generator, taskResponse);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -3,6 +3,9 @@ package hu.bhr.crm.controller.api;
 import hu.bhr.crm.controller.api.annotation.BadRequestResponse;
 import hu.bhr.crm.controller.api.annotation.InternalErrorResponse;
 import hu.bhr.crm.controller.api.annotation.NotFoundResponse;
+import hu.bhr.crm.controller.dto.CursorPageResponse;
+import hu.bhr.crm.controller.dto.CustomerImportResponse;
+import hu.bhr.crm.controller.dto.CustomerOverviewResponse;
 import hu.bhr.crm.controller.dto.CustomerRequest;
 import hu.bhr.crm.controller.dto.CustomerResponse;
 import hu.bhr.crm.controller.dto.PlatformResponse;
@@ -26,10 +29,51 @@ public interface CustomerControllerApi {
             UUID id
     );
 
+    @Operation(
+            summary = "Get customer overview",
+            description = """
+                Retrieves a customer together with its residence, notes and tasks in one response.
+                The data is loaded from the relational and the document store concurrently.
+                """
+    )
+    @ApiResponse(responseCode = "200", description = "Customer overview retrieved successfully")
+    @NotFoundResponse
+    PlatformResponse<CustomerOverviewResponse> getCustomerOverview(
+            @Parameter(description = "Unique identifier of the customer", example = "a1b2c3d4-e5f6-7890-1234-567890abcdef")
+            UUID id
+    );
+
     @Operation(summary = "List all customers", description = "Retrieves a list of all registered customers in the system.")
     @ApiResponse(responseCode = "200", description = "List of customers retrieved successfully")
     PlatformResponse<List<CustomerResponse>> getAllCustomers();
 
+    @Operation(
+            summary = "List customers page by page",
+            description = """
+                Retrieves customers ordered by creation time using cursor (keyset) pagination.
+                Pass the 'nextCursor' of a response as 'cursor' to fetch the following page.
+                All filters are optional and case-insensitive.
+                """
+    )
+    @ApiResponse(responseCode = "200", description = "Page of customers retrieved successfully")
+    @BadRequestResponse
+    PlatformResponse<CursorPageResponse<CustomerResponse>> getCustomerPage(
+            @Parameter(description = "Cursor of the requested page, omitted for the first page")
+            String cursor,
+
+            @Parameter(description = "Maximum number of customers on the page (1-200)", example = "50")
+            int limit,
+
+            @Parameter(description = "Relationship to filter on", example = "cousin")
+            String relationship,
+
+            @Parameter(description = "City of the residence to filter on", example = "Budapest")
+            String city,
+
+            @Parameter(description = "Prefix of the first name, last name or nickname", example = "Jo")
+            String namePrefix
+    );
+
     @Operation(summary = "Register a new customer", description = "Creates a new customer entry with the provided details.")
     @ApiResponse(responseCode = "201", description = "Customer created successfully")
     @BadRequestResponse
@@ -38,6 +82,21 @@ public interface CustomerControllerApi {
             CustomerRequest customerRequest
     );
 
+    @Operation(
+            summary = "Import customers in bulk",
+            description = """
+                Imports a list of customers and reports the outcome of each one.
+                Invalid customers and customers whose email or phone number is already in use are
+                reported as failed, without aborting the rest of the import.
+                """
+    )
+    @ApiResponse(responseCode = "200", description = "Import processed, see the report for the outcome of each customer")
+    @BadRequestResponse
+    PlatformResponse<CustomerImportResponse> importCustomers(
+            @Parameter(description = "Customer data payloads", required = true)
+            List<CustomerRequest> customerRequests
+    );
+
     @Operation(
             summary = "Delete a customer",
             description = """
@@ -2,9 +2,13 @@ package hu.bhr.crm.controller.api;
 
 import hu.bhr.crm.controller.api.annotation.BadRequestResponse;
 import hu.bhr.crm.controller.api.annotation.NotFoundResponse;
+import hu.bhr.crm.controller.dto.CursorPageResponse;
+import hu.bhr.crm.controller.dto.CustomerDetailsBulkRequest;
+import hu.bhr.crm.controller.dto.CustomerDetailsIdsRequest;
 import hu.bhr.crm.controller.dto.CustomerDetailsRequest;
 import hu.bhr.crm.controller.dto.CustomerDetailsResponse;
 import hu.bhr.crm.controller.dto.PlatformResponse;
+import hu.bhr.crm.controller.dto.SearchPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -31,6 +35,56 @@ public interface CustomerDetailsControllerApi {
             UUID customerId
     );
 
+    @Operation(
+            summary = "List the notes of a customer page by page",
+            description = """
+                Retrieves the documents of a specific customer ordered by creation time using cursor (keyset) pagination.
+                Pass the 'nextCursor' of a response as 'cursor' to fetch the following page.
+                With 'preview', only the beginning of each note is returned.
+                """
+    )
+    @ApiResponse(responseCode = "200", description = "Page of details retrieved successfully")
+    @NotFoundResponse
+    @BadRequestResponse
+    PlatformResponse<CursorPageResponse<CustomerDetailsResponse>> getCustomerDetailsPage(
+            @Parameter(description = "Unique identifier of the related customer", example = "2098a60f-8893-4818-8bfb-256c12c0beec")
+            UUID customerId,
+
+            @Parameter(description = "Cursor of the requested page, omitted for the first page")
+            String cursor,
+
+            @Parameter(description = "Maximum number of documents on the page (1-200)", example = "50")
+            int limit,
+
+            @Parameter(description = "Whether only the first 200 characters of each note are returned", example = "true")
+            boolean preview
+    );
+
+    @Operation(
+            summary = "Search notes",
+            description = """
+                Searches the notes of all customers, or of a single customer, using the full-text index.
+                Words are matched after stemming, phrases can be put in double quotes. Results are ranked by relevance.
+                """
+    )
+    @ApiResponse(responseCode = "200", description = "Page of matching details retrieved successfully")
+    @NotFoundResponse
+    @BadRequestResponse
+    PlatformResponse<SearchPageResponse<CustomerDetailsResponse>> searchCustomerDetails(
+            @Parameter(description = "Words or quoted phrases to search for", required = true, example = "wine")
+            String text,
+
+            @Parameter(description = "Unique identifier of the customer whose notes are searched, omitted to search all notes",
+                    example = "2098a60f-8893-4818-8bfb-256c12c0beec")
+            UUID customerId,
+
+            @Parameter(description = "Zero-based number of the page", example = "0")
+            int page,
+
+            @Parameter(description = "Maximum number of results on the page (1-200)", example = "20")
+            int size
+    );
+
     @Operation(summary = "Add note to customer", description = "Creates a new document for a specific customer.")
     @ApiResponse(responseCode = "201", description = "Note added successfully")
     @NotFoundResponse
@@ -43,6 +97,24 @@ public interface CustomerDetailsControllerApi {
             CustomerDetailsRequest customerDetailsRequest
     );
 
+    @Operation(
+            summary = "Add many notes to customer",
+            description = """
+                Creates many documents for a specific customer at once, for example when migrating notes.
+                The customer is validated once, and the notes are written with unordered bulk writes in chunks.
+                """
+    )
+    @ApiResponse(responseCode = "201", description = "Notes added successfully")
+    @NotFoundResponse
+    @BadRequestResponse
+    PlatformResponse<List<CustomerDetailsResponse>> registerAllCustomerDetails(
+            @Parameter(description = "Unique identifier of the related customer", example = "993f9fac-99c5-4f32-bb4c-625677e7233e")
+            UUID customerId,
+
+            @Parameter(description = "Notes to add", required = true)
+            CustomerDetailsBulkRequest customerDetailsBulkRequest
+    );
+
     @Operation(summary = "Delete a document", description = "Permanently removes a specific document/detail entry.")
     @ApiResponse(responseCode = "200", description = "Document deleted successfully")
     @NotFoundResponse
@@ -51,6 +123,20 @@ public interface CustomerDetailsControllerApi {
             UUID id
     );
 
+    @Operation(
+            summary = "Delete many documents",
+            description = """
+                Permanently removes the given documents with a single delete command.
+                Documents that do not exist are ignored.
+                """
+    )
+    @ApiResponse(responseCode = "204", description = "Documents deleted successfully")
+    @BadRequestResponse
+    void deleteAllCustomerDetails(
+            @Parameter(description = "UUIDs of the customer documents to delete", required = true)
+            CustomerDetailsIdsRequest customerDetailsIdsRequest
+    );
+
     @Operation(summary = "Update a note", description = "Modifies the content of an existing document.")
     @ApiResponse(responseCode = "200", description = "Document updated successfully")
     @NotFoundResponse
@@ -0,0 +1,32 @@
+package hu.bhr.crm.controller.api;
+
+import hu.bhr.crm.controller.api.annotation.BadRequestResponse;
+import hu.bhr.crm.controller.api.annotation.InternalErrorResponse;
+import hu.bhr.crm.controller.dto.OverdueReminderResponse;
+import hu.bhr.crm.controller.dto.PlatformResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import java.util.List;
+
+@InternalErrorResponse
+@Tag(name = "Reminder Administration", description = "Operations for monitoring the delivery of reminders")
+public interface ReminderAdminControllerApi {
+
+    @Operation(
+            summary = "List overdue reminders",
+            description = """
+                Retrieves the reminders whose time has passed but have not fired yet, most overdue first.
+                Reminders overdue by more than the misfire threshold are flagged as misfired.
+                With the quartz reminder engine, the state of each Quartz trigger is included as well.
+                """
+    )
+    @ApiResponse(responseCode = "200", description = "Overdue reminders retrieved successfully")
+    @BadRequestResponse
+    PlatformResponse<List<OverdueReminderResponse>> getOverdueReminders(
+            @Parameter(description = "Maximum number of reminders to return (1-500)", example = "100")
+            int limit
+    );
+}
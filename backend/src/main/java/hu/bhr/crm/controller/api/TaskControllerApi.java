@@ -4,12 +4,15 @@ import hu.bhr.crm.controller.api.annotation.BadRequestResponse;
 import hu.bhr.crm.controller.api.annotation.InternalErrorResponse;
 import hu.bhr.crm.controller.api.annotation.NotFoundResponse;
 import hu.bhr.crm.controller.dto.PlatformResponse;
+import hu.bhr.crm.controller.dto.TaskIdsRequest;
+import hu.bhr.crm.controller.dto.TaskRemindersRequest;
 import hu.bhr.crm.controller.dto.TaskRequest;
 import hu.bhr.crm.controller.dto.TaskResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -32,6 +35,12 @@ public interface TaskControllerApi {
     @ApiResponse(responseCode = "200", description = "List of tasks retrieved successfully")
     PlatformResponse<List<TaskResponse>> getAllTasks();
 
+    @Operation(
+            summary = "Export all tasks",
+            description = "Streams every task as newline-delimited JSON (one task object per line), without buffering the full list.")
+    @ApiResponse(responseCode = "200", description = "Tasks exported successfully")
+    StreamingResponseBody exportAllTasks();
+
     @Operation(
             summary = "List tasks by Customer",
             description = "Retrieves all tasks associated with a specific customer.")
@@ -86,4 +95,36 @@ public interface TaskControllerApi {
             @Parameter(description = "Updated task data payload", required = true)
             TaskRequest taskRequest
     );
+
+    @Operation(
+            summary = "Delete many tasks",
+            description = """
+                Permanently removes the given tasks in one transaction.
+                Side effect: The scheduled email reminders of the tasks are cancelled in one bulk scheduler operation.
+                If any of the tasks does not exist, nothing is deleted.
+                """
+    )
+    @ApiResponse(responseCode = "204", description = "Tasks deleted successfully")
+    @NotFoundResponse
+    @BadRequestResponse
+    void deleteTasks(
+            @Parameter(description = "UUIDs of the tasks to delete", required = true)
+            TaskIdsRequest taskIdsRequest
+    );
+
+    @Operation(
+            summary = "Update the reminders of many tasks",
+            description = """
+                Sets the reminder date of each given task in one transaction.
+                Side effect: Email schedules are created, moved or cancelled accordingly, with one bulk scheduler operation per kind of change.
+                If any of the tasks does not exist, nothing is updated.
+                """
+    )
+    @ApiResponse(responseCode = "204", description = "Reminders updated successfully")
+    @NotFoundResponse
+    @BadRequestResponse
+    void updateReminders(
+            @Parameter(description = "New reminder date of each task", required = true)
+            TaskRemindersRequest remindersRequest
+    );
 }
@@ -0,0 +1,16 @@
+package hu.bhr.crm.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "One page of a cursor-paginated listing")
+public record CursorPageResponse<T>(
+        @Schema(description = "Elements of the current page")
+        List<T> items,
+
+        @Schema(
+            description = "Opaque cursor of the next page, null if this is the last page",
+            example = "MjAyNS0wMi0xNVQwOTowMDowMFp8YTFiMmMzZDQtZTVmNi03ODkwLTEyMzQtNTY3ODkwYWJjZGVm")
+        String nextCursor
+) {}
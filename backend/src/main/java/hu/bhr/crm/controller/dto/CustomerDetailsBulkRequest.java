@@ -0,0 +1,20 @@
+package hu.bhr.crm.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "Payload for adding many notes to a customer at once")
+public record CustomerDetailsBulkRequest(
+        @NotEmpty(message = "At least one note is required")
+        @Schema(
+            description = "The notes to add, at most 10000 by default",
+            requiredMode = Schema.RequiredMode.REQUIRED
+        )
+        List<@Valid @NotNull(message = "Note is required") CustomerDetailsRequest> notes
+) {}
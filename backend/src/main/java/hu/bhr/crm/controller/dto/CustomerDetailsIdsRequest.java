@@ -0,0 +1,23 @@
+package hu.bhr.crm.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.Set;
+import java.util.UUID;
+
+@Builder
+@Schema(description = "Payload selecting the customer documents of a bulk operation")
+public record CustomerDetailsIdsRequest(
+    @NotEmpty(message = "At least one document ID is required")
+    @Size(max = 10_000, message = "At most 10000 documents can be processed at once")
+    @Schema(
+        description = "UUIDs of the customer documents",
+        example = "[\"c3d4e5f6-7890-1234-5678-90abcdef1234\"]",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    Set<@NotNull(message = "Document ID is required") UUID> ids
+) {}
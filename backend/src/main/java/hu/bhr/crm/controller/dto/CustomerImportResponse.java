@@ -0,0 +1,20 @@
+package hu.bhr.crm.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Report of a bulk customer import")
+public record CustomerImportResponse(
+        @Schema(description = "Number of customers in the request", example = "3")
+        int total,
+
+        @Schema(description = "Number of customers imported", example = "2")
+        int imported,
+
+        @Schema(description = "Number of customers rejected", example = "1")
+        int failed,
+
+        @Schema(description = "Outcome of each customer, in request order")
+        List<CustomerImportRowResponse> rows
+) {}
@@ -0,0 +1,22 @@
+package hu.bhr.crm.controller.dto;
+
+import hu.bhr.crm.model.CustomerImportStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Outcome of importing one customer")
+public record CustomerImportRowResponse(
+        @Schema(description = "Zero-based position of the customer in the import request", example = "0")
+        int index,
+
+        @Schema(description = "Whether the customer was imported", example = "IMPORTED", implementation = CustomerImportStatus.class)
+        CustomerImportStatus status,
+
+        @Schema(description = "Unique identifier of the created customer (missing if the row failed)", example = "a1b2c3d4-e5f6-7890-1234-567890abcdef")
+        UUID customerId,
+
+        @Schema(description = "Reasons of the failure (empty if the row was imported)", example = "[\"Email is already used by another customer\"]")
+        List<String> errors
+) {}
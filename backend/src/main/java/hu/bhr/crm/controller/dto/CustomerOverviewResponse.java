@@ -0,0 +1,17 @@
+package hu.bhr.crm.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Customer together with its residence, notes and tasks")
+public record CustomerOverviewResponse(
+        @Schema(description = "The customer with its residence")
+        CustomerResponse customer,
+
+        @Schema(description = "Documents (notes) related to the customer")
+        List<CustomerDetailsResponse> customerDetails,
+
+        @Schema(description = "Tasks related to the customer")
+        List<TaskResponse> tasks
+) {}
@@ -0,0 +1,29 @@
+package hu.bhr.crm.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Schema(description = "Reminder whose time has passed but has not fired yet")
+public record OverdueReminderResponse(
+        @Schema(description = "Unique identifier of the task", example = "b2c3d4e5-f6a7-8901-2345-678901abcdef")
+        UUID taskId,
+
+        @Schema(description = "Title of the task", example = "Call customer")
+        String title,
+
+        @Schema(description = "Date and time the reminder was due", example = "2025-02-15T09:00:00Z")
+        ZonedDateTime reminder,
+
+        @Schema(description = "Number of seconds the reminder is overdue by", example = "125")
+        long overdueSeconds,
+
+        @Schema(description = "Whether the reminder is overdue by more than the misfire threshold", example = "true")
+        boolean misfired,
+
+        @Schema(
+            description = "State of the Quartz trigger of the reminder, only with the quartz reminder engine",
+            example = "NORMAL")
+        String triggerState
+) {}
@@ -0,0 +1,17 @@
+package hu.bhr.crm.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "One page of search results, ranked by relevance")
+public record SearchPageResponse<T>(
+        @Schema(description = "Results of the current page, most relevant first")
+        List<T> items,
+
+        @Schema(description = "Zero-based number of the current page", example = "0")
+        int page,
+
+        @Schema(description = "Whether a next page exists", example = "true")
+        boolean hasNext
+) {}
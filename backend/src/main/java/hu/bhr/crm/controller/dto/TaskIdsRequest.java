@@ -0,0 +1,23 @@
+package hu.bhr.crm.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.Set;
+import java.util.UUID;
+
+@Builder
+@Schema(description = "Payload selecting the tasks of a bulk operation")
+public record TaskIdsRequest(
+    @NotEmpty(message = "At least one task ID is required")
+    @Size(max = 10_000, message = "At most 10000 tasks can be processed at once")
+    @Schema(
+        description = "UUIDs of the tasks",
+        example = "[\"b2c3d4e5-f6a7-8901-2345-678901abcdef\"]",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    Set<@NotNull(message = "Task ID is required") UUID> ids
+) {}
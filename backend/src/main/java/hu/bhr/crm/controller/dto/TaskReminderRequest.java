@@ -0,0 +1,25 @@
+package hu.bhr.crm.controller.dto;
+
+import hu.bhr.crm.validation.annotation.NotPast;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Builder
+@Schema(description = "New reminder date of a task")
+public record TaskReminderRequest(
+    @NotNull(message = "Task ID is required")
+    @Schema(
+        description = "UUID of the task",
+        example = "b2c3d4e5-f6a7-8901-2345-678901abcdef",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    UUID taskId,
+
+    @NotPast(message = "Reminder date must be in the future")
+    @Schema(description = "Date and time for the reminder notification, or null to remove it", example = "2025-02-15T09:00:00Z")
+    ZonedDateTime reminder
+) {}
@@ -0,0 +1,19 @@
+package hu.bhr.crm.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "Payload for setting the reminder dates of many tasks at once")
+public record TaskRemindersRequest(
+    @NotEmpty(message = "At least one reminder is required")
+    @Size(max = 10_000, message = "At most 10000 tasks can be processed at once")
+    @Schema(description = "New reminder date of each task", requiredMode = Schema.RequiredMode.REQUIRED)
+    List<@Valid @NotNull(message = "Reminder is required") TaskReminderRequest> reminders
+) {}
@@ -0,0 +1,11 @@
+package hu.bhr.crm.event;
+
+import java.util.UUID;
+
+/**
+ * Published after a customer, its residence or its details have been changed or deleted.
+ *
+ * @param customerId the unique UUID of the changed customer
+ */
+public record CustomerChangedEvent(UUID customerId) {
+}
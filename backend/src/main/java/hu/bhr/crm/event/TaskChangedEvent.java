@@ -0,0 +1,12 @@
+package hu.bhr.crm.event;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Published after tasks have been created, updated or deleted.
+ *
+ * @param taskIds the unique UUIDs of the changed tasks
+ */
+public record TaskChangedEvent(Collection<UUID> taskIds) {
+}
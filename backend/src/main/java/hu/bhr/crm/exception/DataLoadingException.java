@@ -0,0 +1,7 @@
+package hu.bhr.crm.exception;
+
+public class DataLoadingException extends InfrastructureException {
+    public DataLoadingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package hu.bhr.crm.exception;
+
+public class InvalidRequestException extends DomainException {
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
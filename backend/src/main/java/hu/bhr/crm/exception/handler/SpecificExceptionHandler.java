@@ -2,6 +2,7 @@ package hu.bhr.crm.exception.handler;
 
 import hu.bhr.crm.controller.dto.ErrorResponse;
 import hu.bhr.crm.exception.InfrastructureException;
+import hu.bhr.crm.exception.InvalidRequestException;
 import hu.bhr.crm.exception.ResourceNotFoundException;
 import io.swagger.v3.oas.annotations.Hidden;
 import lombok.extern.slf4j.Slf4j;
@@ -39,4 +40,11 @@ public class SpecificExceptionHandler {
         log.warn("Invalid request", ex);
         return ErrorResponseUtils.toErrorResponse("Validation error during request processing", ex);
     }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidRequestException.class)
+    public ErrorResponse handleInvalidRequest(InvalidRequestException ex) {
+        log.warn("Invalid request", ex);
+        return ErrorResponseUtils.toErrorResponse("Validation error during request processing", ex);
+    }
 }
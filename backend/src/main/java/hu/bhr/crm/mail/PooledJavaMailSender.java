@@ -0,0 +1,244 @@
+package hu.bhr.crm.mail;
+
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * {@link JavaMailSenderImpl} that keeps connected transports open and reuses them across sends.
+ * <p>
+ * {@link JavaMailSenderImpl} connects, negotiates STARTTLS and authenticates for every send call,
+ * then closes the connection. This sender returns the connected transport to a pool instead:
+ * <ul>
+ * <li>At most {@code maxSize} transports are kept open. When all of them are in use, a send
+ * opens an extra connection and closes it afterward, so senders never wait for each other.</li>
+ * <li>A transport idle for longer than {@code maxIdleTime} is closed, both on borrow and by
+ * {@link #evictIdleTransports()}.</li>
+ * <li>A transport idle for longer than {@code validationInterval} is checked with an SMTP
+ * {@code NOOP} before reuse, and discarded if the server has dropped the connection.</li>
+ * <li>A transport failing with anything other than rejected recipients is discarded, and the
+ * remaining messages of the call are sent over a new connection.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Sends called on a virtual thread are handed to a platform thread and awaited. Jakarta Mail performs the
+ * SMTP exchange inside {@code synchronized} methods, which pin the virtual thread to its carrier for the
+ * whole exchange, so a burst of reminders could otherwise occupy every carrier and stall request handling.
+ * </p>
+ */
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private static final String HEADER_MESSAGE_ID = "Message-ID";
+
+    private final int maxSize;
+    private final long maxIdleNanos;
+    private final long validationIntervalNanos;
+
+    // most recently released first
+    private final Deque<IdleTransport> idleTransports = new ArrayDeque<>();
+
+    // senders never wait for each other, so the threads are not bounded here but by the callers
+    private final ExecutorService platformSenders =
+            Executors.newCachedThreadPool(Thread.ofPlatform().name("mail-sender-", 0).daemon().factory());
+
+    private record IdleTransport(Transport transport, long idleSince) {}
+
+    public PooledJavaMailSender(int maxSize, Duration maxIdleTime, Duration validationInterval) {
+        this.maxSize = maxSize;
+        this.maxIdleNanos = maxIdleTime.toNanos();
+        this.validationIntervalNanos = validationInterval.toNanos();
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages) throws MailException {
+        if (!Thread.currentThread().isVirtual()) {
+            sendOverPooledTransport(mimeMessages, originalMessages);
+            return;
+        }
+
+        Future<?> send = platformSenders.submit(() -> sendOverPooledTransport(mimeMessages, originalMessages));
+        try {
+            send.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof MailException mailException) {
+                throw mailException;
+            }
+            throw new MailSendException("Sending mail failed", e.getCause());
+        } catch (InterruptedException e) {
+            // the send itself completes on the platform thread
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while waiting for mail to be sent", e);
+        }
+    }
+
+    private void sendOverPooledTransport(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages) {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+
+        Transport transport;
+        try {
+            transport = borrowTransport();
+        } catch (AuthenticationFailedException ex) {
+            throw new MailAuthenticationException(ex);
+        } catch (MessagingException ex) {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                failedMessages.put(original(mimeMessages, originalMessages, i), ex);
+            }
+            throw new MailSendException("Mail server connection failed", ex, failedMessages);
+        }
+
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                try {
+                    sendMessage(transport, mimeMessages[i]);
+                } catch (SendFailedException ex) {
+                    // rejected recipients, the connection itself is still usable
+                    failedMessages.put(original(mimeMessages, originalMessages, i), ex);
+                } catch (MessagingException ex) {
+                    failedMessages.put(original(mimeMessages, originalMessages, i), ex);
+                    closeTransport(transport);
+                    transport = null;
+                    try {
+                        transport = connectTransport();
+                    } catch (MessagingException connectEx) {
+                        for (int j = i + 1; j < mimeMessages.length; j++) {
+                            failedMessages.put(original(mimeMessages, originalMessages, j), connectEx);
+                        }
+                        break;
+                    }
+                }
+            }
+        } finally {
+            if (transport != null) {
+                releaseTransport(transport);
+            }
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    /**
+     * Closes the pooled transports that have been idle for longer than the maximum idle time.
+     */
+    @Scheduled(fixedDelayString = "${crm.mail.pool.max-idle-time:60s}")
+    public void evictIdleTransports() {
+        List<Transport> expired = new ArrayList<>();
+        long now = System.nanoTime();
+        synchronized (idleTransports) {
+            while (!idleTransports.isEmpty() && now - idleTransports.peekLast().idleSince() >= maxIdleNanos) {
+                expired.add(idleTransports.pollLast().transport());
+            }
+        }
+
+        expired.forEach(this::closeTransport);
+    }
+
+    /**
+     * Returns the number of connected transports waiting in the pool.
+     *
+     * @return the number of idle transports
+     */
+    public int getIdleCount() {
+        synchronized (idleTransports) {
+            return idleTransports.size();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        platformSenders.shutdown();
+
+        List<Transport> transports = new ArrayList<>();
+        synchronized (idleTransports) {
+            idleTransports.forEach(idle -> transports.add(idle.transport()));
+            idleTransports.clear();
+        }
+
+        transports.forEach(this::closeTransport);
+    }
+
+    private Transport borrowTransport() throws MessagingException {
+        while (true) {
+            IdleTransport idle;
+            synchronized (idleTransports) {
+                idle = idleTransports.pollFirst();
+            }
+            if (idle == null) {
+                return connectTransport();
+            }
+
+            long idleFor = System.nanoTime() - idle.idleSince();
+            if (idleFor >= maxIdleNanos
+                    || (idleFor >= validationIntervalNanos && !idle.transport().isConnected())) {
+                closeTransport(idle.transport());
+                continue;
+            }
+
+            return idle.transport();
+        }
+    }
+
+    private void releaseTransport(Transport transport) {
+        synchronized (idleTransports) {
+            if (idleTransports.size() < maxSize) {
+                idleTransports.offerFirst(new IdleTransport(transport, System.nanoTime()));
+                return;
+            }
+        }
+
+        closeTransport(transport);
+    }
+
+    private void sendMessage(Transport transport, MimeMessage mimeMessage) throws MessagingException {
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+            // preserve explicitly specified message id, as it may be overwritten by saveChanges
+            mimeMessage.setHeader(HEADER_MESSAGE_ID, messageId);
+        }
+
+        Address[] addresses = mimeMessage.getAllRecipients();
+        transport.sendMessage(mimeMessage, addresses != null ? addresses : new Address[0]);
+    }
+
+    private void closeTransport(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException ex) {
+            log.debug("Failed to close mail transport", ex);
+        }
+    }
+
+    private static Object original(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages, int index) {
+        return originalMessages != null ? originalMessages[index] : mimeMessages[index];
+    }
+}
@@ -13,6 +13,7 @@ import java.util.UUID;
 public interface CustomerDetailsMapper {
     CustomerDetails customerDocumentToCustomerDetails(CustomerDocument customerDocument);
 
+    @Mapping(target = "score", ignore = true)
     CustomerDocument customerDetailsToCustomerDocument(CustomerDetails customerDetails);
 
     CustomerDetailsResponse customerDetailsToCustomerDetailsResponse(CustomerDetails customerDetails);
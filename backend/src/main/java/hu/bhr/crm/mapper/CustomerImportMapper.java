@@ -0,0 +1,29 @@
+package hu.bhr.crm.mapper;
+
+import hu.bhr.crm.controller.dto.CustomerImportResponse;
+import hu.bhr.crm.controller.dto.CustomerImportRowResponse;
+import hu.bhr.crm.model.CustomerImportRowResult;
+import hu.bhr.crm.model.CustomerImportStatus;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface CustomerImportMapper {
+
+    CustomerImportRowResponse rowResultToRowResponse(CustomerImportRowResult rowResult);
+
+    List<CustomerImportRowResponse> rowResultsToRowResponses(List<CustomerImportRowResult> rowResults);
+
+    default CustomerImportResponse rowResultsToImportResponse(List<CustomerImportRowResult> rowResults) {
+        int imported = (int) rowResults.stream()
+                .filter(rowResult -> rowResult.status() == CustomerImportStatus.IMPORTED)
+                .count();
+
+        return new CustomerImportResponse(
+                rowResults.size(),
+                imported,
+                rowResults.size() - imported,
+                rowResultsToRowResponses(rowResults));
+    }
+}
@@ -0,0 +1,11 @@
+package hu.bhr.crm.mapper;
+
+import hu.bhr.crm.controller.dto.CustomerOverviewResponse;
+import hu.bhr.crm.model.CustomerOverview;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring", uses = {CustomerMapper.class, CustomerDetailsMapper.class, TaskMapper.class})
+public interface CustomerOverviewMapper {
+
+    CustomerOverviewResponse customerOverviewToCustomerOverviewResponse(CustomerOverview customerOverview);
+}
@@ -2,12 +2,74 @@ package hu.bhr.crm.mapper;
 
 import lombok.experimental.UtilityClass;
 
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
 @UtilityClass
 public class EnumUtils {
 
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s\\-_]+");
+
+    /**
+     * Normalizes a user-provided enum name, e.g. {@code " in - progress "} to {@code "IN_PROGRESS"}.
+     * <p>
+     * The input is trimmed and upper-cased, and every run of whitespace, '-' and '_' characters is
+     * replaced by a single '_'. ASCII input, which covers every valid enum name, is normalized in a
+     * single pass; other input falls back to the equivalent precompiled pattern.
+     * </p>
+     *
+     * @param input the name to normalize
+     * @return the normalized name
+     */
     public static String normalizeEnumName(String input) {
-        return input.trim()
-                .toUpperCase()
-                .replaceAll("[\\s\\-_]+", "_");
+        int start = 0;
+        int end = input.length();
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        StringBuilder normalized = new StringBuilder(end - start);
+        boolean inSeparator = false;
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            if (c > '\u007f') {
+                return SEPARATORS.matcher(input.trim().toUpperCase(Locale.ROOT)).replaceAll("_");
+            }
+
+            if (isSeparator(c)) {
+                if (!inSeparator) {
+                    normalized.append('_');
+                    inSeparator = true;
+                }
+            } else {
+                normalized.append(c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c);
+                inSeparator = false;
+            }
+        }
+
+        return normalized.toString();
+    }
+
+    /**
+     * Returns the names of the constants of the given enum as an immutable set.
+     *
+     * @param enumClass the enum class
+     * @return the constant names
+     */
+    public static Set<String> enumNames(Class<? extends Enum<?>> enumClass) {
+        return Arrays.stream(enumClass.getEnumConstants())
+                .map(Enum::name)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r'
+                || c == '-' || c == '_';
     }
 }
@@ -0,0 +1,13 @@
+package hu.bhr.crm.mapper;
+
+import hu.bhr.crm.controller.dto.OverdueReminderResponse;
+import hu.bhr.crm.model.OverdueReminder;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring", uses = DateTimeMapper.class)
+public interface OverdueReminderMapper {
+
+    @Mapping(target = "overdueSeconds", expression = "java(overdueReminder.overdueBy().toSeconds())")
+    OverdueReminderResponse overdueReminderToOverdueReminderResponse(OverdueReminder overdueReminder);
+}
@@ -0,0 +1,63 @@
+package hu.bhr.crm.mapper;
+
+import hu.bhr.crm.exception.InvalidRequestException;
+import hu.bhr.crm.model.PageCursor;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+@UtilityClass
+public class PageCursorCodec {
+
+    private static final char SEPARATOR = '|';
+    private static final String INVALID_CURSOR_MESSAGE = "Invalid page cursor";
+
+    /**
+     * Encodes a keyset position into an opaque, URL-safe token.
+     *
+     * @param cursor the position to encode (can be null)
+     * @return the encoded token, or null if there is no position
+     */
+    public static String encode(PageCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        String raw = cursor.createdAt().toString() + SEPARATOR + cursor.id();
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode(PageCursor)}.
+     *
+     * @param token the opaque token received from the client (can be blank)
+     * @return the decoded position, or null if the token is blank
+     * @throws InvalidRequestException if the token is malformed
+     */
+    public static PageCursor decode(String token) {
+        if (StringUtils.isBlank(token)) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new InvalidRequestException(INVALID_CURSOR_MESSAGE);
+            }
+
+            return new PageCursor(
+                    Instant.parse(raw.substring(0, separatorIndex)),
+                    UUID.fromString(raw.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidRequestException(INVALID_CURSOR_MESSAGE);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package hu.bhr.crm.mapper;
 
+import hu.bhr.crm.controller.dto.TaskReminderRequest;
+import hu.bhr.crm.controller.dto.TaskRemindersRequest;
 import hu.bhr.crm.controller.dto.TaskRequest;
 import hu.bhr.crm.model.Task;
 import hu.bhr.crm.model.TaskStatus;
@@ -8,6 +10,8 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 @UtilityClass
@@ -47,6 +51,22 @@ public class TaskFactory {
                 .build();
     }
 
+    /**
+     * Collects the new reminder dates of a bulk reminder update by task.
+     * If a task is listed more than once, its last reminder date wins.
+     *
+     * @param remindersRequest the data transfer object containing the new reminder dates
+     * @return the new reminder date of each task, null where the reminder is removed
+     */
+    public static Map<UUID, Instant> createRemindersByTaskId(TaskRemindersRequest remindersRequest) {
+        Map<UUID, Instant> remindersByTaskId = HashMap.newHashMap(remindersRequest.reminders().size());
+        for (TaskReminderRequest reminderRequest : remindersRequest.reminders()) {
+            remindersByTaskId.put(reminderRequest.taskId(), toInstant(reminderRequest.reminder()));
+        }
+
+        return remindersByTaskId;
+    }
+
     private static TaskStatus convertStatus(String status) {
         return TaskStatus.fromString(status);
     }
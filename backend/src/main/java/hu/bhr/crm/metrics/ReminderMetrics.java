@@ -0,0 +1,107 @@
+package hu.bhr.crm.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records how late reminders fire and how long sending them takes.
+ * <p>
+ * The following meters are published:
+ * <ul>
+ * <li>{@value #LAG_TIMER}: time from the scheduled time of a reminder until it fired, tagged with the
+ * reminder {@code engine}.</li>
+ * <li>{@value #DELIVERY_TIMER}: time from the firing of a reminder until its email was sent or given up,
+ * tagged with the {@code outcome} ({@code sent} or {@code failed}).</li>
+ * <li>{@value #OVERDUE_GAUGE}: number of reminders past their scheduled time that have not fired yet.</li>
+ * <li>{@value #QUEUED_GAUGE}: number of fired reminders waiting in a dispatcher, tagged with the {@code dispatcher}.</li>
+ * </ul>
+ * Both timers publish percentile histograms, so the lag can be aggregated across instances.
+ * </p>
+ */
+@Component
+public class ReminderMetrics {
+
+    public static final String LAG_TIMER = "crm.reminder.lag";
+    public static final String DELIVERY_TIMER = "crm.reminder.delivery";
+    public static final String OVERDUE_GAUGE = "crm.reminder.overdue";
+    public static final String QUEUED_GAUGE = "crm.reminder.dispatch.queued";
+
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofHours(1);
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong overdueReminders = new AtomicLong();
+
+    public ReminderMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder(OVERDUE_GAUGE, overdueReminders, AtomicLong::get)
+                .description("Reminders past their scheduled time that have not fired yet")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records the lag of a fired reminder.
+     *
+     * @param engine      the reminder engine that fired it
+     * @param scheduledAt the time the reminder was scheduled for
+     * @param firedAt     the time the reminder fired
+     */
+    public void recordFired(String engine, Instant scheduledAt, Instant firedAt) {
+        Timer.builder(LAG_TIMER)
+                .description("Time from the scheduled time of a reminder until it fired")
+                .tag("engine", engine)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(meterRegistry)
+                .record(Duration.between(scheduledAt, firedAt));
+    }
+
+    /**
+     * Records the end of the delivery of a fired reminder.
+     *
+     * @param firedAt the time the reminder fired
+     * @param sent    whether the email was sent, or given up on
+     */
+    public void recordDelivery(Instant firedAt, boolean sent) {
+        Timer.builder(DELIVERY_TIMER)
+                .description("Time from the firing of a reminder until its email was sent or given up")
+                .tag("outcome", sent ? "sent" : "failed")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(meterRegistry)
+                .record(Duration.between(firedAt, Instant.now()));
+    }
+
+    /**
+     * Publishes the current number of overdue reminders.
+     *
+     * @param count the number of reminders past their scheduled time that have not fired yet
+     */
+    public void setOverdueReminders(long count) {
+        overdueReminders.set(count);
+    }
+
+    /**
+     * Publishes the size of the queue of fired reminders held by a dispatcher.
+     *
+     * @param dispatcher the name of the dispatcher
+     * @param queue      the queue, referenced for as long as the registry
+     */
+    public void registerQueue(String dispatcher, Collection<?> queue) {
+        Gauge.builder(QUEUED_GAUGE, queue, Collection::size)
+                .description("Fired reminders waiting in the dispatcher")
+                .tag("dispatcher", dispatcher)
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+}
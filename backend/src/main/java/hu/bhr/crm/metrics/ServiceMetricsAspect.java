@@ -0,0 +1,60 @@
+package hu.bhr.crm.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method call of the service layer.
+ * <p>
+ * Each call is recorded in the {@value #TIMER_NAME} timer, tagged with:
+ * <ul>
+ * <li>{@code service}: the simple name of the service class,</li>
+ * <li>{@code operation}: the name of the called method,</li>
+ * <li>{@code outcome}: {@code success} or {@code error},</li>
+ * <li>{@code exception}: the simple name of the thrown exception, or {@code none}.</li>
+ * </ul>
+ * The count of the timer per outcome serves as the call and error counter.
+ * Repository calls are timed by Spring Boot as {@code spring.data.repository.invocations}.
+ * </p>
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    public static final String TIMER_NAME = "crm.service.calls";
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_ERROR = "error";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("within(hu.bhr.crm.service..*) && execution(public * *(..))")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = OUTCOME_SUCCESS;
+        String exception = NO_EXCEPTION;
+
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = OUTCOME_ERROR;
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(TIMER_NAME)
+                    .description("Duration of service layer calls")
+                    .tag("service", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("operation", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package hu.bhr.crm.model;
+
+import java.util.List;
+
+public record CursorPage<T>(
+        List<T> items,
+        PageCursor nextCursor
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
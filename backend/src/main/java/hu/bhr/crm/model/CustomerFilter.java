@@ -0,0 +1,10 @@
+package hu.bhr.crm.model;
+
+import lombok.Builder;
+
+@Builder
+public record CustomerFilter(
+        String relationship,
+        String city,
+        String namePrefix
+) {}
@@ -0,0 +1,33 @@
+package hu.bhr.crm.model;
+
+import java.util.List;
+
+/**
+ * One row of a bulk customer import.
+ * <p>
+ * Rows that already failed request validation carry their validation errors
+ * and no customer; they are reported as failed without touching the database.
+ * </p>
+ *
+ * @param index    the zero-based position of the row in the import request
+ * @param customer the customer to persist (null if the row is invalid)
+ * @param errors   the validation errors of the row (empty if the row is valid)
+ */
+public record CustomerImportRow(
+        int index,
+        Customer customer,
+        List<String> errors
+) {
+
+    public static CustomerImportRow valid(int index, Customer customer) {
+        return new CustomerImportRow(index, customer, List.of());
+    }
+
+    public static CustomerImportRow invalid(int index, List<String> errors) {
+        return new CustomerImportRow(index, null, List.copyOf(errors));
+    }
+
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+}
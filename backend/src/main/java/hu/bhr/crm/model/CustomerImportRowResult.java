@@ -0,0 +1,32 @@
+package hu.bhr.crm.model;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The outcome of importing one row of a bulk customer import.
+ *
+ * @param index      the zero-based position of the row in the import request
+ * @param status     whether the row was imported or rejected
+ * @param customerId the ID of the created customer (null if the row failed)
+ * @param errors     the reasons of the failure (empty if the row was imported)
+ */
+public record CustomerImportRowResult(
+        int index,
+        CustomerImportStatus status,
+        UUID customerId,
+        List<String> errors
+) {
+
+    public static CustomerImportRowResult imported(int index, UUID customerId) {
+        return new CustomerImportRowResult(index, CustomerImportStatus.IMPORTED, customerId, List.of());
+    }
+
+    public static CustomerImportRowResult failed(int index, List<String> errors) {
+        return new CustomerImportRowResult(index, CustomerImportStatus.FAILED, null, List.copyOf(errors));
+    }
+
+    public static CustomerImportRowResult failed(int index, String error) {
+        return failed(index, List.of(error));
+    }
+}
@@ -0,0 +1,6 @@
+package hu.bhr.crm.model;
+
+public enum CustomerImportStatus {
+    IMPORTED,
+    FAILED
+}
@@ -0,0 +1,12 @@
+package hu.bhr.crm.model;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record CustomerOverview(
+        Customer customer,
+        List<CustomerDetails> customerDetails,
+        List<Task> tasks
+) {}
@@ -3,88 +3,213 @@ package hu.bhr.crm.model;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringEscapeUtils;
 
+import java.util.List;
+
+/**
+ * Renders the HTML body of a reminder email.
+ * <p>
+ * The markup is kept as constant fragments, and the escaped field values are written between them
+ * straight into one buffer, presized from the length of the values. Values are escaped like
+ * {@link StringEscapeUtils#escapeHtml4(String)}: ASCII is escaped inline, and only a value
+ * containing non-ASCII characters is handed to the HTML 4 entity translator from its first
+ * non-ASCII character on. A missing task title or note is rendered as {@code null}.
+ * </p>
+ * <p>
+ * A digest renders the same list of each reminder under one heading, with the task title as a subheading.
+ * </p>
+ */
 public class EmailContentHtmlBuilder {
 
+    private static final String HEADER = "<h2>Task Reminder</h2>";
+    private static final String DIGEST_HEADER = "<h2>Task Reminders</h2>";
+    private static final String DIGEST_TITLE = "<h3>";
+    private static final String DIGEST_TITLE_END = "</h3>";
+    private static final String REMINDER_START = "<ul>";
+    private static final String TASK_TITLE = "<li><strong>Task Title:</strong> ";
+    private static final String DUE_DATE = "<li><strong>Due Date:</strong> ";
+    private static final String TASK_DESCRIPTION = "<li><strong>Task Description:</strong> ";
+    private static final String TASK_END = "<br>";
+
+    private static final String CUSTOMER_START = "<li><strong>Customer Information:</strong></li><ul>";
+    private static final String FIRST_NAME = "<li><strong>First Name:</strong> ";
+    private static final String LAST_NAME = "<li><strong>Last Name:</strong> ";
+    private static final String PHONE_NUMBER = "<li><strong>Phone Number:</strong> ";
+    private static final String EMAIL = "<li><strong>Email:</strong> ";
+    private static final String CUSTOMER_END = "</ul>";
+
+    private static final String RESIDENCE_START = "<li><strong>Residence:</strong></li><ul>";
+    private static final String ZIP_CODE = "<li>Zip Code: ";
+    private static final String STREET_ADDRESS = "<li>Street Address: ";
+    private static final String ADDRESS_LINE_2 = "<li>Address Line 2: ";
+    private static final String CITY = "<li>City: ";
+    private static final String COUNTRY = "<li>Country: ";
+
+    private static final String DETAILS_START = "<li><strong>Additional Details:</strong></li><ul>";
+    private static final String DETAIL = "<li>";
+
+    private static final String ITEM_END = "</li>";
+    private static final String NESTED_LIST_END = "</ul></li>";
+
+    // longer than all fixed fragments of a fully populated email together
+    private static final int FIXED_CAPACITY = 640;
+    private static final int ESCAPING_HEADROOM = 64;
+    private static final int DETAIL_CAPACITY = DETAIL.length() + ITEM_END.length();
+    private static final int DIGEST_TITLE_CAPACITY = DIGEST_TITLE.length() + DIGEST_TITLE_END.length();
+
     public static String build(EmailContent content) {
-        StringBuilder html = new StringBuilder();
-        html.append("<h2>Task Reminder</h2>");
-        html.append("<ul>");
+        StringBuilder html = new StringBuilder(estimateCapacity(content));
+        html.append(HEADER);
+        appendReminder(html, content);
 
-        html.append(String.format("<li><strong>Task Title:</strong> %s</li>", escape(content.taskTitle())));
+        return html.toString();
+    }
+
+    /**
+     * Renders the reminders of several tasks into one email body.
+     *
+     * @param contents the contents of the reminders, in display order
+     * @return the HTML body of the digest
+     */
+    public static String buildDigest(List<EmailContent> contents) {
+        int capacity = DIGEST_HEADER.length();
+        for (EmailContent content : contents) {
+            capacity += estimateCapacity(content) + DIGEST_TITLE_CAPACITY + length(content.taskTitle());
+        }
+
+        StringBuilder html = new StringBuilder(capacity);
+        html.append(DIGEST_HEADER);
+        for (EmailContent content : contents) {
+            html.append(DIGEST_TITLE);
+            appendEscaped(html, content.taskTitle());
+            html.append(DIGEST_TITLE_END);
+            appendReminder(html, content);
+        }
+
+        return html.toString();
+    }
+
+    private static void appendReminder(StringBuilder html, EmailContent content) {
+        html.append(REMINDER_START);
+
+        appendItem(html, TASK_TITLE, content.taskTitle());
         if (content.dueDate() != null) {
-            html.append(String.format("<li><strong>Due Date:</strong> %s</li>", content.dueDate()));
+            html.append(DUE_DATE).append(content.dueDate()).append(ITEM_END);
         }
         if (notBlank(content.taskDescription())) {
-            html.append(String.format("<li><strong>Task Description:</strong> %s</li>", escape(content.taskDescription())));
+            appendItem(html, TASK_DESCRIPTION, content.taskDescription());
         }
-        html.append("<br>");
+        html.append(TASK_END);
 
+        boolean hasDetails = content.customerDetailsList() != null && !content.customerDetailsList().isEmpty();
         boolean hasCustomer =
                     notBlank(content.customerFirstName()) ||
                     notBlank(content.customerLastName()) ||
                     notBlank(content.customerPhoneNumber()) ||
                     notBlank(content.customerEmail()) ||
                     content.customerResidence() != null ||
-                    (content.customerDetailsList() != null && !content.customerDetailsList().isEmpty());
+                    hasDetails;
 
         if (hasCustomer) {
-            html.append("<li><strong>Customer Information:</strong></li>");
-            html.append("<ul>");
+            html.append(CUSTOMER_START);
 
-            if (notBlank(content.customerFirstName())) {
-                html.append(String.format("<li><strong>First Name:</strong> %s</li>", escape(content.customerFirstName())));
-            }
-            if (notBlank(content.customerLastName())) {
-                html.append(String.format("<li><strong>Last Name:</strong> %s</li>", escape(content.customerLastName())));
-            }
-            if (notBlank(content.customerPhoneNumber())) {
-                html.append(String.format("<li><strong>Phone Number:</strong> %s</li>", escape(content.customerPhoneNumber())));
-            }
-            if (notBlank(content.customerEmail())) {
-                html.append(String.format("<li><strong>Email:</strong> %s</li>", escape(content.customerEmail())));
-            }
-            if (content.customerResidence() != null) {
-                html.append("<li><strong>Residence:</strong></li>");
-                html.append("<ul>");
-                if (notBlank(content.customerResidence().zipCode())) {
-                    html.append(String.format("<li>Zip Code: %s</li>", escape(content.customerResidence().zipCode())));
-                }
-                if (notBlank(content.customerResidence().streetAddress())) {
-                    html.append(String.format("<li>Street Address: %s</li>", escape(content.customerResidence().streetAddress())));
-                }
-                if (notBlank(content.customerResidence().addressLine2())) {
-                    html.append(String.format("<li>Address Line 2: %s</li>", escape(content.customerResidence().addressLine2())));
-                }
-                if (notBlank(content.customerResidence().city())) {
-                    html.append(String.format("<li>City: %s</li>", escape(content.customerResidence().city())));
-                }
-                if (notBlank(content.customerResidence().country())) {
-                    html.append(String.format("<li>Country: %s</li>", escape(content.customerResidence().country())));
-                }
-                html.append("</ul></li>");
+            appendItemIfNotBlank(html, FIRST_NAME, content.customerFirstName());
+            appendItemIfNotBlank(html, LAST_NAME, content.customerLastName());
+            appendItemIfNotBlank(html, PHONE_NUMBER, content.customerPhoneNumber());
+            appendItemIfNotBlank(html, EMAIL, content.customerEmail());
+
+            Residence residence = content.customerResidence();
+            if (residence != null) {
+                html.append(RESIDENCE_START);
+                appendItemIfNotBlank(html, ZIP_CODE, residence.zipCode());
+                appendItemIfNotBlank(html, STREET_ADDRESS, residence.streetAddress());
+                appendItemIfNotBlank(html, ADDRESS_LINE_2, residence.addressLine2());
+                appendItemIfNotBlank(html, CITY, residence.city());
+                appendItemIfNotBlank(html, COUNTRY, residence.country());
+                html.append(NESTED_LIST_END);
             }
 
-            if (content.customerDetailsList() != null && !content.customerDetailsList().isEmpty()) {
-                html.append("<li><strong>Additional Details:</strong></li>");
-                html.append("<ul>");
+            if (hasDetails) {
+                html.append(DETAILS_START);
                 for (CustomerDetails detail : content.customerDetailsList()) {
-                    html.append(String.format("<li>%s</li>", escape(detail.note())));
+                    appendItem(html, DETAIL, detail.note());
                 }
-                html.append("</ul></li>");
+                html.append(NESTED_LIST_END);
             }
 
-            html.append("</ul>");
+            html.append(CUSTOMER_END);
         }
+    }
 
-        return html.toString();
+    private static int estimateCapacity(EmailContent content) {
+        int capacity = FIXED_CAPACITY + ESCAPING_HEADROOM
+                + length(content.taskTitle())
+                + length(content.taskDescription())
+                + length(content.customerFirstName())
+                + length(content.customerLastName())
+                + length(content.customerPhoneNumber())
+                + length(content.customerEmail());
+
+        Residence residence = content.customerResidence();
+        if (residence != null) {
+            capacity += length(residence.zipCode())
+                    + length(residence.streetAddress())
+                    + length(residence.addressLine2())
+                    + length(residence.city())
+                    + length(residence.country());
+        }
+
+        List<CustomerDetails> details = content.customerDetailsList();
+        if (details != null) {
+            for (CustomerDetails detail : details) {
+                capacity += DETAIL_CAPACITY + length(detail.note());
+            }
+        }
+
+        return capacity;
+    }
+
+    private static void appendItemIfNotBlank(StringBuilder html, String label, String value) {
+        if (notBlank(value)) {
+            appendItem(html, label, value);
+        }
+    }
+
+    private static void appendItem(StringBuilder html, String label, String value) {
+        html.append(label);
+        appendEscaped(html, value);
+        html.append(ITEM_END);
+    }
+
+    private static void appendEscaped(StringBuilder html, String value) {
+        if (value == null) {
+            html.append((String) null);
+            return;
+        }
+
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> html.append("&quot;");
+                case '&' -> html.append("&amp;");
+                case '<' -> html.append("&lt;");
+                case '>' -> html.append("&gt;");
+                default -> {
+                    if (c > '\u007f') {
+                        html.append(StringEscapeUtils.ESCAPE_HTML4.translate(value.substring(i)));
+                        return;
+                    }
+                    html.append(c);
+                }
+            }
+        }
     }
 
-    private static String escape(String s) {
-        return StringEscapeUtils.escapeHtml4(s);
+    private static int length(String s) {
+        return s == null ? 0 : s.length();
     }
 
     private static boolean notBlank(String s) {
         return !StringUtils.isBlank(s);
     }
 }
-
@@ -0,0 +1,8 @@
+package hu.bhr.crm.model;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    DEAD
+}
@@ -0,0 +1,17 @@
+package hu.bhr.crm.model;
+
+import lombok.Builder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+@Builder
+public record OverdueReminder(
+        UUID taskId,
+        String title,
+        Instant reminder,
+        Duration overdueBy,
+        boolean misfired,
+        String triggerState
+) {}
@@ -0,0 +1,15 @@
+package hu.bhr.crm.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Keyset position of the last element returned on a page.
+ * <p>
+ * The next page starts strictly after the {@code (createdAt, id)} pair held by this cursor.
+ * </p>
+ */
+public record PageCursor(
+        Instant createdAt,
+        UUID id
+) {}
@@ -0,0 +1,16 @@
+package hu.bhr.crm.model;
+
+import java.util.List;
+
+/**
+ * One page of search results, ranked by relevance.
+ * <p>
+ * Unlike a {@link CursorPage}, the pages are addressed by number, as a relevance score gives
+ * no stable position to continue from.
+ * </p>
+ */
+public record SearchPage<T>(
+        List<T> items,
+        int page,
+        boolean hasNext
+) {}
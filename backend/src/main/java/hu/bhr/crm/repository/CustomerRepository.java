@@ -1,11 +1,84 @@
 package hu.bhr.crm.repository;
 
+import hu.bhr.crm.config.CacheConfig;
 import hu.bhr.crm.repository.entity.CustomerEntity;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
-public interface CustomerRepository extends JpaRepository<CustomerEntity, UUID> {
+public interface CustomerRepository extends JpaRepository<CustomerEntity, UUID>, JpaSpecificationExecutor<CustomerEntity> {
+
+    /**
+     * Checks whether a customer exists, caching positive answers.
+     * <p>
+     * A missing customer is not cached, so a customer created after the check is found right away.
+     * The cache entry is evicted when the customer is deleted.
+     * </p>
+     *
+     * @param id the UUID of the customer
+     * @return true if the customer exists
+     */
+    @Override
+    @Cacheable(cacheNames = CacheConfig.CUSTOMER_EXISTS, key = "#p0", unless = "!#result")
+    boolean existsById(UUID id);
+
+    /**
+     * Finds a customer together with its residence in a single select.
+     *
+     * @param id the UUID of the customer
+     * @return the customer entity with its residence loaded, or empty if not found
+     */
+    @EntityGraph(attributePaths = "residence")
+    Optional<CustomerEntity> findWithResidenceById(UUID id);
+
+    /**
+     * Finds all customers together with their residences in a single select.
+     * <p>
+     * The residence is the inverse side of a one-to-one relation, so it cannot be loaded lazily.
+     * Without the fetch join, loading N customers would issue N additional selects.
+     * </p>
+     *
+     * @return a {@link List} of all customer entities with their residences loaded
+     */
+    @EntityGraph(attributePaths = "residence")
+    @Query("select c from CustomerEntity c")
+    List<CustomerEntity> findAllWithResidence();
+
+    /**
+     * Finds the given customers together with their residences in a single select.
+     *
+     * @param ids the UUIDs of the customers
+     * @return the customer entities found, with their residences loaded
+     */
+    @EntityGraph(attributePaths = "residence")
+    List<CustomerEntity> findAllWithResidenceByIdIn(Collection<UUID> ids);
+
+    /**
+     * Returns which of the given email addresses are already used by a customer.
+     *
+     * @param emails the email addresses to check
+     * @return the subset of the given email addresses already stored
+     */
+    @Query("select c.email from CustomerEntity c where c.email in :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Returns which of the given phone numbers are already used by a customer.
+     *
+     * @param phoneNumbers the phone numbers to check
+     * @return the subset of the given phone numbers already stored
+     */
+    @Query("select c.phoneNumber from CustomerEntity c where c.phoneNumber in :phoneNumbers")
+    Set<String> findExistingPhoneNumbers(@Param("phoneNumbers") Collection<String> phoneNumbers);
 }
@@ -0,0 +1,55 @@
+package hu.bhr.crm.repository;
+
+import hu.bhr.crm.repository.entity.EmailOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxEntity, UUID> {
+
+    /**
+     * Locks the outbox entries due for a send attempt, skipping the ones locked by other senders.
+     * <p>
+     * Entries being sent whose lease has expired are due again, so an entry claimed by a sender
+     * that stopped mid-send is picked up by another one. Must be called inside a transaction.
+     * </p>
+     *
+     * @param now   the current time
+     * @param limit the maximum number of entries to lock
+     * @return the locked entries, oldest due first
+     */
+    @Query(value = """
+            select * from crm.email_outbox
+            where status in ('PENDING', 'SENDING') and next_attempt_at <= :now
+            order by next_attempt_at
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<EmailOutboxEntity> findDueForUpdate(@Param("now") Instant now, @Param("limit") int limit);
+
+    /**
+     * Deletes a batch of the entries sent before the given time, served by the partial index on the sent entries.
+     *
+     * @param sentBefore the time the entries were sent before
+     * @param limit      the maximum number of entries to delete
+     * @return the number of deleted entries
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            delete from crm.email_outbox
+            where id in (
+                    select id from crm.email_outbox
+                    where status = 'SENT' and sent_at < :sentBefore
+                    limit :limit)
+            """, nativeQuery = true)
+    int deleteSentBefore(@Param("sentBefore") Instant sentBefore, @Param("limit") int limit);
+}
@@ -0,0 +1,64 @@
+package hu.bhr.crm.repository;
+
+import hu.bhr.crm.repository.entity.ReminderSnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ReminderSnapshotRepository extends JpaRepository<ReminderSnapshotEntity, UUID> {
+
+    @Query("SELECT s.taskId FROM ReminderSnapshotEntity s WHERE s.customerId = :customerId")
+    List<UUID> findTaskIdsByCustomerId(@Param("customerId") UUID customerId);
+
+    /**
+     * Stores the rendered reminder of a task, unless a reminder rendered later is stored already,
+     * or the task has been deleted or its reminder cleared meanwhile.
+     * The customer of the task is taken from the task as it is now.
+     *
+     * @param taskId     the identifier of the task
+     * @param subject    the subject of the email
+     * @param html       the gzip compressed HTML content of the email
+     * @param renderedAt the time rendering started, before the task was loaded
+     * @return 1 if the reminder was stored, 0 if it was skipped
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            insert into crm.reminder_snapshot (task_id, customer_id, subject, html, rendered_at)
+            select t.id, t.customer_id, :subject, :html, :renderedAt
+            from crm.task t
+            where t.id = :taskId and t.reminder is not null
+            on conflict (task_id) do update
+            set customer_id = excluded.customer_id,
+                subject = excluded.subject,
+                html = excluded.html,
+                rendered_at = excluded.rendered_at
+            where crm.reminder_snapshot.rendered_at < excluded.rendered_at
+            """, nativeQuery = true)
+    int saveIfRenderedLater(@Param("taskId") UUID taskId,
+                            @Param("subject") String subject,
+                            @Param("html") byte[] html,
+                            @Param("renderedAt") Instant renderedAt);
+
+    /**
+     * Deletes the stored reminders of the given tasks that were rendered before the given time,
+     * keeping the ones rendered for a later change of the tasks.
+     *
+     * @param taskIds        the identifiers of the tasks
+     * @param renderedBefore the time before which the reminders were rendered
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ReminderSnapshotEntity s WHERE s.taskId IN :taskIds AND s.renderedAt < :renderedBefore")
+    void deleteRenderedBefore(@Param("taskIds") Collection<UUID> taskIds,
+                              @Param("renderedBefore") Instant renderedBefore);
+}
@@ -1,13 +1,116 @@
 package hu.bhr.crm.repository;
 
 import hu.bhr.crm.repository.entity.TaskEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<TaskEntity, UUID> {
     List<TaskEntity> findAllByCustomerId(UUID customerId);
+
+    /**
+     * Streams every task through a forward-only database cursor.
+     * <p>
+     * Rows are fetched from the database in chunks of the configured fetch size instead of
+     * being loaded at once. The stream has to be consumed inside a transaction and closed afterward.
+     * </p>
+     *
+     * @return a lazily populated {@link Stream} of all task entities
+     */
+    @Query("select t from TaskEntity t")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<TaskEntity> streamAll();
+
+    /**
+     * Locks the identifiers of the tasks whose reminder is due and has not fired yet, skipping the
+     * ones locked by other pollers.
+     * <p>
+     * Served by the partial index on the pending reminders. Must be called inside a transaction.
+     * </p>
+     *
+     * @param now   the current time
+     * @param limit the maximum number of tasks to lock
+     * @return the identifiers of the locked tasks, earliest reminder first
+     */
+    @Query(value = """
+            select id from crm.task
+            where reminder is not null and reminder_fired_at is null and reminder <= :now
+            order by reminder
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<UUID> findDueReminderIdsForUpdate(@Param("now") Instant now, @Param("limit") int limit);
+
+    /**
+     * Retrieves the reminder dates of the given tasks.
+     *
+     * @param ids the identifiers of the tasks
+     * @return the reminder dates, in no particular order
+     */
+    @Query("select t.reminder from TaskEntity t where t.id in :ids and t.reminder is not null")
+    List<Instant> findRemindersByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Counts the reminders that are due and have not fired yet, served by the partial index on the pending reminders.
+     *
+     * @param now the current time
+     * @return the number of overdue reminders
+     */
+    @Query(value = """
+            select count(*) from crm.task
+            where reminder is not null and reminder_fired_at is null and reminder <= :now
+            """, nativeQuery = true)
+    long countOverdueReminders(@Param("now") Instant now);
+
+    /**
+     * Retrieves the tasks whose reminder was due before the given time and has not fired yet.
+     *
+     * @param dueBefore the time the reminders were due before
+     * @param limit     the maximum number of tasks to return
+     * @return the tasks, most overdue first
+     */
+    @Query(value = """
+            select * from crm.task
+            where reminder is not null and reminder_fired_at is null and reminder <= :dueBefore
+            order by reminder
+            limit :limit
+            """, nativeQuery = true)
+    List<TaskEntity> findOverdueReminders(@Param("dueBefore") Instant dueBefore, @Param("limit") int limit);
+
+    /**
+     * Marks the reminders of the given tasks as fired, removing them from the pending reminders.
+     *
+     * @param ids     the identifiers of the tasks
+     * @param firedAt the time the reminders fired
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "update crm.task set reminder_fired_at = :firedAt where id in (:ids)", nativeQuery = true)
+    void markRemindersFired(@Param("ids") Collection<UUID> ids, @Param("firedAt") Instant firedAt);
+
+    /**
+     * Clears the fired state of the reminders of the given tasks, so a reminder set on them is pending again.
+     *
+     * @param ids the identifiers of the tasks
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "update crm.task set reminder_fired_at = null where id in (:ids)", nativeQuery = true)
+    void resetRemindersFiredAt(@Param("ids") Collection<UUID> ids);
 }
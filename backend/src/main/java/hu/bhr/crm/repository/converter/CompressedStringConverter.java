@@ -0,0 +1,53 @@
+package hu.bhr.crm.repository.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stores a string attribute as its gzip compressed UTF-8 bytes.
+ * <p>
+ * Meant for long, repetitive text such as rendered HTML, which typically shrinks to a fraction of its size.
+ * </p>
+ */
+@Converter
+public class CompressedStringConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        if (attribute == null) {
+            return null;
+        }
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(attribute.length() / 3);
+        try (OutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(attribute.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress value", e);
+        }
+
+        return compressed.toByteArray();
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        if (dbData == null) {
+            return null;
+        }
+
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(dbData))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decompress value", e);
+        }
+    }
+}
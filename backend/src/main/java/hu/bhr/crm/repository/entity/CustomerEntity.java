@@ -56,7 +56,7 @@ public class CustomerEntity {
     private ResidenceEntity residence;
 
     @CreationTimestamp(source = SourceType.VM)
-    @Column(name = "created_at", updatable = false)
+    @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
     @UpdateTimestamp(source = SourceType.VM)
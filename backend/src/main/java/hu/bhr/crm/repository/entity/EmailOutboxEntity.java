@@ -0,0 +1,71 @@
+package hu.bhr.crm.repository.entity;
+
+import hu.bhr.crm.model.EmailOutboxStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcType;
+import org.hibernate.annotations.SourceType;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.dialect.PostgreSQLEnumJdbcType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "email_outbox")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class EmailOutboxEntity {
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    @EqualsAndHashCode.Include
+    private UUID id;
+
+    @Column(name = "task_id", nullable = false, updatable = false)
+    private UUID taskId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    @JdbcType(PostgreSQLEnumJdbcType.class)
+    private EmailOutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private Instant sentAt;
+
+    // incremented by every claim, so a sender whose lease expired cannot overwrite the outcome of the next one
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @CreationTimestamp(source = SourceType.VM)
+    @Column(name = "created_at", updatable = false)
+    private Instant createdAt;
+
+    @UpdateTimestamp(source = SourceType.VM)
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+}
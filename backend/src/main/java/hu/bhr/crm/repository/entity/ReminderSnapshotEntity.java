@@ -0,0 +1,44 @@
+package hu.bhr.crm.repository.entity;
+
+import hu.bhr.crm.repository.converter.CompressedStringConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "reminder_snapshot")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class ReminderSnapshotEntity {
+
+    @Id
+    @Column(name = "task_id", nullable = false, updatable = false)
+    @EqualsAndHashCode.Include
+    private UUID taskId;
+
+    @Column(name = "customer_id")
+    private UUID customerId;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @Convert(converter = CompressedStringConverter.class)
+    @Column(name = "html", nullable = false)
+    private String html;
+
+    @Column(name = "rendered_at", nullable = false)
+    private Instant renderedAt;
+}
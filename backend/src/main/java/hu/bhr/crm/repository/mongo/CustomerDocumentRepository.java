@@ -1,17 +1,30 @@
 package hu.bhr.crm.repository.mongo;
 
 import hu.bhr.crm.repository.mongo.document.CustomerDocument;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.core.query.TextCriteria;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface CustomerDocumentRepository extends MongoRepository<CustomerDocument, UUID> {
+public interface CustomerDocumentRepository extends MongoRepository<CustomerDocument, UUID>, CustomerDocumentRepositoryCustom {
     // Delete all documents related to a customer by customer ID
     void deleteAllByCustomerId(UUID customerId);
 
     // Find all documents related to a customer by customer ID
     List<CustomerDocument> findAllByCustomerId(UUID customerId);
+
+    // Find all documents related to any of the given customers
+    List<CustomerDocument> findAllByCustomerIdIn(Collection<UUID> customerIds);
+
+    // Find the documents matching a full-text search on the notes
+    Slice<CustomerDocument> findAllBy(TextCriteria criteria, Pageable pageable);
+
+    // Find the documents of a customer matching a full-text search on the notes
+    Slice<CustomerDocument> findAllByCustomerId(UUID customerId, TextCriteria criteria, Pageable pageable);
 }
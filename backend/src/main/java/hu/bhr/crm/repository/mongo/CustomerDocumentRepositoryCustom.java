@@ -0,0 +1,45 @@
+package hu.bhr.crm.repository.mongo;
+
+import hu.bhr.crm.model.PageCursor;
+import hu.bhr.crm.repository.mongo.document.CustomerDocument;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface CustomerDocumentRepositoryCustom {
+
+    /**
+     * Finds the documents of a customer following a keyset position, ordered by {@code (createdAt, id)}.
+     *
+     * @param customerId  the unique UUID of the customer
+     * @param after       the position of the last document of the previous page, or null for the first page
+     * @param limit       the maximum number of documents to return
+     * @param notePreview whether only the first {@value CustomerDocumentRepositoryCustomImpl#NOTE_PREVIEW_LENGTH}
+     *                    characters of the notes are fetched
+     * @return a {@link List} of the {@link CustomerDocument} objects
+     */
+    List<CustomerDocument> findPageByCustomerId(UUID customerId, PageCursor after, int limit, boolean notePreview);
+
+    /**
+     * Inserts the given documents with a single unordered bulk write.
+     * <p>
+     * MongoDB may apply the inserts in any order and does not stop at a failing document;
+     * the failures are reported together once the others are written.
+     * </p>
+     *
+     * @param documents the new documents
+     * @return the number of inserted documents
+     * @throws org.springframework.data.mongodb.BulkOperationException if any of the documents could not be inserted
+     */
+    int insertUnordered(List<CustomerDocument> documents);
+
+    /**
+     * Finds the distinct customers of the given documents, without loading the documents.
+     *
+     * @param ids the unique UUIDs of the documents
+     * @return the unique UUIDs of the customers the existing documents belong to
+     */
+    Set<UUID> findCustomerIdsByIdIn(Collection<UUID> ids);
+}
@@ -0,0 +1,76 @@
+package hu.bhr.crm.repository.mongo;
+
+import hu.bhr.crm.model.PageCursor;
+import hu.bhr.crm.repository.mongo.document.CustomerDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.StringOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Operations on the customer documents that cannot be derived from method names.
+ * <ul>
+ * <li>Keyset pagination, served by the {@code {customerId, createdAt, _id}} index: the filter on the customer
+ * and the sort both follow the index, so a page reads only its own documents, however deep the client has paged.
+ * With the note preview, the notes are truncated by MongoDB, so long notes are not transferred at all.</li>
+ * <li>Unordered bulk inserts, sending many documents in a single {@code bulkWrite} command.</li>
+ * </ul>
+ */
+@RequiredArgsConstructor
+public class CustomerDocumentRepositoryCustomImpl implements CustomerDocumentRepositoryCustom {
+
+    public static final int NOTE_PREVIEW_LENGTH = 200;
+
+    private static final String CUSTOMER_ID = "customerId";
+    private static final String CREATED_AT = "createdAt";
+    private static final String ID = "id";
+    private static final String NOTE = "note";
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Order.asc(CREATED_AT), Sort.Order.asc(ID));
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<CustomerDocument> findPageByCustomerId(UUID customerId, PageCursor after, int limit, boolean notePreview) {
+        Criteria criteria = Criteria.where(CUSTOMER_ID).is(customerId);
+        if (after != null) {
+            criteria.orOperator(
+                    Criteria.where(CREATED_AT).gt(after.createdAt()),
+                    Criteria.where(CREATED_AT).is(after.createdAt()).and(ID).gt(after.id()));
+        }
+
+        Query query = Query.query(criteria)
+                .with(KEYSET_SORT)
+                .limit(limit);
+        if (notePreview) {
+            query.fields().include(CUSTOMER_ID, CREATED_AT, "updatedAt");
+            query.fields()
+                    .project(StringOperators.valueOf(NOTE).substringCP(0, NOTE_PREVIEW_LENGTH))
+                    .as(NOTE);
+        }
+
+        return mongoTemplate.find(query, CustomerDocument.class);
+    }
+
+    @Override
+    public int insertUnordered(List<CustomerDocument> documents) {
+        return mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CustomerDocument.class)
+                .insert(documents)
+                .execute()
+                .getInsertedCount();
+    }
+
+    @Override
+    public Set<UUID> findCustomerIdsByIdIn(Collection<UUID> ids) {
+        return new HashSet<>(mongoTemplate.findDistinct(
+                Query.query(Criteria.where(ID).in(ids)), CUSTOMER_ID, CustomerDocument.class, UUID.class));
+    }
+}
@@ -9,12 +9,16 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.domain.Persistable;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.TextScore;
 
 import java.time.Instant;
 import java.util.UUID;
 
 @Document(collection = "customer_details")
+@CompoundIndex(name = "customer_id_created_at_idx", def = "{'customerId': 1, 'createdAt': 1, '_id': 1}")
 @Data
 @Builder
 @NoArgsConstructor
@@ -26,8 +30,14 @@ public class CustomerDocument implements Persistable<UUID> {
     @EqualsAndHashCode.Include
     private UUID id;
     private UUID customerId;
+
+    @TextIndexed
     private String note;
 
+    // Relevance of the document in a full-text search, not persisted
+    @TextScore
+    private Float score;
+
     @CreatedDate
     private Instant createdAt;
 
@@ -0,0 +1,105 @@
+package hu.bhr.crm.repository.specification;
+
+import hu.bhr.crm.model.CustomerFilter;
+import hu.bhr.crm.model.PageCursor;
+import hu.bhr.crm.repository.entity.CustomerEntity;
+import hu.bhr.crm.repository.entity.ResidenceEntity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+@UtilityClass
+public class CustomerSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    /**
+     * Builds the query for one page of the keyset-paginated customer listing.
+     * <p>
+     * The keyset condition is expressed as
+     * {@code created_at >= :createdAt AND (created_at > :createdAt OR id > :id)},
+     * so the leading range predicate can be served by the {@code (created_at, id)} index
+     * regardless of how deep the client pages.
+     * </p>
+     *
+     * @param filter the optional filters to apply (null fields are ignored)
+     * @param after  the position of the last element of the previous page (null for the first page)
+     * @return the combined {@link Specification}
+     */
+    public static Specification<CustomerEntity> pageQuery(CustomerFilter filter, PageCursor after) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (filter != null) {
+                addFilterPredicates(root, cb, filter, predicates);
+            }
+
+            if (after != null) {
+                Path<Instant> createdAt = root.get("createdAt");
+                Path<UUID> id = root.get("id");
+
+                predicates.add(cb.greaterThanOrEqualTo(createdAt, after.createdAt()));
+                predicates.add(cb.or(
+                        cb.greaterThan(createdAt, after.createdAt()),
+                        cb.greaterThan(id, after.id())));
+            }
+
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    private static void addFilterPredicates(Root<CustomerEntity> root,
+                                            CriteriaBuilder cb,
+                                            CustomerFilter filter,
+                                            List<Predicate> predicates) {
+
+        if (StringUtils.isNotBlank(filter.relationship())) {
+            predicates.add(cb.equal(
+                    cb.lower(root.<String>get("relationship")),
+                    normalize(filter.relationship())));
+        }
+
+        if (StringUtils.isNotBlank(filter.city())) {
+            Join<CustomerEntity, ResidenceEntity> residence = root.join("residence", JoinType.INNER);
+            predicates.add(cb.equal(
+                    cb.lower(residence.<String>get("city")),
+                    normalize(filter.city())));
+        }
+
+        if (StringUtils.isNotBlank(filter.namePrefix())) {
+            String pattern = escapeLike(normalize(filter.namePrefix())) + "%";
+            predicates.add(cb.or(
+                    cb.like(cb.lower(root.<String>get("firstName")), pattern, LIKE_ESCAPE),
+                    cb.like(cb.lower(root.<String>get("lastName")), pattern, LIKE_ESCAPE),
+                    cb.like(cb.lower(root.<String>get("nickname")), pattern, LIKE_ESCAPE)));
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
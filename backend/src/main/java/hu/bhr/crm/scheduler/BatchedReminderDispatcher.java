@@ -0,0 +1,54 @@
+package hu.bhr.crm.scheduler;
+
+import hu.bhr.crm.config.ReminderProperties;
+import hu.bhr.crm.metrics.ReminderMetrics;
+import hu.bhr.crm.service.EmailService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Coalesces reminders firing close together into one send pass.
+ * <p>
+ * The queued reminders are collected for up to {@code crm.reminder.batch-window} after the first
+ * one arrives, or until {@code crm.reminder.max-batch-size} are collected, and handed to
+ * {@link EmailService#createAndSendEmails}. It loads the tasks, customers and notes of the whole
+ * batch in bulk and sends all messages over one SMTP connection.
+ * </p>
+ * <p>
+ * Delivery is at most once, as the queued reminders are lost if the process dies before their batch is sent;
+ * see {@link CoalescingReminderDispatcher}.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "crm.reminder", name = "dispatch-mode", havingValue = "batched")
+public class BatchedReminderDispatcher extends CoalescingReminderDispatcher {
+
+    private final ReminderProperties reminderProperties;
+
+    public BatchedReminderDispatcher(EmailService emailService,
+                                   ReminderMetrics reminderMetrics,
+                                   ReminderProperties reminderProperties) {
+        super(emailService, reminderMetrics, "reminder-dispatcher");
+        this.reminderProperties = reminderProperties;
+    }
+
+    @Override
+    protected Duration window() {
+        return reminderProperties.getBatchWindow();
+    }
+
+    @Override
+    protected int maxSize() {
+        return reminderProperties.getMaxBatchSize();
+    }
+
+    @Override
+    protected Map<UUID, RuntimeException> send(List<UUID> taskIds) {
+        return emailService.createAndSendEmails(taskIds);
+    }
+}
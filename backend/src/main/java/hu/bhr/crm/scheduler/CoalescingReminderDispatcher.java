@@ -0,0 +1,184 @@
+package hu.bhr.crm.scheduler;
+
+import hu.bhr.crm.metrics.ReminderMetrics;
+import hu.bhr.crm.service.EmailService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base of the dispatchers coalescing reminders firing close together into one send pass.
+ * <p>
+ * A fired reminder is only queued, so the Quartz thread is released immediately. A single worker
+ * thread collects the queued reminders for up to the {@link #window()} after the first one arrives,
+ * or until {@link #maxSize()} are collected, and hands them to {@link #send(List)}.
+ * </p>
+ * <p>
+ * Reminders still queued on shutdown are sent before the dispatcher stops; reminders fired after
+ * that are sent right away, like in immediate mode.
+ * </p>
+ * <p>
+ * The queue lives in memory only, so delivery is at most once: a reminder is marked fired and its Quartz job
+ * is removed before it is queued, so if the process dies before its batch is sent, it is lost without a trace.
+ * The longer the window, the more reminders a crash can lose. The {@code outbox} dispatch mode persists
+ * every reminder before the trigger completes, and delivers at least once.
+ * </p>
+ * <p>
+ * The number of queued reminders is published as a gauge, and the time from queueing each reminder
+ * until its batch was sent is recorded as its delivery time.
+ * </p>
+ */
+@Slf4j
+abstract class CoalescingReminderDispatcher implements ReminderDispatcher {
+
+    protected final EmailService emailService;
+
+    private final ReminderMetrics reminderMetrics;
+    private final String workerName;
+    private final BlockingQueue<PendingReminder> pendingReminders = new LinkedBlockingQueue<>();
+    private final Object lifecycleLock = new Object();
+    private volatile boolean running;
+    private Thread worker;
+
+    protected CoalescingReminderDispatcher(EmailService emailService, ReminderMetrics reminderMetrics, String workerName) {
+        this.emailService = emailService;
+        this.reminderMetrics = reminderMetrics;
+        this.workerName = workerName;
+        reminderMetrics.registerQueue(workerName, pendingReminders);
+    }
+
+    /**
+     * @return how long reminders are collected after the first one arrives
+     */
+    protected abstract Duration window();
+
+    /**
+     * @return the maximum number of reminders sent in one pass
+     */
+    protected abstract int maxSize();
+
+    /**
+     * Sends the collected reminders.
+     *
+     * @param taskIds the unique identifiers of the tasks whose reminders are due
+     * @return the failure of each reminder that could not be sent, keyed by task ID
+     */
+    protected abstract Map<UUID, RuntimeException> send(List<UUID> taskIds);
+
+    @PostConstruct
+    void start() {
+        synchronized (lifecycleLock) {
+            running = true;
+            worker = Thread.ofPlatform()
+                    .name(workerName)
+                    .daemon()
+                    .start(this::dispatchBatches);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        synchronized (lifecycleLock) {
+            running = false;
+        }
+        worker.interrupt();
+        worker.join();
+
+        List<PendingReminder> remaining = new ArrayList<>();
+        pendingReminders.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            sendBatch(remaining);
+        }
+    }
+
+    @Override
+    public void dispatch(UUID taskId) {
+        synchronized (lifecycleLock) {
+            if (running) {
+                pendingReminders.add(new PendingReminder(taskId, Instant.now()));
+                return;
+            }
+        }
+
+        Instant firedAt = Instant.now();
+        try {
+            emailService.createAndSendEmail(taskId);
+        } catch (RuntimeException e) {
+            reminderMetrics.recordDelivery(firedAt, false);
+            throw e;
+        }
+        reminderMetrics.recordDelivery(firedAt, true);
+    }
+
+    private void dispatchBatches() {
+        while (running) {
+            List<PendingReminder> batch = new ArrayList<>();
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                // stopping; the reminders collected so far are still sent below
+            }
+
+            if (!batch.isEmpty()) {
+                sendBatch(batch);
+            }
+        }
+    }
+
+    /**
+     * Waits for the first queued reminder, then collects the ones arriving within the window.
+     */
+    private void collectBatch(List<PendingReminder> batch) throws InterruptedException {
+        int maxSize = maxSize();
+        batch.add(pendingReminders.take());
+
+        long deadline = System.nanoTime() + window().toNanos();
+        while (batch.size() < maxSize) {
+            pendingReminders.drainTo(batch, maxSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxSize || remaining <= 0) {
+                break;
+            }
+
+            PendingReminder next = pendingReminders.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void sendBatch(List<PendingReminder> batch) {
+        List<UUID> taskIds = batch.stream()
+                .map(PendingReminder::taskId)
+                .toList();
+
+        Map<UUID, RuntimeException> failures;
+        try {
+            failures = send(taskIds);
+            failures.forEach((taskId, e) -> log.error("Failed to send reminder of task {}", taskId, e));
+            log.debug("Sent {} of {} reminders in one pass", taskIds.size() - failures.size(), taskIds.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to send a batch of {} reminders", taskIds.size(), e);
+            failures = null;
+        }
+
+        for (PendingReminder reminder : batch) {
+            boolean sent = failures != null && !failures.containsKey(reminder.taskId());
+            reminderMetrics.recordDelivery(reminder.firedAt(), sent);
+        }
+    }
+
+    private record PendingReminder(UUID taskId, Instant firedAt) {
+    }
+}
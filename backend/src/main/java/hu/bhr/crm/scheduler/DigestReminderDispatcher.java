@@ -0,0 +1,55 @@
+package hu.bhr.crm.scheduler;
+
+import hu.bhr.crm.config.ReminderProperties;
+import hu.bhr.crm.metrics.ReminderMetrics;
+import hu.bhr.crm.service.EmailService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Sends the reminders firing within a window as one digest email.
+ * <p>
+ * The queued reminders are collected for up to {@code crm.reminder.digest.window} after the first
+ * one arrives, or until {@code crm.reminder.digest.max-reminders} are collected, and handed to
+ * {@link EmailService#createAndSendDigest}. It loads the data of all reminders in bulk and renders
+ * them into a single message, so hundreds of reminders due the same morning cost one SMTP transaction.
+ * </p>
+ * <p>
+ * Delivery is at most once: the reminders waiting for their digest are lost if the process dies before it is sent,
+ * see {@link CoalescingReminderDispatcher}. The window is therefore kept short, 30 seconds by default,
+ * which still merges the reminders set for the same time.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "crm.reminder", name = "dispatch-mode", havingValue = "digest")
+public class DigestReminderDispatcher extends CoalescingReminderDispatcher {
+
+    private final ReminderProperties reminderProperties;
+
+    public DigestReminderDispatcher(EmailService emailService,
+                                  ReminderMetrics reminderMetrics,
+                                  ReminderProperties reminderProperties) {
+        super(emailService, reminderMetrics, "reminder-digest-dispatcher");
+        this.reminderProperties = reminderProperties;
+    }
+
+    @Override
+    protected Duration window() {
+        return reminderProperties.getDigest().getWindow();
+    }
+
+    @Override
+    protected int maxSize() {
+        return reminderProperties.getDigest().getMaxReminders();
+    }
+
+    @Override
+    protected Map<UUID, RuntimeException> send(List<UUID> taskIds) {
+        return emailService.createAndSendDigest(taskIds);
+    }
+}
@@ -1,22 +1,34 @@
 package hu.bhr.crm.scheduler;
 
-import hu.bhr.crm.service.EmailService;
+import hu.bhr.crm.metrics.ReminderMetrics;
+import hu.bhr.crm.repository.TaskRepository;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 public class EmailJob implements Job {
 
-    private final EmailService emailService;
+    private final ReminderDispatcher reminderDispatcher;
+    private final TaskRepository taskRepository;
+    private final ReminderMetrics reminderMetrics;
 
-    public EmailJob(EmailService emailService) {
-        this.emailService = emailService;
+    public EmailJob(ReminderDispatcher reminderDispatcher, TaskRepository taskRepository, ReminderMetrics reminderMetrics) {
+        this.reminderDispatcher = reminderDispatcher;
+        this.taskRepository = taskRepository;
+        this.reminderMetrics = reminderMetrics;
     }
 
     @Override
     public void execute(JobExecutionContext context) {
         UUID taskId = UUID.fromString(context.getMergedJobDataMap().getString(EmailSchedulerConstants.TASK_ID_KEY));
-        emailService.createAndSendEmail(taskId);
+        // the start time, unlike the scheduled fire time, is not moved to the firing time by a misfire
+        reminderMetrics.recordFired("quartz",
+                context.getTrigger().getStartTime().toInstant(), context.getFireTime().toInstant());
+        // keeps the reminder index accurate, so switching to the polling engine does not send it again
+        taskRepository.markRemindersFired(List.of(taskId), Instant.now());
+        reminderDispatcher.dispatch(taskId);
     }
 }
@@ -0,0 +1,107 @@
+package hu.bhr.crm.scheduler;
+
+import hu.bhr.crm.config.ReminderProperties;
+import hu.bhr.crm.repository.entity.EmailOutboxEntity;
+import hu.bhr.crm.service.EmailOutboxService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drains the email outbox with a bounded pool of sender threads.
+ * <p>
+ * Every {@code crm.reminder.outbox.poll-interval}, as many due entries are claimed as the pool can
+ * take: {@value #PREFETCH_PER_THREAD} per sender thread, minus the entries still in flight. A slow or
+ * unreachable SMTP server therefore only holds the sender threads, never the Quartz threads.
+ * The number of entries in flight is published as the {@code crm.email.outbox.in.flight} gauge.
+ * Every {@code crm.reminder.outbox.purge-interval}, the entries sent longer than the retention ago are deleted.
+ * </p>
+ * <p>
+ * With {@code spring.threads.virtual.enabled}, the senders are virtual threads, still at most
+ * {@code crm.reminder.outbox.sender-threads} at once.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "crm.reminder", name = "dispatch-mode", havingValue = "outbox")
+public class EmailOutboxSender {
+
+    private static final int PREFETCH_PER_THREAD = 4;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final EmailOutboxService emailOutboxService;
+    private final int capacity;
+    private final ExecutorService senderPool;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public EmailOutboxSender(EmailOutboxService emailOutboxService,
+                             ReminderProperties reminderProperties,
+                             MeterRegistry meterRegistry,
+                             Environment environment) {
+        int senderThreads = reminderProperties.getOutbox().getSenderThreads();
+        this.emailOutboxService = emailOutboxService;
+        this.capacity = senderThreads * PREFETCH_PER_THREAD;
+        Thread.Builder senderThreadBuilder = Threading.VIRTUAL.isActive(environment)
+                ? Thread.ofVirtual()
+                : Thread.ofPlatform().daemon();
+        this.senderPool = Executors.newFixedThreadPool(senderThreads,
+                senderThreadBuilder.name("email-outbox-sender-", 0).factory());
+
+        Gauge.builder("crm.email.outbox.in.flight", inFlight, AtomicInteger::get)
+                .description("Outbox entries claimed and not yet delivered")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${crm.reminder.outbox.poll-interval:1s}")
+    public void pollOutbox() {
+        int free = capacity - inFlight.get();
+        if (free <= 0) {
+            return;
+        }
+
+        List<EmailOutboxEntity> entries = emailOutboxService.claimDueEntries(free);
+        for (EmailOutboxEntity entry : entries) {
+            inFlight.incrementAndGet();
+            senderPool.execute(() -> deliver(entry));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${crm.reminder.outbox.purge-interval:1h}")
+    public void purgeSentEntries() {
+        int purged = emailOutboxService.purgeSentEntries();
+        if (purged > 0) {
+            log.info("Purged {} sent outbox entries", purged);
+        }
+    }
+
+    private void deliver(EmailOutboxEntity entry) {
+        try {
+            emailOutboxService.deliver(entry);
+        } catch (RuntimeException e) {
+            // the lease expires and the entry is claimed again
+            log.error("Recording the delivery of outbox entry {} failed", entry.getId(), e);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        senderPool.shutdown();
+        if (!senderPool.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("{} outbox entries still in flight on shutdown, they are retried after their lease", inFlight.get());
+        }
+    }
+}
@@ -2,14 +2,19 @@ package hu.bhr.crm.scheduler;
 
 import hu.bhr.crm.exception.EmailScheduleException;
 import lombok.RequiredArgsConstructor;
+import org.quartz.JobDetail;
 import org.quartz.JobKey;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.Trigger;
-import org.quartz.TriggerKey;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -19,11 +24,14 @@ import java.util.UUID;
  * and provides high-level methods to schedule, reschedule, or cancel email reminders
  * associated with specific tasks. It maps Task IDs to Quartz JobKeys and TriggerKeys
  * to maintain a 1:1 relationship between a task and its reminder job.
+ * The bulk operations hand all jobs over to Quartz in one call, which stores them in one
+ * job store transaction under one lock acquisition.
  * </p>
  */
 @Service
+@ConditionalOnProperty(prefix = "crm.reminder", name = "engine", havingValue = "quartz", matchIfMissing = true)
 @RequiredArgsConstructor
-public class EmailSchedulerService {
+public class EmailSchedulerService implements ReminderScheduler {
 
     private final Scheduler scheduler;
 
@@ -38,6 +46,7 @@ public class EmailSchedulerService {
      * @param reminderDate the exact date and time when the email should be sent
      * @throws EmailScheduleException if the underlying Quartz scheduler fails to schedule the job
      */
+    @Override
     public void scheduleEmail(UUID taskId, Instant reminderDate) {
         try {
             var jobDetail = EmailJobDetailFactory.createEmailJobDetail(taskId);
@@ -52,30 +61,18 @@ public class EmailSchedulerService {
     /**
      * Removes an existing email schedule for a task.
      * <p>
-     * This method attempts to unschedule the trigger and delete the job associated
-     * with the given task ID. It performs existence checks before deletion to ensure
-     * safety and idempotency (calling it multiple times won't cause errors).
+     * Deleting the job associated with the given task ID also unschedules its trigger,
+     * in a single job store transaction. Deleting a job that does not exist does nothing,
+     * so calling it multiple times won't cause errors.
      * </p>
      *
      * @param taskId the unique identifier of the task whose reminder should be cancelled
      * @throws EmailScheduleException if the Quartz scheduler encounters an error during deletion
      */
+    @Override
     public void deleteEmailSchedule(UUID taskId) {
         try {
-            TriggerKey triggerKey = TriggerKey.triggerKey(
-                    EmailSchedulerConstants.EMAIL_TRIGGER_KEY_PREFIX + taskId,
-                    EmailSchedulerConstants.EMAIL_TRIGGER_GROUP);
-            if (scheduler.checkExists(triggerKey)) {
-                scheduler.unscheduleJob(triggerKey);
-            }
-
-            JobKey jobkey = JobKey.jobKey(
-                    EmailSchedulerConstants.EMAIL_JOB_KEY_PREFIX + taskId,
-                    EmailSchedulerConstants.EMAIL_JOB_GROUP);
-            if (scheduler.checkExists(jobkey)) {
-                scheduler.deleteJob(jobkey);
-            }
-
+            scheduler.deleteJob(jobKey(taskId));
         } catch (SchedulerException e) {
             throw new EmailScheduleException("Failed to delete email schedule", e);
         }
@@ -84,7 +81,8 @@ public class EmailSchedulerService {
     /**
      * Reschedules an existing email job to a new time.
      * <p>
-     * Updates the trigger associated with the task ID to fire at the new provided time.
+     * Replaces the job and the trigger associated with the task ID, like {@link #updateEmailScheduleTimes(Map)},
+     * so a task whose reminder has already fired, and whose job is therefore gone, gets a new job as well.
      * This is typically used when a task's reminder date is modified by the user.
      * </p>
      *
@@ -92,15 +90,84 @@ public class EmailSchedulerService {
      * @param reminderDate the new date and time for the reminder
      * @throws EmailScheduleException if the Quartz scheduler fails to reschedule the job
      */
+    @Override
     public void updateEmailScheduleTime(UUID taskId, Instant reminderDate) {
         try {
-            TriggerKey triggerKey = TriggerKey.triggerKey(
-                    EmailSchedulerConstants.EMAIL_TRIGGER_KEY_PREFIX + taskId,
-                    EmailSchedulerConstants.EMAIL_TRIGGER_GROUP);
-            Trigger newTrigger = EmailTriggerFactory.createTrigger(taskId, reminderDate);
-            scheduler.rescheduleJob(triggerKey, newTrigger);
+            var jobDetail = EmailJobDetailFactory.createEmailJobDetail(taskId);
+            var trigger = EmailTriggerFactory.createTrigger(taskId, reminderDate);
+
+            scheduler.scheduleJob(jobDetail, Set.of(trigger), true);
         } catch (SchedulerException e) {
             throw new EmailScheduleException("Failed to update email schedule time", e);
         }
     }
+
+    /**
+     * Schedules the email reminder jobs of many tasks at once.
+     *
+     * @param reminderDatesByTaskId the reminder date of each task
+     * @throws EmailScheduleException if the Quartz scheduler fails to schedule the jobs; none of them is stored then
+     */
+    @Override
+    public void scheduleEmails(Map<UUID, Instant> reminderDatesByTaskId) {
+        try {
+            if (!reminderDatesByTaskId.isEmpty()) {
+                scheduler.scheduleJobs(jobsWithTriggers(reminderDatesByTaskId), false);
+            }
+        } catch (SchedulerException e) {
+            throw new EmailScheduleException("Failed to schedule email jobs", e);
+        }
+    }
+
+    /**
+     * Removes the email schedules of many tasks at once. Tasks without a scheduled job are skipped.
+     *
+     * @param taskIds the unique identifiers of the tasks whose reminders should be cancelled
+     * @throws EmailScheduleException if the Quartz scheduler encounters an error during deletion
+     */
+    @Override
+    public void deleteEmailSchedules(Collection<UUID> taskIds) {
+        try {
+            if (!taskIds.isEmpty()) {
+                scheduler.deleteJobs(taskIds.stream()
+                        .map(EmailSchedulerService::jobKey)
+                        .toList());
+            }
+        } catch (SchedulerException e) {
+            throw new EmailScheduleException("Failed to delete email schedules", e);
+        }
+    }
+
+    /**
+     * Reschedules the email jobs of many tasks at once.
+     * <p>
+     * The jobs and triggers of the tasks are replaced in one call, so a task whose reminder has
+     * already fired gets a new job as well.
+     * </p>
+     *
+     * @param reminderDatesByTaskId the new reminder date of each task
+     * @throws EmailScheduleException if the Quartz scheduler fails to reschedule the jobs
+     */
+    @Override
+    public void updateEmailScheduleTimes(Map<UUID, Instant> reminderDatesByTaskId) {
+        try {
+            if (!reminderDatesByTaskId.isEmpty()) {
+                scheduler.scheduleJobs(jobsWithTriggers(reminderDatesByTaskId), true);
+            }
+        } catch (SchedulerException e) {
+            throw new EmailScheduleException("Failed to update email schedule times", e);
+        }
+    }
+
+    private static Map<JobDetail, Set<? extends Trigger>> jobsWithTriggers(Map<UUID, Instant> reminderDatesByTaskId) {
+        Map<JobDetail, Set<? extends Trigger>> jobsWithTriggers = HashMap.newHashMap(reminderDatesByTaskId.size());
+        reminderDatesByTaskId.forEach((taskId, reminderDate) -> jobsWithTriggers.put(
+                EmailJobDetailFactory.createEmailJobDetail(taskId),
+                Set.of(EmailTriggerFactory.createTrigger(taskId, reminderDate))));
+        return jobsWithTriggers;
+    }
+
+    private static JobKey jobKey(UUID taskId) {
+        return JobKey.jobKey(EmailSchedulerConstants.EMAIL_JOB_KEY_PREFIX + taskId, EmailSchedulerConstants.EMAIL_JOB_GROUP);
+    }
 }
@@ -0,0 +1,34 @@
+package hu.bhr.crm.scheduler;
+
+import hu.bhr.crm.metrics.ReminderMetrics;
+import hu.bhr.crm.service.EmailService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Sends every reminder right away, on the Quartz thread that fired it.
+ */
+@Component
+@ConditionalOnProperty(prefix = "crm.reminder", name = "dispatch-mode", havingValue = "immediate", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ImmediateReminderDispatcher implements ReminderDispatcher {
+
+    private final EmailService emailService;
+    private final ReminderMetrics reminderMetrics;
+
+    @Override
+    public void dispatch(UUID taskId) {
+        Instant firedAt = Instant.now();
+        try {
+            emailService.createAndSendEmail(taskId);
+        } catch (RuntimeException e) {
+            reminderMetrics.recordDelivery(firedAt, false);
+            throw e;
+        }
+        reminderMetrics.recordDelivery(firedAt, true);
+    }
+}
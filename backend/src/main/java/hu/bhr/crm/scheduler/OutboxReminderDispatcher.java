@@ -0,0 +1,31 @@
+package hu.bhr.crm.scheduler;
+
+import hu.bhr.crm.service.EmailOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Stores every reminder in the email outbox, releasing the Quartz thread after a single insert.
+ * The reminders are sent by {@link EmailOutboxSender}. The insert joins the current transaction,
+ * so the polling engine stores a reminder in the same transaction that claims it.
+ */
+@Component
+@ConditionalOnProperty(prefix = "crm.reminder", name = "dispatch-mode", havingValue = "outbox")
+@RequiredArgsConstructor
+public class OutboxReminderDispatcher implements ReminderDispatcher {
+
+    private final EmailOutboxService emailOutboxService;
+
+    @Override
+    public void dispatch(UUID taskId) {
+        emailOutboxService.enqueue(taskId);
+    }
+
+    @Override
+    public boolean isTransactional() {
+        return true;
+    }
+}
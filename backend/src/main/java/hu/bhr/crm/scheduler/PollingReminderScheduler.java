@@ -0,0 +1,159 @@
+package hu.bhr.crm.scheduler;
+
+import hu.bhr.crm.config.ReminderProperties;
+import hu.bhr.crm.exception.EmailScheduleException;
+import hu.bhr.crm.metrics.ReminderMetrics;
+import hu.bhr.crm.repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Reminder engine reading the due reminders straight from the {@code task} table.
+ * <p>
+ * The {@code task.reminder} column, through a partial index on the reminders that have not fired yet,
+ * is the reminder index itself, so creating or moving a reminder needs no scheduler state at all:
+ * <ul>
+ * <li>Every {@code crm.reminder.polling.poll-interval}, the reminders that came due since the previous
+ * poll are claimed with {@code FOR UPDATE SKIP LOCKED} in batches of {@code crm.reminder.polling.batch-size},
+ * marked as fired and handed over to the {@link ReminderDispatcher}. Several instances never claim the same reminder.</li>
+ * <li>Moving or removing a reminder clears its fired state, so a reminder set again fires again.</li>
+ * <li>On startup, the email jobs left in Quartz by the {@code quartz} engine are deleted. The reminders they
+ * stood for have not fired yet, so they are picked up by the next poll.</li>
+ * </ul>
+ * A reminder is marked as fired before it is dispatched. With the {@code outbox} dispatch mode, the claimed
+ * reminders are stored in the outbox in the transaction that marks them as fired, so either both are committed,
+ * or the claim is rolled back and the reminders are claimed again by the next poll. With the other dispatch modes,
+ * the claim is committed first, so delivery is at most once: a reminder claimed by an instance that stops
+ * before sending it is not sent.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "crm.reminder", name = "engine", havingValue = "polling")
+@RequiredArgsConstructor
+public class PollingReminderScheduler implements ReminderScheduler {
+
+    private final TaskRepository taskRepository;
+    private final ReminderDispatcher reminderDispatcher;
+    private final TransactionTemplate transactionTemplate;
+    private final ReminderProperties reminderProperties;
+    private final Scheduler scheduler;
+    private final ReminderMetrics reminderMetrics;
+
+    /**
+     * Nothing to do: a new task with a reminder is already among the pending reminders.
+     */
+    @Override
+    public void scheduleEmail(UUID taskId, Instant reminderDate) {
+    }
+
+    @Override
+    public void deleteEmailSchedule(UUID taskId) {
+        taskRepository.resetRemindersFiredAt(List.of(taskId));
+    }
+
+    @Override
+    public void updateEmailScheduleTime(UUID taskId, Instant reminderDate) {
+        taskRepository.resetRemindersFiredAt(List.of(taskId));
+    }
+
+    /**
+     * Nothing to do: new tasks with a reminder are already among the pending reminders.
+     */
+    @Override
+    public void scheduleEmails(Map<UUID, Instant> reminderDatesByTaskId) {
+    }
+
+    @Override
+    public void deleteEmailSchedules(Collection<UUID> taskIds) {
+        if (!taskIds.isEmpty()) {
+            taskRepository.resetRemindersFiredAt(taskIds);
+        }
+    }
+
+    @Override
+    public void updateEmailScheduleTimes(Map<UUID, Instant> reminderDatesByTaskId) {
+        if (!reminderDatesByTaskId.isEmpty()) {
+            taskRepository.resetRemindersFiredAt(reminderDatesByTaskId.keySet());
+        }
+    }
+
+    /**
+     * Deletes the email jobs of the Quartz engine, so their reminders are not sent twice.
+     *
+     * @throws EmailScheduleException if the jobs cannot be deleted
+     */
+    @PostConstruct
+    void migrateQuartzJobs() {
+        try {
+            Set<JobKey> jobKeys = scheduler.getJobKeys(GroupMatcher.jobGroupEquals(EmailSchedulerConstants.EMAIL_JOB_GROUP));
+            if (!jobKeys.isEmpty()) {
+                scheduler.deleteJobs(new ArrayList<>(jobKeys));
+                log.info("Moved {} Quartz email jobs over to the polling reminder engine", jobKeys.size());
+            }
+        } catch (SchedulerException e) {
+            throw new EmailScheduleException("Failed to migrate the Quartz email jobs", e);
+        }
+    }
+
+    /**
+     * Claims and dispatches the due reminders, batch by batch, until no full batch is left.
+     */
+    @Scheduled(fixedDelayString = "${crm.reminder.polling.poll-interval:1s}")
+    public void pollDueReminders() {
+        int batchSize = reminderProperties.getPolling().getBatchSize();
+        List<UUID> taskIds;
+        do {
+            taskIds = claimDueReminders(batchSize);
+            // a transactional dispatcher was already given the reminders while claiming them
+            if (!taskIds.isEmpty() && !reminderDispatcher.isTransactional()) {
+                taskIds.forEach(this::dispatch);
+            }
+        } while (taskIds.size() == batchSize);
+    }
+
+    private List<UUID> claimDueReminders(int limit) {
+        Instant now = Instant.now();
+        List<UUID> taskIds = transactionTemplate.execute(status -> {
+            List<UUID> dueTaskIds = taskRepository.findDueReminderIdsForUpdate(now, limit);
+            if (!dueTaskIds.isEmpty()) {
+                taskRepository.markRemindersFired(dueTaskIds, now);
+                taskRepository.findRemindersByIdIn(dueTaskIds)
+                        .forEach(reminder -> reminderMetrics.recordFired("polling", reminder, now));
+                if (reminderDispatcher.isTransactional()) {
+                    // a failure rolls back the claim of the whole batch
+                    dueTaskIds.forEach(reminderDispatcher::dispatch);
+                }
+            }
+            return dueTaskIds;
+        });
+
+        return Objects.requireNonNull(taskIds);
+    }
+
+    private void dispatch(UUID taskId) {
+        try {
+            reminderDispatcher.dispatch(taskId);
+        } catch (RuntimeException e) {
+            log.error("Dispatching the reminder of task {} failed", taskId, e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package hu.bhr.crm.scheduler;
+
+import java.util.UUID;
+
+/**
+ * Sends the reminder email of a task whose reminder trigger has fired.
+ * <p>
+ * The implementation is selected with {@code crm.reminder.dispatch-mode}:
+ * <ul>
+ * <li>{@code immediate} (default): {@link ImmediateReminderDispatcher} sends each reminder on the firing Quartz thread.</li>
+ * <li>{@code batched}: {@link BatchedReminderDispatcher} coalesces reminders firing close together into one send pass.</li>
+ * <li>{@code digest}: {@link DigestReminderDispatcher} sends the reminders firing within a window as one digest email.</li>
+ * <li>{@code outbox}: {@link OutboxReminderDispatcher} stores the reminder in the email outbox, sent asynchronously with retries.</li>
+ * </ul>
+ * </p>
+ */
+public interface ReminderDispatcher {
+
+    /**
+     * Sends, or queues for sending, the reminder of the given task.
+     *
+     * @param taskId the unique identifier of the task whose reminder is due
+     */
+    void dispatch(UUID taskId);
+
+    /**
+     * Tells whether {@link #dispatch(UUID)} only writes to the database, so a reminder can be dispatched
+     * in the transaction that claimed it, and the claim is rolled back if the dispatch fails.
+     *
+     * @return true if dispatching joins the current transaction
+     */
+    default boolean isTransactional() {
+        return false;
+    }
+}
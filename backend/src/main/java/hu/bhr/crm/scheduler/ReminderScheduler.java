@@ -0,0 +1,72 @@
+package hu.bhr.crm.scheduler;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps the reminder schedule of tasks in sync with their reminder dates.
+ * <p>
+ * The engine is selected with {@code crm.reminder.engine}:
+ * <ul>
+ * <li>{@code quartz} (default): {@link EmailSchedulerService} stores a Quartz job and trigger per task.</li>
+ * <li>{@code polling}: {@link PollingReminderScheduler} claims due reminders straight from the indexed
+ * {@code task.reminder} column, without any per-task scheduler state.</li>
+ * </ul>
+ * Either way, the due reminders are handed over to the configured {@link ReminderDispatcher}.
+ * The bulk variants apply a change to many tasks in a single scheduler transaction.
+ * </p>
+ */
+public interface ReminderScheduler {
+
+    /**
+     * Schedules the reminder of a newly created task.
+     *
+     * @param taskId the unique identifier of the task requiring a reminder
+     * @param reminderDate the exact date and time when the email should be sent
+     * @throws hu.bhr.crm.exception.EmailScheduleException if the reminder cannot be scheduled
+     */
+    void scheduleEmail(UUID taskId, Instant reminderDate);
+
+    /**
+     * Cancels the reminder of a task, if any. Calling it repeatedly has no further effect.
+     *
+     * @param taskId the unique identifier of the task whose reminder should be cancelled
+     * @throws hu.bhr.crm.exception.EmailScheduleException if the reminder cannot be cancelled
+     */
+    void deleteEmailSchedule(UUID taskId);
+
+    /**
+     * Moves the reminder of a task to a new time.
+     *
+     * @param taskId the unique identifier of the task
+     * @param reminderDate the new date and time for the reminder
+     * @throws hu.bhr.crm.exception.EmailScheduleException if the reminder cannot be rescheduled
+     */
+    void updateEmailScheduleTime(UUID taskId, Instant reminderDate);
+
+    /**
+     * Schedules the reminders of many tasks in a single scheduler transaction.
+     *
+     * @param reminderDatesByTaskId the reminder date of each task
+     * @throws hu.bhr.crm.exception.EmailScheduleException if the reminders cannot be scheduled; none of them is then
+     */
+    void scheduleEmails(Map<UUID, Instant> reminderDatesByTaskId);
+
+    /**
+     * Cancels the reminders of many tasks in a single scheduler transaction. Tasks without a reminder are skipped.
+     *
+     * @param taskIds the unique identifiers of the tasks whose reminders should be cancelled
+     * @throws hu.bhr.crm.exception.EmailScheduleException if the reminders cannot be cancelled; none of them is then
+     */
+    void deleteEmailSchedules(Collection<UUID> taskIds);
+
+    /**
+     * Moves the reminders of many tasks in a single scheduler transaction.
+     *
+     * @param reminderDatesByTaskId the new reminder date of each task
+     * @throws hu.bhr.crm.exception.EmailScheduleException if the reminders cannot be rescheduled; none of them is then
+     */
+    void updateEmailScheduleTimes(Map<UUID, Instant> reminderDatesByTaskId);
+}
@@ -0,0 +1,121 @@
+package hu.bhr.crm.scheduler;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.SchedulerConfigException;
+import org.quartz.spi.ThreadPool;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quartz {@link ThreadPool} running every job on a virtual thread of its own.
+ * <p>
+ * Selected with {@code org.quartz.threadPool.class}, and configured like Quartz's {@code SimpleThreadPool}:
+ * <ul>
+ * <li>At most {@code org.quartz.threadPool.threadCount} jobs run at once, as every job holds a JDBC
+ * connection while it runs. A blocked job parks its virtual thread instead of a platform thread.</li>
+ * <li>{@link #blockForAvailableThreads()} reports the number of free slots, so the scheduler keeps acquiring
+ * triggers in batches. Spring's {@code LocalTaskExecutorThreadPool}, used when the scheduler is given a
+ * task executor, always reports a single one.</li>
+ * </ul>
+ * </p>
+ */
+@Slf4j
+public class VirtualThreadPool implements ThreadPool {
+
+    private static final long SHUTDOWN_POLL_SECONDS = 5;
+
+    @Getter
+    @Setter
+    private int threadCount = 10;
+
+    private String threadNamePrefix = "quartz-worker-";
+    private Semaphore permits;
+    private ExecutorService executor;
+    private volatile boolean shutdown;
+
+    @Override
+    public void initialize() throws SchedulerConfigException {
+        if (threadCount <= 0) {
+            throw new SchedulerConfigException("Thread count must be > 0");
+        }
+
+        permits = new Semaphore(threadCount);
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+    }
+
+    @Override
+    public boolean runInThread(Runnable runnable) {
+        if (runnable == null || shutdown) {
+            return false;
+        }
+
+        // the scheduler waits in blockForAvailableThreads first, so a permit is normally free
+        permits.acquireUninterruptibly();
+        try {
+            executor.execute(() -> {
+                try {
+                    runnable.run();
+                } finally {
+                    permits.release();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            return false;
+        }
+    }
+
+    @Override
+    public int blockForAvailableThreads() {
+        if (shutdown) {
+            return 0;
+        }
+
+        permits.acquireUninterruptibly();
+        permits.release();
+        return Math.max(permits.availablePermits(), 1);
+    }
+
+    @Override
+    public void shutdown(boolean waitForJobsToComplete) {
+        shutdown = true;
+        if (executor == null) {
+            return;
+        }
+
+        executor.shutdown();
+        if (!waitForJobsToComplete) {
+            return;
+        }
+
+        try {
+            while (!executor.awaitTermination(SHUTDOWN_POLL_SECONDS, TimeUnit.SECONDS)) {
+                log.info("Waiting for {} Quartz jobs to complete", threadCount - permits.availablePermits());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public int getPoolSize() {
+        return threadCount;
+    }
+
+    @Override
+    public void setInstanceId(String schedId) {
+        // the thread names only carry the scheduler name
+    }
+
+    @Override
+    public void setInstanceName(String schedName) {
+        threadNamePrefix = schedName + "_Worker-";
+    }
+}
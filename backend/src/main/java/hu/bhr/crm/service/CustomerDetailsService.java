@@ -1,16 +1,33 @@
 package hu.bhr.crm.service;
 
+import hu.bhr.crm.config.CustomerDetailsProperties;
+import hu.bhr.crm.event.CustomerChangedEvent;
 import hu.bhr.crm.exception.CustomerDetailsNotFoundException;
 import hu.bhr.crm.exception.CustomerNotFoundException;
+import hu.bhr.crm.exception.InvalidRequestException;
 import hu.bhr.crm.mapper.CustomerDetailsMapper;
+import hu.bhr.crm.model.CursorPage;
 import hu.bhr.crm.model.CustomerDetails;
+import hu.bhr.crm.model.PageCursor;
+import hu.bhr.crm.model.SearchPage;
 import hu.bhr.crm.repository.mongo.CustomerDocumentRepository;
 import hu.bhr.crm.repository.mongo.document.CustomerDocument;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.TextCriteria;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Service class for managing additional, potentially unstructured Customer Details.
@@ -25,9 +42,16 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class CustomerDetailsService {
 
+    public static final int MAX_PAGE_SIZE = 200;
+
+    // "score" is mapped to the text score of the documents, the ID keeps the order of ties stable
+    private static final Sort RELEVANCE_SORT = Sort.by("score").and(Sort.by("id"));
+
     private final CustomerDocumentRepository customerDocumentRepository;
     private final CustomerDetailsMapper mapper;
     private final CustomerService customerService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CustomerDetailsProperties customerDetailsProperties;
 
     /**
      * Retrieves a specific customer detail document by its unique identifier.
@@ -64,6 +88,114 @@ public class CustomerDetailsService {
                 .toList();
     }
 
+    /**
+     * Retrieves one page of the detail records of a customer, ordered by creation time.
+     * <p>
+     * Instead of an offset, the page starts right after the {@code (createdAt, id)} position of the last record
+     * of the previous page, and the query is served by the {@code {customerId, createdAt}} index, so the cost of
+     * a page does not depend on how many notes the customer has. One extra record is fetched to detect whether
+     * a next page exists. With the note preview, only the beginning of each note is loaded.
+     * </p>
+     *
+     * @param customerId  the unique UUID of the customer whose details are requested
+     * @param after       the position of the last record of the previous page, or null for the first page
+     * @param limit       the maximum number of records on the page (between 1 and {@value #MAX_PAGE_SIZE})
+     * @param notePreview whether the notes are truncated to a preview
+     * @return a {@link CursorPage} of {@link CustomerDetails} objects with the cursor of the next page
+     * @throws InvalidRequestException if the page size is out of the allowed range
+     * @throws CustomerNotFoundException if the provided customerId does not exist in the primary repository
+     */
+    public CursorPage<CustomerDetails> getCustomerDetailsPage(UUID customerId,
+                                                              PageCursor after,
+                                                              int limit,
+                                                              boolean notePreview) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException(
+                    String.format("Page size must be between 1 and %d", MAX_PAGE_SIZE));
+        }
+        customerService.validateCustomerExists(customerId);
+
+        List<CustomerDocument> customerDocuments =
+                customerDocumentRepository.findPageByCustomerId(customerId, after, limit + 1, notePreview);
+
+        boolean hasNext = customerDocuments.size() > limit;
+        List<CustomerDocument> pageDocuments = hasNext ? customerDocuments.subList(0, limit) : customerDocuments;
+
+        PageCursor nextCursor = null;
+        if (hasNext) {
+            CustomerDocument last = pageDocuments.getLast();
+            nextCursor = new PageCursor(last.getCreatedAt(), last.getId());
+        }
+
+        List<CustomerDetails> customerDetails = pageDocuments.stream()
+                .map(mapper::customerDocumentToCustomerDetails)
+                .toList();
+
+        return new CursorPage<>(customerDetails, nextCursor);
+    }
+
+    /**
+     * Searches the notes of all customers, or of a single customer, ranked by relevance.
+     * <p>
+     * The search is served by the text index on the notes, so the words are matched after stemming,
+     * and a phrase can be matched by putting it in double quotes. Pages are addressed by number;
+     * one extra document is fetched to detect whether a next page exists, so the matches are not counted.
+     * </p>
+     *
+     * @param text       the words or quoted phrases to search for
+     * @param customerId the unique UUID of the customer whose notes are searched, or null to search all notes
+     * @param page       the zero-based number of the page
+     * @param size       the maximum number of results on the page (between 1 and {@value #MAX_PAGE_SIZE})
+     * @return a {@link SearchPage} of {@link CustomerDetails} objects, most relevant first
+     * @throws InvalidRequestException if the text is blank, or the page or its size is out of the allowed range
+     * @throws CustomerNotFoundException if the provided customerId does not exist in the primary repository
+     */
+    public SearchPage<CustomerDetails> searchCustomerDetails(String text, UUID customerId, int page, int size) {
+        if (StringUtils.isBlank(text)) {
+            throw new InvalidRequestException("Search text is required");
+        }
+        if (page < 0) {
+            throw new InvalidRequestException("Page number must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException(
+                    String.format("Page size must be between 1 and %d", MAX_PAGE_SIZE));
+        }
+
+        TextCriteria criteria = TextCriteria.forDefaultLanguage().matching(text);
+        Pageable pageable = PageRequest.of(page, size, RELEVANCE_SORT);
+
+        Slice<CustomerDocument> customerDocuments;
+        if (customerId == null) {
+            customerDocuments = customerDocumentRepository.findAllBy(criteria, pageable);
+        } else {
+            customerService.validateCustomerExists(customerId);
+            customerDocuments = customerDocumentRepository.findAllByCustomerId(customerId, criteria, pageable);
+        }
+
+        List<CustomerDetails> customerDetails = customerDocuments.stream()
+                .map(mapper::customerDocumentToCustomerDetails)
+                .toList();
+
+        return new SearchPage<>(customerDetails, page, customerDocuments.hasNext());
+    }
+
+    /**
+     * Retrieves the detail records of several customers in a single query, grouped by customer.
+     * <p>
+     * Unlike {@link #getAllCustomerDetails(UUID)}, the existence of the customers is not validated;
+     * the caller is expected to have loaded them already. Customers without details have no entry.
+     * </p>
+     *
+     * @param customerIds the unique UUIDs of the customers whose details are requested
+     * @return a {@link Map} from customer ID to the {@link CustomerDetails} of that customer
+     */
+    public Map<UUID, List<CustomerDetails>> getAllCustomerDetailsByCustomerIds(Collection<UUID> customerIds) {
+        return customerDocumentRepository.findAllByCustomerIdIn(customerIds).stream()
+                .map(mapper::customerDocumentToCustomerDetails)
+                .collect(Collectors.groupingBy(CustomerDetails::customerId));
+    }
+
     /**
      * Persists new customer details.
      * <p>
@@ -81,10 +213,50 @@ public class CustomerDetailsService {
 
         CustomerDocument customerDocument = mapper.customerDetailsToCustomerDocument(customerDetails);
         CustomerDocument savedDocument = customerDocumentRepository.save(customerDocument);
+        eventPublisher.publishEvent(new CustomerChangedEvent(customerDetails.customerId()));
 
         return mapper.customerDocumentToCustomerDetails(savedDocument);
     }
 
+    /**
+     * Persists many new notes of a single customer at once.
+     * <p>
+     * The existence of the customer is validated once for all notes. The notes are written in chunks of
+     * {@code crm.customer-details.bulk-chunk-size}, each chunk with a single unordered bulk write, so migrating
+     * thousands of notes takes a few round trips instead of two per note. The writes are not transactional:
+     * if a chunk fails, the notes of the previous chunks remain stored.
+     * </p>
+     *
+     * @param customerId          the unique UUID of the customer the notes belong to
+     * @param customerDetailsList the domain objects containing the notes
+     * @return the saved {@link CustomerDetails} objects, in the order of the input
+     * @throws InvalidRequestException if the number of notes is out of the allowed range
+     * @throws CustomerNotFoundException if the referenced customer does not exist in the system
+     */
+    public List<CustomerDetails> saveAllCustomerDetails(UUID customerId, List<CustomerDetails> customerDetailsList) {
+        int maxBulkSize = customerDetailsProperties.getMaxBulkSize();
+        if (customerDetailsList.isEmpty() || customerDetailsList.size() > maxBulkSize) {
+            throw new InvalidRequestException(
+                    String.format("Bulk request must contain between 1 and %d notes", maxBulkSize));
+        }
+        customerService.validateCustomerExists(customerId);
+
+        List<CustomerDocument> customerDocuments = customerDetailsList.stream()
+                .map(mapper::customerDetailsToCustomerDocument)
+                .toList();
+
+        int chunkSize = customerDetailsProperties.getBulkChunkSize();
+        for (int from = 0; from < customerDocuments.size(); from += chunkSize) {
+            customerDocumentRepository.insertUnordered(
+                    customerDocuments.subList(from, Math.min(from + chunkSize, customerDocuments.size())));
+        }
+        eventPublisher.publishEvent(new CustomerChangedEvent(customerId));
+
+        return customerDocuments.stream()
+                .map(mapper::customerDocumentToCustomerDetails)
+                .toList();
+    }
+
     /**
      * Deletes a specific customer detail record by its unique ID.
      *
@@ -96,6 +268,22 @@ public class CustomerDetailsService {
                 .orElseThrow(() -> new CustomerDetailsNotFoundException(id));
 
         customerDocumentRepository.delete(customerDocument);
+        eventPublisher.publishEvent(new CustomerChangedEvent(customerDocument.getCustomerId()));
+    }
+
+    /**
+     * Deletes many customer detail records by their unique IDs.
+     * <p>
+     * The records are removed with a single delete command; IDs that do not exist are ignored.
+     * Only the customers of the records are read beforehand, to notify about the changed customers.
+     * </p>
+     *
+     * @param ids the unique UUIDs of the detail records to delete
+     */
+    public void deleteAllCustomerDetailsByIds(Collection<UUID> ids) {
+        Set<UUID> customerIds = customerDocumentRepository.findCustomerIdsByIdIn(ids);
+        customerDocumentRepository.deleteAllById(ids);
+        customerIds.forEach(customerId -> eventPublisher.publishEvent(new CustomerChangedEvent(customerId)));
     }
 
     /**
@@ -123,6 +311,7 @@ public class CustomerDetailsService {
         existingDocument.setNote(customerDetails.note());
 
         CustomerDocument updatedDocument = customerDocumentRepository.save(existingDocument);
+        eventPublisher.publishEvent(new CustomerChangedEvent(existingDocument.getCustomerId()));
         return mapper.customerDocumentToCustomerDetails(updatedDocument);
     }
 
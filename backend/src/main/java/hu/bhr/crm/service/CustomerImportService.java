@@ -0,0 +1,213 @@
+package hu.bhr.crm.service;
+
+import hu.bhr.crm.config.CustomerImportProperties;
+import hu.bhr.crm.exception.InvalidRequestException;
+import hu.bhr.crm.mapper.CustomerMapper;
+import hu.bhr.crm.model.Customer;
+import hu.bhr.crm.model.CustomerImportRow;
+import hu.bhr.crm.model.CustomerImportRowResult;
+import hu.bhr.crm.repository.CustomerRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Service class for importing customers in bulk.
+ * <p>
+ * Customers are persisted in chunks, each chunk in its own transaction, so that Hibernate can
+ * send the inserts of a chunk as JDBC batches. A failing row never aborts the whole import:
+ * <ul>
+ * <li>Rows that failed request validation are reported without touching the database.</li>
+ * <li>Email addresses and phone numbers already used by another row or by a stored customer are reported as duplicates.
+ * The customer table has no unique constraint behind this check, so an import running at the same time as another
+ * import or a registration can still store a duplicate.</li>
+ * <li>If a chunk still fails to persist, its rows are retried one by one to isolate the failing rows.</li>
+ * </ul>
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CustomerImportService {
+
+    private static final String DUPLICATE_EMAIL_IN_IMPORT = "Email is used by another row of the import";
+    private static final String DUPLICATE_PHONE_IN_IMPORT = "Phone number is used by another row of the import";
+    private static final String DUPLICATE_EMAIL = "Email is already used by another customer";
+    private static final String DUPLICATE_PHONE = "Phone number is already used by another customer";
+    private static final String SAVE_FAILED = "Customer could not be saved";
+
+    private final CustomerRepository repository;
+    private final CustomerMapper customerMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final CustomerImportProperties importProperties;
+
+    /**
+     * Imports the given rows and reports the outcome of each one.
+     *
+     * @param rows the rows to import, each carrying its position in the request
+     * @return a {@link List} of {@link CustomerImportRowResult}s ordered by row index
+     * @throws InvalidRequestException if the number of rows is out of the allowed range
+     */
+    public List<CustomerImportRowResult> importCustomers(List<CustomerImportRow> rows) {
+        checkRowCount(rows.size());
+
+        Map<Integer, CustomerImportRowResult> results = new TreeMap<>();
+        List<CustomerImportRow> candidates = rejectInvalidAndDuplicateRows(rows, results);
+
+        int chunkSize = importProperties.getChunkSize();
+        for (int from = 0; from < candidates.size(); from += chunkSize) {
+            List<CustomerImportRow> chunk = candidates.subList(from, Math.min(from + chunkSize, candidates.size()));
+            importChunk(chunk, results);
+        }
+
+        return List.copyOf(results.values());
+    }
+
+    /**
+     * Checks the number of rows of an import, so an oversized import is rejected before its rows are validated.
+     *
+     * @param rowCount the number of rows of the import
+     * @throws InvalidRequestException if the number of rows is out of the allowed range
+     */
+    public void checkRowCount(int rowCount) {
+        if (rowCount < 1 || rowCount > importProperties.getMaxRows()) {
+            throw new InvalidRequestException(
+                    String.format("Import must contain between 1 and %d customers", importProperties.getMaxRows()));
+        }
+    }
+
+    /**
+     * Reports invalid rows and rows repeating an email or phone number of a previous row.
+     *
+     * @param rows    all rows of the import
+     * @param results the collected results, completed with the rejected rows
+     * @return the rows that can be persisted
+     */
+    private List<CustomerImportRow> rejectInvalidAndDuplicateRows(List<CustomerImportRow> rows,
+                                                                  Map<Integer, CustomerImportRowResult> results) {
+        Set<String> emails = new HashSet<>();
+        Set<String> phoneNumbers = new HashSet<>();
+        List<CustomerImportRow> candidates = new ArrayList<>(rows.size());
+
+        for (CustomerImportRow row : rows) {
+            if (!row.isValid()) {
+                results.put(row.index(), CustomerImportRowResult.failed(row.index(), row.errors()));
+                continue;
+            }
+
+            List<String> errors = new ArrayList<>();
+            String email = row.customer().email();
+            if (email != null && !emails.add(email)) {
+                errors.add(DUPLICATE_EMAIL_IN_IMPORT);
+            }
+            String phoneNumber = row.customer().phoneNumber();
+            if (phoneNumber != null && !phoneNumbers.add(phoneNumber)) {
+                errors.add(DUPLICATE_PHONE_IN_IMPORT);
+            }
+
+            if (errors.isEmpty()) {
+                candidates.add(row);
+            } else {
+                results.put(row.index(), CustomerImportRowResult.failed(row.index(), errors));
+            }
+        }
+
+        return candidates;
+    }
+
+    /**
+     * Persists one chunk in a single transaction, falling back to row-by-row persistence on failure.
+     *
+     * @param chunk   the rows of the chunk
+     * @param results the collected results, completed with the rows of the chunk
+     */
+    private void importChunk(List<CustomerImportRow> chunk, Map<Integer, CustomerImportRowResult> results) {
+        try {
+            List<CustomerImportRowResult> chunkResults = transactionTemplate.execute(status -> persistRows(chunk));
+            Objects.requireNonNull(chunkResults).forEach(result -> results.put(result.index(), result));
+        } catch (PersistenceException | DataAccessException | TransactionException e) {
+            log.warn("Import of a chunk of {} customers failed, retrying row by row", chunk.size(), e);
+            chunk.forEach(row -> results.put(row.index(), importSingleRow(row)));
+        }
+    }
+
+    private CustomerImportRowResult importSingleRow(CustomerImportRow row) {
+        try {
+            List<CustomerImportRowResult> rowResults = transactionTemplate.execute(status -> persistRows(List.of(row)));
+            return Objects.requireNonNull(rowResults).getFirst();
+        } catch (PersistenceException | DataAccessException | TransactionException e) {
+            log.warn("Import of customer at index {} failed", row.index(), e);
+            return CustomerImportRowResult.failed(row.index(), SAVE_FAILED);
+        }
+    }
+
+    /**
+     * Persists the rows whose email and phone number are not yet stored.
+     * <p>
+     * Must be called inside a transaction. The entities are persisted (not merged), so no
+     * select is issued per row, and flushed together so the inserts are batched.
+     * </p>
+     *
+     * @param rows the rows to persist
+     * @return the result of each row, in the order of the given rows
+     */
+    private List<CustomerImportRowResult> persistRows(List<CustomerImportRow> rows) {
+        Set<String> existingEmails = findExisting(rows, Customer::email, repository::findExistingEmails);
+        Set<String> existingPhoneNumbers = findExisting(rows, Customer::phoneNumber, repository::findExistingPhoneNumbers);
+
+        List<CustomerImportRowResult> rowResults = new ArrayList<>(rows.size());
+        for (CustomerImportRow row : rows) {
+            Customer customer = row.customer();
+
+            List<String> errors = new ArrayList<>();
+            if (customer.email() != null && existingEmails.contains(customer.email())) {
+                errors.add(DUPLICATE_EMAIL);
+            }
+            if (customer.phoneNumber() != null && existingPhoneNumbers.contains(customer.phoneNumber())) {
+                errors.add(DUPLICATE_PHONE);
+            }
+
+            if (errors.isEmpty()) {
+                entityManager.persist(customerMapper.customerToCustomerEntity(customer));
+                rowResults.add(CustomerImportRowResult.imported(row.index(), customer.id()));
+            } else {
+                rowResults.add(CustomerImportRowResult.failed(row.index(), errors));
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        return rowResults;
+    }
+
+    private Set<String> findExisting(List<CustomerImportRow> rows,
+                                     Function<Customer, String> extractor,
+                                     Function<Collection<String>, Set<String>> lookup) {
+        Set<String> values = new HashSet<>();
+        for (CustomerImportRow row : rows) {
+            String value = extractor.apply(row.customer());
+            if (value != null) {
+                values.add(value);
+            }
+        }
+
+        return values.isEmpty() ? Set.of() : lookup.apply(values);
+    }
+}
@@ -1,15 +1,25 @@
 package hu.bhr.crm.service;
 
+import hu.bhr.crm.config.CacheConfig;
 import hu.bhr.crm.exception.CustomerNotFoundException;
+import hu.bhr.crm.exception.InvalidRequestException;
 import hu.bhr.crm.mapper.CustomerMapper;
+import hu.bhr.crm.model.CursorPage;
 import hu.bhr.crm.model.Customer;
+import hu.bhr.crm.model.CustomerFilter;
+import hu.bhr.crm.model.PageCursor;
 import hu.bhr.crm.model.Residence;
 import hu.bhr.crm.repository.CustomerRepository;
 import hu.bhr.crm.repository.entity.CustomerEntity;
 import hu.bhr.crm.repository.entity.ResidenceEntity;
+import hu.bhr.crm.repository.specification.CustomerSpecifications;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,18 +37,27 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class CustomerService {
 
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("id"));
+    private static final String RESIDENCE = "residence";
+
     private final CustomerRepository repository;
     private final CustomerMapper customerMapper;
 
     /**
      * Retrieves a single customer by their unique identifier.
+     * <p>
+     * The result is cached; {@link CustomerServiceFacade} evicts it when the customer is updated or deleted.
+     * </p>
      *
      * @param id the unique UUID of the customer
      * @return the {@link Customer} domain object
      * @throws CustomerNotFoundException if no customer exists with the given ID
      */
+    @Cacheable(cacheNames = CacheConfig.CUSTOMERS, key = "#id")
     public Customer getCustomerById(UUID id) {
-        CustomerEntity customerEntity = repository.findById(id)
+        CustomerEntity customerEntity = repository.findWithResidenceById(id)
                 .orElseThrow(() -> new CustomerNotFoundException(id));
 
         return customerMapper.customerEntityToCustomer(customerEntity);
@@ -50,11 +69,71 @@ public class CustomerService {
      * @return a {@link List} of all {@link Customer} objects
      */
     public List<Customer> getAllCustomers() {
-        return repository.findAll().stream()
+        return repository.findAllWithResidence().stream()
+                .map(customerMapper::customerEntityToCustomer)
+                .toList();
+    }
+
+    /**
+     * Retrieves the given customers with their residences in a single query.
+     * <p>
+     * Identifiers without a stored customer are skipped, so the result may be shorter than the input.
+     * </p>
+     *
+     * @param ids the UUIDs of the customers
+     * @return a {@link List} of the {@link Customer} objects found
+     */
+    public List<Customer> getCustomersByIds(Collection<UUID> ids) {
+        return repository.findAllWithResidenceByIdIn(ids).stream()
                 .map(customerMapper::customerEntityToCustomer)
                 .toList();
     }
 
+    /**
+     * Retrieves one page of customers ordered by creation time, using keyset pagination.
+     * <p>
+     * Instead of an offset, the page starts right after the {@code (createdAt, id)} position
+     * of the last customer of the previous page, so the cost of a page does not depend on
+     * how deep the client has paged. One extra row is fetched to detect whether a next page exists.
+     * The residences are fetched in the same select.
+     * </p>
+     *
+     * @param filter the optional filters (relationship, city, name prefix)
+     * @param after  the position of the last customer of the previous page, or null for the first page
+     * @param limit  the maximum number of customers on the page (between 1 and {@value #MAX_PAGE_SIZE})
+     * @return a {@link CursorPage} of {@link Customer} objects with the cursor of the next page
+     * @throws InvalidRequestException if the page size is out of the allowed range
+     */
+    public CursorPage<Customer> getCustomerPage(CustomerFilter filter, PageCursor after, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException(
+                    String.format("Page size must be between 1 and %d", MAX_PAGE_SIZE));
+        }
+
+        List<CustomerEntity> customerEntities = repository.findBy(
+                CustomerSpecifications.pageQuery(filter, after),
+                (FetchableFluentQuery<CustomerEntity> query) -> query
+                        .project(RESIDENCE)
+                        .sortBy(KEYSET_SORT)
+                        .limit(limit + 1)
+                        .all());
+
+        boolean hasNext = customerEntities.size() > limit;
+        List<CustomerEntity> pageEntities = hasNext ? customerEntities.subList(0, limit) : customerEntities;
+
+        PageCursor nextCursor = null;
+        if (hasNext) {
+            CustomerEntity last = pageEntities.getLast();
+            nextCursor = new PageCursor(last.getCreatedAt(), last.getId());
+        }
+
+        List<Customer> customers = pageEntities.stream()
+                .map(customerMapper::customerEntityToCustomer)
+                .toList();
+
+        return new CursorPage<>(customers, nextCursor);
+    }
+
     /**
      * Registers a new customer and persists them in the database.
      * <p>
@@ -100,7 +179,7 @@ public class CustomerService {
      * @throws CustomerNotFoundException if the customer with the given ID does not exist
      */
     public Customer updateCustomer(Customer customerPayload) {
-        CustomerEntity customerEntity = repository.findById(customerPayload.id())
+        CustomerEntity customerEntity = repository.findWithResidenceById(customerPayload.id())
                 .orElseThrow(() -> new CustomerNotFoundException(customerPayload.id()));
         Customer updatedCustomer = mergeResidence(customerEntity.getResidence(), customerPayload);
         CustomerEntity savedCustomerEntity = repository.save(customerMapper.customerToCustomerEntity(updatedCustomer));
@@ -1,11 +1,30 @@
 package hu.bhr.crm.service;
 
+import hu.bhr.crm.config.CacheConfig;
+import hu.bhr.crm.event.CustomerChangedEvent;
+import hu.bhr.crm.exception.DataLoadingException;
+import hu.bhr.crm.model.CursorPage;
 import hu.bhr.crm.model.Customer;
+import hu.bhr.crm.model.CustomerDetails;
+import hu.bhr.crm.model.CustomerFilter;
+import hu.bhr.crm.model.CustomerImportRow;
+import hu.bhr.crm.model.CustomerImportRowResult;
+import hu.bhr.crm.model.CustomerOverview;
+import hu.bhr.crm.model.PageCursor;
+import hu.bhr.crm.model.Task;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @Service
 @RequiredArgsConstructor
@@ -14,26 +33,91 @@ public class CustomerServiceFacade {
     private final CustomerService customerService;
     private final CustomerDetailsService customerDetailsService;
     private final TaskService taskService;
+    private final CustomerImportService customerImportService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Customer getCustomerById(UUID id) {
         return customerService.getCustomerById(id);
     }
 
+    /**
+     * Retrieves a customer together with its residence, notes and tasks.
+     * <p>
+     * The customer with its residence and the tasks are loaded from PostgreSQL, and the notes from MongoDB,
+     * concurrently on virtual threads, so the latency is that of the slowest store rather than the sum of all.
+     * The existence of the customer is checked only once, by loading it.
+     * </p>
+     *
+     * @param id the unique UUID of the customer
+     * @return the {@link CustomerOverview} of the customer
+     * @throws hu.bhr.crm.exception.CustomerNotFoundException if the customer does not exist
+     * @throws DataLoadingException if the loading is interrupted
+     */
+    public CustomerOverview getCustomerOverview(UUID id) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Customer> customer = executor.submit(() -> customerService.getCustomerById(id));
+            Future<Map<UUID, List<CustomerDetails>>> customerDetails =
+                    executor.submit(() -> customerDetailsService.getAllCustomerDetailsByCustomerIds(List.of(id)));
+            Future<List<Task>> tasks = executor.submit(() -> taskService.getAllTasksByCustomerId(id));
+
+            return CustomerOverview.builder()
+                    .customer(await(customer, id))
+                    .customerDetails(await(customerDetails, id).getOrDefault(id, List.of()))
+                    .tasks(await(tasks, id))
+                    .build();
+        }
+    }
+
+    private static <T> T await(Future<T> future, UUID customerId) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new DataLoadingException("Failed to load the overview of customer " + customerId, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException("Loading the overview of customer " + customerId + " was interrupted", e);
+        }
+    }
+
     public List<Customer> getAllCustomers() {
         return customerService.getAllCustomers();
     }
 
+    public CursorPage<Customer> getCustomerPage(CustomerFilter filter, PageCursor after, int limit) {
+        return customerService.getCustomerPage(filter, after, limit);
+    }
+
     public Customer registerCustomer(Customer customer) {
         return customerService.registerCustomer(customer);
     }
 
+    public void checkImportRowCount(int rowCount) {
+        customerImportService.checkRowCount(rowCount);
+    }
+
+    public List<CustomerImportRowResult> importCustomers(List<CustomerImportRow> rows) {
+        return customerImportService.importCustomers(rows);
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CUSTOMERS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.CUSTOMER_EXISTS, key = "#id")
+    })
     public void deleteCustomer(UUID id) {
         customerDetailsService.deleteCustomerDetailsByCustomerId(id);
         taskService.detachCustomerFromTasks(id);
         customerService.deleteCustomer(id);
+        eventPublisher.publishEvent(new CustomerChangedEvent(id));
     }
 
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMERS, key = "#customer.id()")
     public Customer updateCustomer(Customer customer) {
-        return customerService.updateCustomer(customer);
+        Customer updatedCustomer = customerService.updateCustomer(customer);
+        eventPublisher.publishEvent(new CustomerChangedEvent(customer.id()));
+
+        return updatedCustomer;
     }
 }
@@ -0,0 +1,198 @@
+package hu.bhr.crm.service;
+
+import hu.bhr.crm.config.ReminderProperties;
+import hu.bhr.crm.exception.ResourceNotFoundException;
+import hu.bhr.crm.metrics.ReminderMetrics;
+import hu.bhr.crm.model.EmailOutboxStatus;
+import hu.bhr.crm.repository.EmailOutboxRepository;
+import hu.bhr.crm.repository.entity.EmailOutboxEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Service class for the persistent outbox of reminder emails.
+ * <p>
+ * Instead of sending a reminder on the Quartz thread that fired it, the reminder is stored as a
+ * {@link EmailOutboxStatus#PENDING} outbox entry, and the outbox sender delivers it later:
+ * <ul>
+ * <li>Due entries are claimed with {@code FOR UPDATE SKIP LOCKED}, so several senders never claim the same entry.
+ * A claimed entry is leased for {@code crm.reminder.outbox.lease} and becomes due again if its sender stops.</li>
+ * <li>A failed send is retried with exponential backoff, starting from {@code crm.reminder.outbox.initial-backoff}
+ * and capped at {@code crm.reminder.outbox.max-backoff}.</li>
+ * <li>After {@code crm.reminder.outbox.max-attempts} attempts, or right away if the task no longer exists,
+ * the entry is moved to the {@link EmailOutboxStatus#DEAD} state and not retried anymore.</li>
+ * <li>Every claim increments the version of the entry. The outcome of an attempt is only recorded if the entry
+ * has not been claimed again since, so a sender whose lease expired mid-send cannot overwrite the outcome
+ * of the next attempt.</li>
+ * <li>Sent entries are deleted after {@code crm.reminder.outbox.retention}. Dead entries are kept for inspection.</li>
+ * </ul>
+ * Delivery is at least once: an entry is sent again if its lease expires before the outcome of the send
+ * is recorded, that is if the SMTP call outlasts the lease, or if the sender stops right after the send.
+ * </p>
+ * <p>
+ * Each delivery is counted in the {@value #DELIVERIES_COUNTER} counter, tagged with its
+ * {@code outcome}: {@code sent}, {@code retry}, {@code dead}, or {@code lease-expired} if the outcome was dropped.
+ * A sent or dead entry is also recorded in the reminder delivery time, measured from the creation of the entry,
+ * which is when its reminder fired.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxService {
+
+    public static final String DELIVERIES_COUNTER = "crm.email.outbox.deliveries";
+
+    private static final int MAX_BACKOFF_EXPONENT = 20;
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private final EmailOutboxRepository repository;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+    private final ReminderProperties reminderProperties;
+    private final MeterRegistry meterRegistry;
+    private final ReminderMetrics reminderMetrics;
+
+    /**
+     * Stores the reminder of a task in the outbox, to be sent as soon as a sender is free.
+     *
+     * @param taskId the unique identifier of the task whose reminder is due
+     */
+    public void enqueue(UUID taskId) {
+        repository.save(EmailOutboxEntity.builder()
+                .id(UUID.randomUUID())
+                .taskId(taskId)
+                .status(EmailOutboxStatus.PENDING)
+                .nextAttemptAt(Instant.now())
+                .build());
+    }
+
+    /**
+     * Claims the outbox entries due for a send attempt.
+     * <p>
+     * The claimed entries are moved to the {@link EmailOutboxStatus#SENDING} state, their attempt
+     * counter is incremented and they are leased until the lease expires, all in one transaction.
+     * </p>
+     *
+     * @param limit the maximum number of entries to claim
+     * @return the claimed entries, to be passed to {@link #deliver(EmailOutboxEntity)}
+     */
+    public List<EmailOutboxEntity> claimDueEntries(int limit) {
+        Instant now = Instant.now();
+        Instant leaseExpiry = now.plus(reminderProperties.getOutbox().getLease());
+
+        List<EmailOutboxEntity> entries = transactionTemplate.execute(status -> {
+            List<EmailOutboxEntity> dueEntries = repository.findDueForUpdate(now, limit);
+            dueEntries.forEach(entry -> {
+                entry.setStatus(EmailOutboxStatus.SENDING);
+                entry.setAttempts(entry.getAttempts() + 1);
+                entry.setNextAttemptAt(leaseExpiry);
+            });
+            return dueEntries;
+        });
+
+        return Objects.requireNonNull(entries);
+    }
+
+    /**
+     * Sends the reminder of a claimed outbox entry and records the outcome.
+     *
+     * @param entry the claimed entry
+     */
+    public void deliver(EmailOutboxEntity entry) {
+        String outcome;
+        try {
+            emailService.createAndSendEmail(entry.getTaskId());
+            entry.setStatus(EmailOutboxStatus.SENT);
+            entry.setSentAt(Instant.now());
+            entry.setLastError(null);
+            outcome = "sent";
+        } catch (ResourceNotFoundException e) {
+            outcome = markDead(entry, e);
+        } catch (RuntimeException e) {
+            outcome = entry.getAttempts() >= reminderProperties.getOutbox().getMaxAttempts()
+                    ? markDead(entry, e)
+                    : scheduleRetry(entry, e);
+        }
+
+        try {
+            repository.save(entry);
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Lease of outbox entry {} expired during attempt {} and the entry was claimed again, "
+                    + "dropping the outcome ({}) of this attempt", entry.getId(), entry.getAttempts(), outcome);
+            countDelivery("lease-expired");
+            return;
+        }
+
+        countDelivery(outcome);
+        if (entry.getStatus() != EmailOutboxStatus.PENDING) {
+            reminderMetrics.recordDelivery(entry.getCreatedAt(), entry.getStatus() == EmailOutboxStatus.SENT);
+        }
+    }
+
+    /**
+     * Deletes the entries sent longer than {@code crm.reminder.outbox.retention} ago,
+     * in batches, so no single statement holds its locks for long.
+     *
+     * @return the number of deleted entries
+     */
+    public int purgeSentEntries() {
+        Instant sentBefore = Instant.now().minus(reminderProperties.getOutbox().getRetention());
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = repository.deleteSentBefore(sentBefore, PURGE_BATCH_SIZE);
+            purged += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+
+        return purged;
+    }
+
+    private void countDelivery(String outcome) {
+        Counter.builder(DELIVERIES_COUNTER)
+                .description("Delivery attempts of the reminder email outbox")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private String scheduleRetry(EmailOutboxEntity entry, RuntimeException e) {
+        Duration backoff = backoff(entry.getAttempts());
+        log.warn("Sending reminder of task {} failed (attempt {}), retrying in {}",
+                entry.getTaskId(), entry.getAttempts(), backoff, e);
+
+        entry.setStatus(EmailOutboxStatus.PENDING);
+        entry.setNextAttemptAt(Instant.now().plus(backoff));
+        entry.setLastError(e.toString());
+        return "retry";
+    }
+
+    private String markDead(EmailOutboxEntity entry, RuntimeException e) {
+        log.error("Sending reminder of task {} failed (attempt {}), giving up", entry.getTaskId(), entry.getAttempts(), e);
+
+        entry.setStatus(EmailOutboxStatus.DEAD);
+        entry.setLastError(e.toString());
+        return "dead";
+    }
+
+    /**
+     * Doubles the initial backoff after every failed attempt, up to the maximum backoff.
+     */
+    private Duration backoff(int attempts) {
+        ReminderProperties.Outbox outbox = reminderProperties.getOutbox();
+        int exponent = Math.min(Math.max(attempts - 1, 0), MAX_BACKOFF_EXPONENT);
+        Duration backoff = outbox.getInitialBackoff().multipliedBy(1L << exponent);
+        return backoff.compareTo(outbox.getMaxBackoff()) > 0 ? outbox.getMaxBackoff() : backoff;
+    }
+}
@@ -1,23 +1,43 @@
 package hu.bhr.crm.service;
 
 import hu.bhr.crm.config.MailProperties;
+import hu.bhr.crm.config.ReminderProperties;
+import hu.bhr.crm.exception.CustomerNotFoundException;
 import hu.bhr.crm.exception.EmailSendingException;
+import hu.bhr.crm.exception.TaskNotFoundException;
 import hu.bhr.crm.mapper.EmailFactory;
 import hu.bhr.crm.model.Customer;
 import hu.bhr.crm.model.CustomerDetails;
 import hu.bhr.crm.model.EmailContent;
 import hu.bhr.crm.model.EmailContentHtmlBuilder;
 import hu.bhr.crm.model.Task;
+import hu.bhr.crm.repository.ReminderSnapshotRepository;
+import hu.bhr.crm.repository.entity.ReminderSnapshotEntity;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailService {
@@ -29,7 +49,32 @@ public class EmailService {
     private final CustomerService customerService;
     private final CustomerDetailsService customerDetailsService;
 
+    private final ReminderSnapshotRepository reminderSnapshotRepository;
+    private final ReminderProperties reminderProperties;
+
+    /**
+     * Creates and sends the reminder email of a task.
+     * <p>
+     * If the reminder has been rendered ahead by the {@link ReminderSnapshotService}, the stored email is sent
+     * as it is, after a single lookup, and dropped once sent. Otherwise, the task, its customer
+     * and the customer's details are loaded.
+     * </p>
+     *
+     * @param taskId the unique UUID of the task whose reminder is due
+     */
     public void createAndSendEmail(UUID taskId) {
+        Instant sendingStartedAt = Instant.now();
+        ReminderSnapshotEntity snapshot = findSnapshots(List.of(taskId)).get(taskId);
+        if (snapshot != null) {
+            try {
+                sendEmail(createMimeMessage(snapshot.getSubject(), snapshot.getHtml()));
+            } catch (MessagingException e) {
+                throw new EmailSendingException("Failed to send email", e);
+            }
+            dropSnapshots(List.of(taskId), sendingStartedAt);
+            return;
+        }
+
         Task task = taskService.getTaskById(taskId);
 
         Customer customer = null;
@@ -47,6 +92,179 @@ public class EmailService {
         }
     }
 
+    /**
+     * Creates and sends the reminder emails of several tasks in one pass.
+     * <p>
+     * The tasks, their customers and the customers' details are each loaded with a single query,
+     * and all messages are handed to the mail sender at once, so they are sent over one SMTP connection.
+     * The reminders rendered ahead by the {@link ReminderSnapshotService} are fetched with one more query
+     * and are not loaded again, and they are dropped once sent. A failing reminder does not prevent the others
+     * from being sent; its failure is returned instead.
+     * </p>
+     *
+     * @param taskIds the unique UUIDs of the tasks whose reminders are due
+     * @return the failure of each reminder that could not be sent, keyed by task ID
+     */
+    public Map<UUID, RuntimeException> createAndSendEmails(Collection<UUID> taskIds) {
+        Instant sendingStartedAt = Instant.now();
+        Map<UUID, RuntimeException> failures = new HashMap<>();
+
+        Map<MimeMessage, UUID> taskIdsByMessage = new IdentityHashMap<>();
+        Map<UUID, ReminderSnapshotEntity> snapshots = findSnapshots(taskIds);
+        snapshots.forEach((taskId, snapshot) -> {
+            try {
+                taskIdsByMessage.put(createMimeMessage(snapshot.getSubject(), snapshot.getHtml()), taskId);
+            } catch (MessagingException e) {
+                failures.put(taskId, new EmailSendingException("Failed to create email", e));
+            }
+        });
+
+        List<UUID> taskIdsToLoad = taskIds.stream()
+                .filter(taskId -> !snapshots.containsKey(taskId))
+                .toList();
+        loadEmailContents(taskIdsToLoad, failures).forEach((taskId, emailContent) -> {
+            try {
+                taskIdsByMessage.put(createEmail(emailContent), taskId);
+            } catch (MessagingException e) {
+                failures.put(taskId, new EmailSendingException("Failed to create email", e));
+            }
+        });
+
+        if (!taskIdsByMessage.isEmpty()) {
+            sendEmails(taskIdsByMessage, failures);
+        }
+
+        dropSnapshots(snapshots.keySet().stream()
+                .filter(taskId -> !failures.containsKey(taskId))
+                .toList(), sendingStartedAt);
+        return failures;
+    }
+
+    /**
+     * Creates and sends one digest email listing the reminders of several tasks.
+     * <p>
+     * The data is loaded in bulk like in {@link #createAndSendEmails(Collection)}, duplicate task IDs
+     * are listed once, and all reminders are rendered into a single message to the configured recipient,
+     * so a whole batch of reminders costs one SMTP transaction. A digest of a single reminder is sent as a
+     * regular reminder email. Reminders that cannot be loaded are left out of the digest and returned as failures,
+     * and if the digest cannot be sent, every reminder in it is returned as failed. The reminders rendered ahead
+     * by the {@link ReminderSnapshotService} are dropped once the digest is sent.
+     * </p>
+     *
+     * @param taskIds the unique UUIDs of the tasks whose reminders are due
+     * @return the failure of each reminder that could not be sent, keyed by task ID
+     */
+    public Map<UUID, RuntimeException> createAndSendDigest(Collection<UUID> taskIds) {
+        Instant sendingStartedAt = Instant.now();
+        Map<UUID, RuntimeException> failures = new HashMap<>();
+
+        Map<UUID, EmailContent> emailContents = loadEmailContents(new LinkedHashSet<>(taskIds), failures);
+        if (emailContents.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            MimeMessage message = emailContents.size() == 1
+                    ? createEmail(emailContents.values().iterator().next())
+                    : createDigestEmail(List.copyOf(emailContents.values()));
+            sendEmail(message);
+        } catch (MessagingException | MailException e) {
+            emailContents.keySet().forEach(taskId ->
+                    failures.put(taskId, new EmailSendingException("Failed to send email", e)));
+            return failures;
+        }
+
+        dropSnapshots(emailContents.keySet(), sendingStartedAt);
+        return failures;
+    }
+
+    /**
+     * Loads the tasks, their customers and the customers' details with a single query each,
+     * and assembles the email content of every task that could be loaded completely.
+     *
+     * @param taskIds  the unique UUIDs of the tasks
+     * @param failures collects the failure of each task whose content could not be loaded
+     * @return the email content of each task, in the order of the loaded tasks
+     */
+    private Map<UUID, EmailContent> loadEmailContents(Collection<UUID> taskIds, Map<UUID, RuntimeException> failures) {
+        if (taskIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Task> tasks = taskService.getTasksByIds(taskIds);
+        Set<UUID> loadedTaskIds = tasks.stream()
+                .map(Task::id)
+                .collect(Collectors.toSet());
+        taskIds.stream()
+                .filter(taskId -> !loadedTaskIds.contains(taskId))
+                .forEach(taskId -> failures.put(taskId, new TaskNotFoundException(taskId)));
+
+        return createEmailContents(tasks, failures);
+    }
+
+    /**
+     * Loads the customers of the given tasks and the customers' details with a single query each,
+     * and assembles the email content of every task whose customer could be loaded.
+     *
+     * @param taskList the tasks
+     * @param failures collects the failure of each task whose customer could not be loaded
+     * @return the email content of each task, in the order of the tasks
+     */
+    Map<UUID, EmailContent> createEmailContents(Collection<Task> taskList, Map<UUID, RuntimeException> failures) {
+        Map<UUID, Task> tasks = taskList.stream()
+                .collect(Collectors.toMap(Task::id, Function.identity(), (first, second) -> first, LinkedHashMap::new));
+
+        Set<UUID> customerIds = tasks.values().stream()
+                .map(Task::customerId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, Customer> customers = Map.of();
+        Map<UUID, List<CustomerDetails>> customerDetails = Map.of();
+        if (!customerIds.isEmpty()) {
+            customers = customerService.getCustomersByIds(customerIds).stream()
+                    .collect(Collectors.toMap(Customer::id, Function.identity()));
+            customerDetails = customerDetailsService.getAllCustomerDetailsByCustomerIds(customerIds);
+        }
+
+        Map<UUID, EmailContent> emailContents = new LinkedHashMap<>();
+        for (Task task : tasks.values()) {
+            Customer customer = null;
+            if (task.customerId() != null) {
+                customer = customers.get(task.customerId());
+                if (customer == null) {
+                    failures.put(task.id(), new CustomerNotFoundException(task.customerId()));
+                    continue;
+                }
+            }
+
+            List<CustomerDetails> customerDetailsList =
+                    customer == null ? List.of() : customerDetails.getOrDefault(customer.id(), List.of());
+            emailContents.put(task.id(), EmailFactory.createEmailContent(task, customer, customerDetailsList));
+        }
+
+        return emailContents;
+    }
+
+    private void sendEmails(Map<MimeMessage, UUID> taskIdsByMessage, Map<UUID, RuntimeException> failures) {
+        try {
+            javaMailSender.send(taskIdsByMessage.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                taskIdsByMessage.values().forEach(taskId ->
+                        failures.put(taskId, new EmailSendingException("Failed to send email", e)));
+            }
+            e.getFailedMessages().forEach((message, cause) -> {
+                UUID taskId = taskIdsByMessage.get(message);
+                if (taskId != null) {
+                    failures.put(taskId, new EmailSendingException("Failed to send email", cause));
+                }
+            });
+        } catch (MailException e) {
+            taskIdsByMessage.values().forEach(taskId ->
+                    failures.put(taskId, new EmailSendingException("Failed to send email", e)));
+        }
+    }
+
     private void sendEmail(MimeMessage message) {
         javaMailSender.send(message);
     }
@@ -55,14 +273,64 @@ public class EmailService {
                                     Customer customer,
                                     List<CustomerDetails> customerDetailsList) throws MessagingException {
 
-        EmailContent emailContent = EmailFactory.createEmailContent(task, customer, customerDetailsList);
-        String htmlContent = EmailContentHtmlBuilder.build(emailContent);
+        return createEmail(EmailFactory.createEmailContent(task, customer, customerDetailsList));
+    }
+
+    private MimeMessage createEmail(EmailContent emailContent) throws MessagingException {
+        return createMimeMessage(createSubject(emailContent), EmailContentHtmlBuilder.build(emailContent));
+    }
+
+    static String createSubject(EmailContent emailContent) {
+        return "Task Reminder - " + emailContent.taskTitle();
+    }
+
+    /**
+     * Fetches the stored reminder emails of the given tasks, if rendering ahead is enabled.
+     *
+     * @param taskIds the unique UUIDs of the tasks
+     * @return the stored email of each task that has one, keyed by task ID
+     */
+    private Map<UUID, ReminderSnapshotEntity> findSnapshots(Collection<UUID> taskIds) {
+        if (!reminderProperties.getSnapshot().isEnabled() || taskIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return reminderSnapshotRepository.findAllById(taskIds).stream()
+                .collect(Collectors.toMap(ReminderSnapshotEntity::getTaskId, Function.identity()));
+    }
+
+    /**
+     * Drops the stored reminder emails of the given sent reminders, as every reminder fires once.
+     * The emails rendered after sending started, for a reminder set again meanwhile, are kept.
+     * A failure is only logged, as the reminders must not be reported failed and sent again.
+     *
+     * @param taskIds          the unique UUIDs of the tasks whose reminders have been sent
+     * @param sendingStartedAt the time sending started
+     */
+    private void dropSnapshots(Collection<UUID> taskIds, Instant sendingStartedAt) {
+        if (!reminderProperties.getSnapshot().isEnabled() || taskIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            reminderSnapshotRepository.deleteRenderedBefore(taskIds, sendingStartedAt);
+        } catch (RuntimeException e) {
+            log.warn("Failed to drop the stored emails of {} sent reminders", taskIds.size(), e);
+        }
+    }
+
+    private MimeMessage createDigestEmail(List<EmailContent> emailContents) throws MessagingException {
+        return createMimeMessage(
+                "Task Reminders - " + emailContents.size() + " tasks",
+                EmailContentHtmlBuilder.buildDigest(emailContents));
+    }
 
+    private MimeMessage createMimeMessage(String subject, String htmlContent) throws MessagingException {
         MimeMessage mimeMessage = javaMailSender.createMimeMessage();
         MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, "UTF-8");
         helper.setFrom(mailProperties.getFrom());
         helper.setTo(mailProperties.getTo());
-        helper.setSubject("Task Reminder - " + emailContent.taskTitle());
+        helper.setSubject(subject);
         helper.setText(htmlContent, true);
 
         return mimeMessage;
@@ -0,0 +1,103 @@
+package hu.bhr.crm.service;
+
+import hu.bhr.crm.config.ReminderProperties;
+import hu.bhr.crm.exception.EmailScheduleException;
+import hu.bhr.crm.exception.InvalidRequestException;
+import hu.bhr.crm.metrics.ReminderMetrics;
+import hu.bhr.crm.model.OverdueReminder;
+import hu.bhr.crm.repository.TaskRepository;
+import hu.bhr.crm.repository.entity.TaskEntity;
+import hu.bhr.crm.scheduler.EmailSchedulerConstants;
+import lombok.RequiredArgsConstructor;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.TriggerKey;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service class reporting the reminders that did not fire on time.
+ * <p>
+ * A reminder is overdue while its time has passed and it has not fired yet. Both reminder engines mark
+ * a reminder as fired in the {@code task} table, so the overdue reminders are read from there:
+ * <ul>
+ * <li>Every {@code crm.reminder.monitoring.overdue-refresh-interval}, their number is published
+ * as the {@value ReminderMetrics#OVERDUE_GAUGE} gauge.</li>
+ * <li>A reminder overdue by more than {@code crm.reminder.monitoring.misfire-threshold}, the misfire threshold
+ * of Quartz by default, is reported as misfired.</li>
+ * <li>With the {@code quartz} engine, the state of the Quartz trigger of each reminder is reported as well.
+ * {@code NONE} means the trigger is missing, {@code ERROR} that Quartz gave up on it.</li>
+ * </ul>
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class ReminderMonitoringService {
+
+    public static final int MAX_OVERDUE_REMINDERS = 500;
+
+    private final TaskRepository taskRepository;
+    private final Scheduler scheduler;
+    private final ReminderMetrics reminderMetrics;
+    private final ReminderProperties reminderProperties;
+
+    @Scheduled(fixedDelayString = "${crm.reminder.monitoring.overdue-refresh-interval:30s}")
+    public void refreshOverdueReminderCount() {
+        reminderMetrics.setOverdueReminders(taskRepository.countOverdueReminders(Instant.now()));
+    }
+
+    /**
+     * Retrieves the reminders whose time has passed but have not fired yet, most overdue first.
+     *
+     * @param limit the maximum number of reminders to return (between 1 and {@value #MAX_OVERDUE_REMINDERS})
+     * @return a {@link List} of the {@link OverdueReminder} objects
+     * @throws InvalidRequestException if the limit is out of the allowed range
+     * @throws EmailScheduleException if the state of a Quartz trigger cannot be read
+     */
+    public List<OverdueReminder> getOverdueReminders(int limit) {
+        if (limit < 1 || limit > MAX_OVERDUE_REMINDERS) {
+            throw new InvalidRequestException(
+                    String.format("Limit must be between 1 and %d", MAX_OVERDUE_REMINDERS));
+        }
+
+        Instant now = Instant.now();
+        Duration misfireThreshold = reminderProperties.getMonitoring().getMisfireThreshold();
+
+        return taskRepository.findOverdueReminders(now, limit).stream()
+                .map(taskEntity -> createOverdueReminder(taskEntity, now, misfireThreshold))
+                .toList();
+    }
+
+    private OverdueReminder createOverdueReminder(TaskEntity taskEntity, Instant now, Duration misfireThreshold) {
+        Duration overdueBy = Duration.between(taskEntity.getReminder(), now);
+
+        return OverdueReminder.builder()
+                .taskId(taskEntity.getId())
+                .title(taskEntity.getTitle())
+                .reminder(taskEntity.getReminder())
+                .overdueBy(overdueBy)
+                .misfired(overdueBy.compareTo(misfireThreshold) > 0)
+                .triggerState(getTriggerState(taskEntity.getId()))
+                .build();
+    }
+
+    private String getTriggerState(UUID taskId) {
+        if (reminderProperties.getEngine() != ReminderProperties.Engine.QUARTZ) {
+            return null;
+        }
+
+        TriggerKey triggerKey = TriggerKey.triggerKey(
+                EmailSchedulerConstants.EMAIL_TRIGGER_KEY_PREFIX + taskId,
+                EmailSchedulerConstants.EMAIL_TRIGGER_GROUP);
+        try {
+            return scheduler.getTriggerState(triggerKey).name();
+        } catch (SchedulerException e) {
+            throw new EmailScheduleException("Failed to read the state of trigger " + triggerKey, e);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package hu.bhr.crm.service;
+
+import hu.bhr.crm.config.ReminderProperties;
+import hu.bhr.crm.event.CustomerChangedEvent;
+import hu.bhr.crm.event.TaskChangedEvent;
+import hu.bhr.crm.model.EmailContent;
+import hu.bhr.crm.model.EmailContentHtmlBuilder;
+import hu.bhr.crm.model.Task;
+import hu.bhr.crm.repository.ReminderSnapshotRepository;
+import hu.bhr.crm.repository.converter.CompressedStringConverter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Service class keeping the reminder emails rendered ahead of their firing time.
+ * <p>
+ * With {@code crm.reminder.snapshot.enabled}, the email of every pending reminder is rendered whenever
+ * it could change, and is stored gzip compressed in the {@code reminder_snapshot} table. When the reminder fires,
+ * the {@link EmailService} sends the stored email after a single lookup, instead of loading the task from
+ * Postgres and the customer's details from MongoDB:
+ * <ul>
+ * <li>A change of a task renders its reminder again, or drops it if the task no longer has a reminder
+ * in the future.</li>
+ * <li>A change of a customer, its residence or its details renders the reminders of its tasks again.</li>
+ * <li>Changes are handled after their transaction has committed, in a transaction of their own. If rendering fails,
+ * the reminders are dropped, so they are loaded when they fire instead of being sent out of date.</li>
+ * <li>Every stored reminder carries the time its rendering started. As every committed change is rendered after it,
+ * the render started last has seen the latest state, so a slower render started earlier never replaces it,
+ * and never stores the reminder of a task deleted or cleared meanwhile.</li>
+ * <li>The {@link EmailService} drops a stored reminder once it has been sent.</li>
+ * </ul>
+ * Reminders sent in digests are always loaded, as a digest is rendered from the contents of all its reminders.
+ * When the feature is disabled, the stored reminders are dropped on startup, as they are no longer kept up to date.
+ * </p>
+ */
+@Slf4j
+@Service
+public class ReminderSnapshotService {
+
+    private static final CompressedStringConverter HTML_CONVERTER = new CompressedStringConverter();
+
+    private final ReminderSnapshotRepository reminderSnapshotRepository;
+    private final TaskService taskService;
+    private final EmailService emailService;
+    private final ReminderProperties reminderProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReminderSnapshotService(ReminderSnapshotRepository reminderSnapshotRepository,
+                                   TaskService taskService,
+                                   EmailService emailService,
+                                   ReminderProperties reminderProperties,
+                                   PlatformTransactionManager transactionManager) {
+        this.reminderSnapshotRepository = reminderSnapshotRepository;
+        this.taskService = taskService;
+        this.emailService = emailService;
+        this.reminderProperties = reminderProperties;
+        // the committed transaction that published the event may still be bound to the thread
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    void dropSnapshotsWhenDisabled() {
+        if (!reminderProperties.getSnapshot().isEnabled()) {
+            reminderSnapshotRepository.deleteAllInBatch();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (reminderProperties.getSnapshot().isEnabled()) {
+            refreshSnapshots(event.taskIds());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        if (reminderProperties.getSnapshot().isEnabled()) {
+            refreshSnapshots(reminderSnapshotRepository.findTaskIdsByCustomerId(event.customerId()));
+        }
+    }
+
+    /**
+     * Renders the pending reminders of the given tasks and drops the stored reminders of the others.
+     *
+     * @param taskIds the unique UUIDs of the tasks
+     */
+    void refreshSnapshots(Collection<UUID> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> renderSnapshots(taskIds));
+        } catch (RuntimeException e) {
+            log.error("Failed to render the reminders of {} tasks ahead, they are loaded when they fire",
+                    taskIds.size(), e);
+            transactionTemplate.executeWithoutResult(status -> reminderSnapshotRepository.deleteAllByIdInBatch(taskIds));
+        }
+    }
+
+    private void renderSnapshots(Collection<UUID> taskIds) {
+        Instant renderedAt = Instant.now();
+        List<Task> tasksWithPendingReminder = taskService.getTasksByIds(taskIds).stream()
+                .filter(task -> task.reminder() != null && task.reminder().isAfter(renderedAt))
+                .toList();
+
+        Map<UUID, RuntimeException> failures = new HashMap<>();
+        Map<UUID, EmailContent> emailContents = emailService.createEmailContents(tasksWithPendingReminder, failures);
+
+        Set<UUID> droppedTaskIds = new HashSet<>(taskIds);
+        droppedTaskIds.removeAll(emailContents.keySet());
+        if (!droppedTaskIds.isEmpty()) {
+            reminderSnapshotRepository.deleteRenderedBefore(droppedTaskIds, renderedAt);
+        }
+
+        emailContents.forEach((taskId, emailContent) -> reminderSnapshotRepository.saveIfRenderedLater(
+                taskId,
+                EmailService.createSubject(emailContent),
+                HTML_CONVERTER.convertToDatabaseColumn(EmailContentHtmlBuilder.build(emailContent)),
+                renderedAt));
+    }
+}
@@ -1,25 +1,38 @@
 package hu.bhr.crm.service;
 
+import hu.bhr.crm.event.TaskChangedEvent;
 import hu.bhr.crm.exception.TaskNotFoundException;
 import hu.bhr.crm.mapper.TaskMapper;
 import hu.bhr.crm.model.Task;
 import hu.bhr.crm.model.TaskStatus;
 import hu.bhr.crm.repository.TaskRepository;
 import hu.bhr.crm.repository.entity.TaskEntity;
-import hu.bhr.crm.scheduler.EmailSchedulerService;
+import hu.bhr.crm.scheduler.ReminderScheduler;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service class for managing Task entities.
  * <p>
  * This service handles the lifecycle of tasks, including creation, updates, deletion,
- * and retrieval. It integrates with {@link EmailSchedulerService} to manage email reminders
+ * and retrieval. It integrates with {@link ReminderScheduler} to manage email reminders
  * associated with tasks and handles the synchronization of task status with completion timestamps.
  * </p>
  */
@@ -30,7 +43,9 @@ public class TaskService {
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
     private final CustomerService customerService;
-    private final EmailSchedulerService emailSchedulerService;
+    private final ReminderScheduler reminderScheduler;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Retrieves a single task by its unique identifier.
@@ -56,6 +71,41 @@ public class TaskService {
                 .toList();
     }
 
+    /**
+     * Retrieves the given tasks in a single query.
+     * <p>
+     * Identifiers without a stored task are skipped, so the result may be shorter than the input.
+     * </p>
+     *
+     * @param ids the UUIDs of the tasks
+     * @return a {@link List} of the {@link Task} objects found
+     */
+    public List<Task> getTasksByIds(Collection<UUID> ids) {
+        return taskRepository.findAllById(ids).stream()
+                .map(taskMapper::taskEntityToTask)
+                .toList();
+    }
+
+    /**
+     * Exports all tasks one by one without loading them into memory at once.
+     * <p>
+     * The tasks are read through a forward-only database cursor. Each entity is mapped,
+     * handed over to the consumer and detached right away, so memory usage stays constant
+     * regardless of the number of tasks.
+     * </p>
+     *
+     * @param taskConsumer the callback receiving each {@link Task} in read order
+     */
+    @Transactional(readOnly = true)
+    public void exportAllTasks(Consumer<Task> taskConsumer) {
+        try (Stream<TaskEntity> taskEntities = taskRepository.streamAll()) {
+            taskEntities.forEach(taskEntity -> {
+                taskConsumer.accept(taskMapper.taskEntityToTask(taskEntity));
+                entityManager.detach(taskEntity);
+            });
+        }
+    }
+
     /**
      * Retrieves all tasks associated with a specific customer.
      *
@@ -74,7 +124,8 @@ public class TaskService {
      * This method performs several side effects:
      * <ul>
      * <li>Validates the customer existence if a customer ID is provided.</li>
-     * <li>Schedules an email reminder via {@link EmailSchedulerService} if a reminder date is set.</li>
+     * <li>Schedules an email reminder via {@link ReminderScheduler} if a reminder date is set,
+     * and publishes a {@link TaskChangedEvent} for it.</li>
      * <li>Automatically sets the 'completedAt' timestamp if the initial status is {@link TaskStatus#COMPLETED}.</li>
      * </ul>
      * </p>
@@ -96,6 +147,9 @@ public class TaskService {
 
         TaskEntity savedTaskEntity = taskRepository.save(taskEntity);
         scheduleEmailIfReminderExists(savedTaskEntity, task);
+        if (task.reminder() != null) {
+            eventPublisher.publishEvent(new TaskChangedEvent(List.of(savedTaskEntity.getId())));
+        }
 
         return taskMapper.taskEntityToTask(savedTaskEntity);
     }
@@ -115,18 +169,93 @@ public class TaskService {
             throw new TaskNotFoundException(id);
         }
 
-        emailSchedulerService.deleteEmailSchedule(id);
+        reminderScheduler.deleteEmailSchedule(id);
 
         taskRepository.deleteById(id);
     }
 
+    /**
+     * Deletes the given tasks together with their scheduled email reminders.
+     * <p>
+     * The reminders are cancelled with one bulk {@link ReminderScheduler} operation and the tasks are
+     * removed with one delete statement, in the same transaction, so deleting thousands of tasks takes
+     * a few round trips instead of several per task.
+     * </p>
+     *
+     * @param ids the unique UUIDs of the tasks to delete
+     * @throws TaskNotFoundException if any of the tasks does not exist; nothing is deleted then
+     * @throws hu.bhr.crm.exception.EmailScheduleException if cancelling the email reminders fails
+     */
+    @Transactional
+    public void deleteTasks(Collection<UUID> ids) {
+        List<TaskEntity> taskEntities = findAllExistingTasks(ids);
+
+        reminderScheduler.deleteEmailSchedules(taskEntities.stream()
+                .filter(taskEntity -> taskEntity.getReminder() != null)
+                .map(TaskEntity::getId)
+                .toList());
+
+        taskRepository.deleteAllByIdInBatch(ids);
+    }
+
+    /**
+     * Sets the reminder dates of many tasks at once.
+     * <p>
+     * The email reminder schedules follow the changes like in {@link #updateTask(Task)}, but each
+     * kind of change (added, moved or removed reminders) is applied with one bulk
+     * {@link ReminderScheduler} operation, in the same transaction as the task updates.
+     * The fired state of the added and moved reminders is cleared with one update, so they are pending again.
+     * </p>
+     *
+     * @param remindersByTaskId the new reminder date of each task; a null date removes the reminder
+     * @throws TaskNotFoundException if any of the tasks does not exist; nothing is updated then
+     * @throws hu.bhr.crm.exception.EmailScheduleException if updating the email reminders fails
+     */
+    @Transactional
+    public void updateReminders(Map<UUID, Instant> remindersByTaskId) {
+        List<TaskEntity> taskEntities = findAllExistingTasks(remindersByTaskId.keySet());
+
+        Map<UUID, Instant> addedReminders = new HashMap<>();
+        Map<UUID, Instant> movedReminders = new HashMap<>();
+        List<UUID> removedReminders = new ArrayList<>();
+        for (TaskEntity taskEntity : taskEntities) {
+            Instant oldReminder = taskEntity.getReminder();
+            Instant newReminder = remindersByTaskId.get(taskEntity.getId());
+
+            if (oldReminder == null && newReminder != null) {
+                addedReminders.put(taskEntity.getId(), newReminder);
+            } else if (oldReminder != null && newReminder == null) {
+                removedReminders.add(taskEntity.getId());
+            } else if (!Objects.equals(oldReminder, newReminder)) {
+                movedReminders.put(taskEntity.getId(), newReminder);
+            }
+            taskEntity.setReminder(newReminder);
+        }
+
+        taskRepository.saveAll(taskEntities);
+
+        Set<UUID> pendingAgain = new HashSet<>(addedReminders.keySet());
+        pendingAgain.addAll(movedReminders.keySet());
+        if (!pendingAgain.isEmpty()) {
+            taskRepository.resetRemindersFiredAt(pendingAgain);
+        }
+
+        reminderScheduler.scheduleEmails(addedReminders);
+        reminderScheduler.updateEmailScheduleTimes(movedReminders);
+        reminderScheduler.deleteEmailSchedules(removedReminders);
+
+        eventPublisher.publishEvent(new TaskChangedEvent(remindersByTaskId.keySet()));
+    }
+
     /**
      * Updates an existing task identified by its ID.
      * <p>
      * This method synchronizes the task state with external systems:
      * <ul>
-     * <li>It updates, creates, or deletes the email reminder schedule based on changes to the reminder date.</li>
+     * <li>It updates, creates, or deletes the email reminder schedule based on changes to the reminder date.
+     * An added or moved reminder is pending again, even if the previous one has already fired.</li>
      * <li>It manages the 'completedAt' timestamp if the status transitions to or is maintained as {@link TaskStatus#COMPLETED}.</li>
+     * <li>It publishes a {@link TaskChangedEvent}, as the content of the reminder may have changed.</li>
      * </ul>
      * </p>
      *
@@ -151,6 +280,7 @@ public class TaskService {
 
         TaskEntity updatedTaskEntity = taskRepository.save(newTaskEntity);
         handleReminderUpdate(oldTaskEntity.getReminder(), updatedTaskEntity.getReminder(), task.id());
+        eventPublisher.publishEvent(new TaskChangedEvent(List.of(task.id())));
 
         return taskMapper.taskEntityToTask(updatedTaskEntity);
     }
@@ -209,6 +339,27 @@ public class TaskService {
         taskRepository.saveAll(relatedTasks);
     }
 
+    /**
+     * Loads the given tasks in a single query.
+     *
+     * @param ids the UUIDs of the tasks
+     * @return the entities of the tasks
+     * @throws TaskNotFoundException for the first of the tasks that does not exist
+     */
+    private List<TaskEntity> findAllExistingTasks(Collection<UUID> ids) {
+        List<TaskEntity> taskEntities = taskRepository.findAllById(ids);
+        Set<UUID> uniqueIds = new HashSet<>(ids);
+        if (taskEntities.size() < uniqueIds.size()) {
+            Set<UUID> foundIds = taskEntities.stream()
+                    .map(TaskEntity::getId)
+                    .collect(Collectors.toSet());
+            uniqueIds.removeAll(foundIds);
+            throw new TaskNotFoundException(uniqueIds.iterator().next());
+        }
+
+        return taskEntities;
+    }
+
     /**
      * Schedules an email reminder if the task domain contains a reminder date.
      *
@@ -217,7 +368,7 @@ public class TaskService {
      */
     private void scheduleEmailIfReminderExists(TaskEntity taskEntity, Task task) {
         if (task.reminder() != null) {
-            emailSchedulerService.scheduleEmail(
+            reminderScheduler.scheduleEmail(
                     taskEntity.getId(),
                     task.reminder()
             );
@@ -234,6 +385,8 @@ public class TaskService {
      * <li>If the reminder time has changed, update the existing job.</li>
      * <li>If both are null or equal, do nothing.</li>
      * </ul>
+     * The fired state of an added or moved reminder is cleared, whatever the reminder engine is,
+     * so it is listed among the pending reminders again.
      * </p>
      *
      * @param oldReminder the previous reminder time (from the DB)
@@ -242,13 +395,15 @@ public class TaskService {
      */
     private void handleReminderUpdate(Instant oldReminder, Instant newReminder, UUID taskId) {
         if (oldReminder == null && newReminder != null) {
-            emailSchedulerService.scheduleEmail(taskId, newReminder);
+            taskRepository.resetRemindersFiredAt(List.of(taskId));
+            reminderScheduler.scheduleEmail(taskId, newReminder);
 
         } else if (oldReminder != null && newReminder == null) {
-            emailSchedulerService.deleteEmailSchedule(taskId);
+            reminderScheduler.deleteEmailSchedule(taskId);
 
         } else if (!Objects.equals(oldReminder, newReminder)) {
-            emailSchedulerService.updateEmailScheduleTime(taskId, newReminder);
+            taskRepository.resetRemindersFiredAt(List.of(taskId));
+            reminderScheduler.updateEmailScheduleTime(taskId, newReminder);
         }
     }
 }
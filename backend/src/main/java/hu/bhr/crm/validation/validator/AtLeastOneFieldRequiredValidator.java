@@ -1,15 +1,33 @@
 package hu.bhr.crm.validation.validator;
 
 import hu.bhr.crm.validation.annotation.AtLeastOneFieldRequired;
+import jakarta.validation.ConstraintDeclarationException;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import lombok.extern.slf4j.Slf4j;
+import jakarta.validation.ValidationException;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
-@Slf4j
+/**
+ * Checks that at least one of the fields named by {@link AtLeastOneFieldRequired} is neither null nor blank.
+ * <p>
+ * The fields are resolved into getter {@link MethodHandle}s once per validated type and cached, so
+ * repeated validation costs only the accessor calls. A field name that does not exist on the
+ * validated type is a declaration error and is reported with a {@link ConstraintDeclarationException}
+ * instead of being skipped.
+ * </p>
+ */
 public class AtLeastOneFieldRequiredValidator implements ConstraintValidator<AtLeastOneFieldRequired, Object> {
 
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final ConcurrentMap<Class<?>, MethodHandle[]> gettersByType = new ConcurrentHashMap<>();
+
     private String message;
     private String[] fields;
 
@@ -21,16 +39,11 @@ public class AtLeastOneFieldRequiredValidator implements ConstraintValidator<AtL
 
     @Override
     public boolean isValid(Object value, ConstraintValidatorContext context) {
-        for (String fieldName : fields) {
-            try {
-                Field field = value.getClass().getDeclaredField(fieldName);
-                field.setAccessible(true);
-                Object fieldValue = field.get(value);
-                if (fieldValue != null && !fieldValue.toString().isBlank()) {
-                    return true;
-                }
-            } catch (NoSuchFieldException | IllegalAccessException e) {
-                log.error("Validation failed: field '{}' not found or not accessible", fieldName, e);
+        MethodHandle[] getters = gettersByType.computeIfAbsent(value.getClass(), type -> resolveGetters(type, fields));
+        for (MethodHandle getter : getters) {
+            Object fieldValue = get(getter, value);
+            if (fieldValue != null && !fieldValue.toString().isBlank()) {
+                return true;
             }
         }
 
@@ -39,5 +52,37 @@ public class AtLeastOneFieldRequiredValidator implements ConstraintValidator<AtL
                 .addConstraintViolation();
         return false;
     }
-}
 
+    /**
+     * Resolves the named fields of the given type into getters taking and returning {@link Object}.
+     *
+     * @param type   the annotated type
+     * @param fields the names of the fields declared on the type
+     * @return the getters, in the order of the field names
+     * @throws ConstraintDeclarationException if a field does not exist or cannot be read
+     */
+    public static MethodHandle[] resolveGetters(Class<?> type, String[] fields) {
+        MethodHandle[] getters = new MethodHandle[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            try {
+                Field field = type.getDeclaredField(fields[i]);
+                field.setAccessible(true);
+                getters[i] = MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+            } catch (NoSuchFieldException | IllegalAccessException | RuntimeException e) {
+                throw new ConstraintDeclarationException(String.format(
+                        "@AtLeastOneFieldRequired on %s names field '%s' that does not exist or is not accessible",
+                        type.getName(), fields[i]), e);
+            }
+        }
+
+        return getters;
+    }
+
+    private static Object get(MethodHandle getter, Object value) {
+        try {
+            return (Object) getter.invokeExact(value);
+        } catch (Throwable e) {
+            throw new ValidationException("Field of " + value.getClass().getName() + " could not be read", e);
+        }
+    }
+}
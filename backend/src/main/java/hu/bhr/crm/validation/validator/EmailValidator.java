@@ -5,12 +5,107 @@ import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import org.apache.commons.lang3.StringUtils;
 
+/**
+ * Validates the email format with a single linear scan, without regular expressions or allocation.
+ * <p>
+ * The accepted language is exactly the one of the former regular expression
+ * {@code ^(?=.{1,64}@)[A-Za-z0-9_-]+(\.[A-Za-z0-9_-]+)*@[^-][A-Za-z0-9-]+(\.[A-Za-z0-9-]+)*(\.[A-Za-z]{2,})$}:
+ * <ul>
+ * <li>the local part (before the first '@') is 1 to 64 characters long and consists of
+ * non-empty, dot-separated runs of letters, digits, '_' and '-',</li>
+ * <li>the first character of the domain part can be anything except '-',</li>
+ * <li>the rest of the domain part consists of at least two non-empty, dot-separated labels of
+ * letters, digits and '-', where the last label has at least two letters only.</li>
+ * </ul>
+ * </p>
+ */
 public class EmailValidator implements ConstraintValidator<ValidEmail, String> {
 
-    private static final String EMAIL_REGEX = "^(?=.{1,64}@)[A-Za-z0-9_-]+(\\.[A-Za-z0-9_-]+)*@[^-][A-Za-z0-9-]+(\\.[A-Za-z0-9-]+)*(\\.[A-Za-z]{2,})$";
+    private static final int MAX_LOCAL_PART_LENGTH = 64;
+    private static final int MIN_TOP_LEVEL_DOMAIN_LENGTH = 2;
 
     @Override
     public boolean isValid(String email, ConstraintValidatorContext context) {
-        return StringUtils.isBlank(email) || email.matches(EMAIL_REGEX);
+        return StringUtils.isBlank(email) || isValidFormat(email);
+    }
+
+    private static boolean isValidFormat(String email) {
+        int at = email.indexOf('@');
+        if (at < 1 || at > MAX_LOCAL_PART_LENGTH || !isValidLocalPart(email, at)) {
+            return false;
+        }
+
+        int domainStart = at + 1;
+        if (domainStart >= email.length()) {
+            return false;
+        }
+
+        int firstCodePoint = email.codePointAt(domainStart);
+        if (firstCodePoint == '-') {
+            return false;
+        }
+
+        return isValidDomainRest(email, domainStart + Character.charCount(firstCodePoint));
+    }
+
+    private static boolean isValidLocalPart(String email, int end) {
+        boolean segmentEmpty = true;
+        for (int i = 0; i < end; i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                if (segmentEmpty) {
+                    return false;
+                }
+                segmentEmpty = true;
+            } else if (isAsciiLetterOrDigit(c) || c == '_' || c == '-') {
+                segmentEmpty = false;
+            } else {
+                return false;
+            }
+        }
+
+        return !segmentEmpty;
+    }
+
+    private static boolean isValidDomainRest(String email, int start) {
+        int length = email.length();
+        int labelCount = 0;
+        int labelStart = start;
+        boolean lastLabelAlphabetic = true;
+
+        for (int i = start; i <= length; i++) {
+            char c = i < length ? email.charAt(i) : '.';
+            if (c == '.') {
+                if (i == labelStart) {
+                    return false;
+                }
+                labelCount++;
+                if (i == length) {
+                    return labelCount >= 2
+                            && lastLabelAlphabetic
+                            && i - labelStart >= MIN_TOP_LEVEL_DOMAIN_LENGTH;
+                }
+                labelStart = i + 1;
+                lastLabelAlphabetic = true;
+            } else if (isAsciiDigit(c) || c == '-') {
+                lastLabelAlphabetic = false;
+            } else if (!isAsciiLetter(c)) {
+                return false;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return isAsciiLetter(c) || isAsciiDigit(c);
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
     }
 }
@@ -6,15 +6,15 @@ import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import org.apache.commons.lang3.StringUtils;
 
-import java.util.Arrays;
+import java.util.Set;
 
 public class EnumValidator implements ConstraintValidator<ValidEnum, String> {
 
-    private Class<? extends Enum<?>> enumClass;
+    private Set<String> enumNames;
 
     @Override
     public void initialize(ValidEnum constraintAnnotation) {
-        this.enumClass = constraintAnnotation.enumClass();
+        this.enumNames = EnumUtils.enumNames(constraintAnnotation.enumClass());
     }
 
     @Override
@@ -23,9 +23,6 @@ public class EnumValidator implements ConstraintValidator<ValidEnum, String> {
             return true;
         }
 
-        String normalized = EnumUtils.normalizeEnumName(value);
-        return Arrays.stream(enumClass.getEnumConstants())
-                .map(Enum::name)
-                .anyMatch(enumValue -> enumValue.equals(normalized));
+        return enumNames.contains(EnumUtils.normalizeEnumName(value));
     }
 }
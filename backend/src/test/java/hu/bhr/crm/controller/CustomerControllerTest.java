@@ -1,13 +1,25 @@
 package hu.bhr.crm.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import hu.bhr.crm.controller.dto.CustomerImportResponse;
+import hu.bhr.crm.controller.dto.CustomerImportRowResponse;
+import hu.bhr.crm.controller.dto.CustomerOverviewResponse;
 import hu.bhr.crm.controller.dto.CustomerRequest;
 import hu.bhr.crm.controller.dto.CustomerResponse;
 import hu.bhr.crm.controller.dto.ResidenceRequest;
 import hu.bhr.crm.controller.dto.ResidenceResponse;
 import hu.bhr.crm.exception.CustomerNotFoundException;
+import hu.bhr.crm.exception.InvalidRequestException;
+import hu.bhr.crm.mapper.CustomerImportMapper;
 import hu.bhr.crm.mapper.CustomerMapper;
+import hu.bhr.crm.mapper.CustomerOverviewMapper;
+import hu.bhr.crm.mapper.PageCursorCodec;
+import hu.bhr.crm.model.CursorPage;
 import hu.bhr.crm.model.Customer;
+import hu.bhr.crm.model.CustomerImportRowResult;
+import hu.bhr.crm.model.CustomerImportStatus;
+import hu.bhr.crm.model.CustomerOverview;
+import hu.bhr.crm.model.PageCursor;
 import hu.bhr.crm.model.Residence;
 import hu.bhr.crm.service.CustomerServiceFacade;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,13 +31,19 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -56,6 +74,12 @@ class CustomerControllerTest {
     @MockitoBean
     private CustomerMapper customerMapper;
 
+    @MockitoBean
+    private CustomerImportMapper customerImportMapper;
+
+    @MockitoBean
+    private CustomerOverviewMapper customerOverviewMapper;
+
     @Nested
     class GetCustomerByIdTests {
 
@@ -102,6 +126,54 @@ class CustomerControllerTest {
         }
     }
 
+    @Nested
+    class GetCustomerOverviewTests {
+
+        private UUID customerId;
+
+        @BeforeEach
+        void setUp() {
+            customerId = UUID.randomUUID();
+        }
+
+        @Test
+        void shouldReturnCustomerOverviewResponseAndStatusOkWhenCustomerExists() throws Exception {
+            // Given
+            Customer customer = createCustomer(customerId, "Harry", "Potter");
+            CustomerOverview customerOverview = CustomerOverview.builder()
+                    .customer(customer)
+                    .customerDetails(List.of())
+                    .tasks(List.of())
+                    .build();
+
+            when(customerServiceFacade.getCustomerOverview(customerId)).thenReturn(customerOverview);
+            when(customerOverviewMapper.customerOverviewToCustomerOverviewResponse(customerOverview))
+                    .thenReturn(new CustomerOverviewResponse(createCustomerResponse(customer), List.of(), List.of()));
+
+            // When / Then
+            mockMvc.perform(get("/api/v1/customers/{id}/overview", customerId)
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.customer.id").value(customerId.toString()))
+                    .andExpect(jsonPath("$.content.customerDetails").isEmpty())
+                    .andExpect(jsonPath("$.content.tasks").isEmpty());
+        }
+
+        @Test
+        void shouldReturnStatusNotFoundWhenCustomerDoesNotExist() throws Exception {
+            // Given
+            when(customerServiceFacade.getCustomerOverview(customerId))
+                    .thenThrow(new CustomerNotFoundException("Customer not found"));
+
+            // When / Then
+            mockMvc.perform(get("/api/v1/customers/{id}/overview", customerId)
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.title").value(TITLE_ERROR_NOT_FOUND))
+                    .andExpect(jsonPath("$.errorMessages[0]").value(MESSAGE_ERROR_CUSTOMER_NOT_FOUND));
+        }
+    }
+
     @Nested
     class GetAllCustomersTests {
 
@@ -147,6 +219,165 @@ class CustomerControllerTest {
         }
     }
 
+    @Nested
+    class GetCustomerPageTests {
+
+        @Test
+        void shouldReturnCustomerPageWithNextCursorAndStatusOk() throws Exception {
+            // Given
+            final UUID customerId = UUID.randomUUID();
+            Customer customer = createCustomer(customerId, "Harry", "Potter");
+            CustomerResponse customerResponse = createCustomerResponse(customer);
+            PageCursor nextCursor = new PageCursor(Instant.parse("2025-01-01T10:00:00Z"), customerId);
+
+            when(customerServiceFacade.getCustomerPage(
+                    argThat(filter -> "cousin".equals(filter.relationship())
+                            && "Budapest".equals(filter.city())
+                            && "Ha".equals(filter.namePrefix())),
+                    isNull(),
+                    eq(1)))
+                    .thenReturn(new CursorPage<>(List.of(customer), nextCursor));
+            when(customerMapper.customerToCustomerResponse(customer)).thenReturn(customerResponse);
+
+            // When / Then
+            mockMvc.perform(get("/api/v1/customers/page")
+                            .param("limit", "1")
+                            .param("relationship", "cousin")
+                            .param("city", "Budapest")
+                            .param("namePrefix", "Ha")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.items[0].id").value(customerId.toString()))
+                    .andExpect(jsonPath("$.content.items[0].firstName").value("Harry"))
+                    .andExpect(jsonPath("$.content.nextCursor").value(PageCursorCodec.encode(nextCursor)));
+        }
+
+        @Test
+        void shouldPassDecodedCursorToServiceAndReturnLastPage() throws Exception {
+            // Given
+            PageCursor cursor = new PageCursor(Instant.parse("2025-01-01T10:00:00Z"), UUID.randomUUID());
+
+            when(customerServiceFacade.getCustomerPage(any(), eq(cursor), eq(50)))
+                    .thenReturn(new CursorPage<>(List.of(), null));
+
+            // When / Then
+            mockMvc.perform(get("/api/v1/customers/page")
+                            .param("cursor", PageCursorCodec.encode(cursor))
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.items").isEmpty())
+                    .andExpect(jsonPath("$.content.nextCursor").doesNotExist());
+        }
+
+        @Test
+        void shouldReturnStatusBadRequestWhenCursorIsMalformed() throws Exception {
+            // When / Then
+            mockMvc.perform(get("/api/v1/customers/page")
+                            .param("cursor", "not-a-cursor")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.title").value(TITLE_ERROR_VALIDATION))
+                    .andExpect(jsonPath("$.errorMessages[0]").value("Invalid page cursor"));
+
+            verify(customerServiceFacade, never()).getCustomerPage(any(), any(), anyInt());
+        }
+
+        @Test
+        void shouldReturnStatusBadRequestWhenPageSizeIsOutOfRange() throws Exception {
+            // Given
+            when(customerServiceFacade.getCustomerPage(any(), isNull(), eq(1000)))
+                    .thenThrow(new InvalidRequestException("Page size must be between 1 and 200"));
+
+            // When / Then
+            mockMvc.perform(get("/api/v1/customers/page")
+                            .param("limit", "1000")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.title").value(TITLE_ERROR_VALIDATION))
+                    .andExpect(jsonPath("$.errorMessages[0]").value("Page size must be between 1 and 200"));
+        }
+    }
+
+    @Nested
+    class ImportCustomersTests {
+
+        @Test
+        void shouldValidateEachRowAndReturnImportReportAndStatusOk() throws Exception {
+            // Given
+            final UUID customerId = UUID.randomUUID();
+
+            CustomerRequest validRequest = CustomerRequest.builder()
+                    .firstName("Harry")
+                    .email("harry.potter@gryffindor.com")
+                    .relationship("gryffindor")
+                    .build();
+            CustomerRequest invalidRequest = CustomerRequest.builder()
+                    .firstName("Ron")
+                    .build();
+
+            List<CustomerImportRowResult> rowResults = List.of(
+                    CustomerImportRowResult.imported(0, customerId),
+                    CustomerImportRowResult.failed(1, MESSAGE_ERROR_RELATIONSHIP_MISSING));
+            CustomerImportResponse importResponse = new CustomerImportResponse(2, 1, 1, List.of(
+                    new CustomerImportRowResponse(0, CustomerImportStatus.IMPORTED, customerId, List.of()),
+                    new CustomerImportRowResponse(1, CustomerImportStatus.FAILED, null, List.of(MESSAGE_ERROR_RELATIONSHIP_MISSING))));
+
+            when(customerServiceFacade.importCustomers(argThat(rows -> rows.size() == 2
+                    && rows.get(0).isValid()
+                    && "Harry".equals(rows.get(0).customer().firstName())
+                    && rows.get(1).errors().equals(List.of(MESSAGE_ERROR_RELATIONSHIP_MISSING)))))
+                    .thenReturn(rowResults);
+            when(customerImportMapper.rowResultsToImportResponse(rowResults)).thenReturn(importResponse);
+
+            // When / Then
+            mockMvc.perform(post("/api/v1/customers/import")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(List.of(validRequest, invalidRequest))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.total").value(2))
+                    .andExpect(jsonPath("$.content.imported").value(1))
+                    .andExpect(jsonPath("$.content.failed").value(1))
+                    .andExpect(jsonPath("$.content.rows[0].customerId").value(customerId.toString()))
+                    .andExpect(jsonPath("$.content.rows[1].status").value("FAILED"))
+                    .andExpect(jsonPath("$.content.rows[1].errors[0]").value(MESSAGE_ERROR_RELATIONSHIP_MISSING));
+        }
+
+        @Test
+        void shouldReturnStatusBadRequestWhenImportIsEmpty() throws Exception {
+            // Given
+            doThrow(new InvalidRequestException("Import must contain between 1 and 10000 customers"))
+                    .when(customerServiceFacade).checkImportRowCount(0);
+
+            // When / Then
+            mockMvc.perform(post("/api/v1/customers/import")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[]"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.title").value(TITLE_ERROR_VALIDATION))
+                    .andExpect(jsonPath("$.errorMessages[0]").value("Import must contain between 1 and 10000 customers"));
+        }
+
+        @Test
+        void shouldRejectOversizedImportBeforeImportingAnyRow() throws Exception {
+            // Given
+            CustomerRequest request = CustomerRequest.builder()
+                    .firstName("Harry")
+                    .relationship("gryffindor")
+                    .build();
+
+            doThrow(new InvalidRequestException("Import must contain between 1 and 1 customers"))
+                    .when(customerServiceFacade).checkImportRowCount(2);
+
+            // When / Then
+            mockMvc.perform(post("/api/v1/customers/import")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(List.of(request, request))))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errorMessages[0]").value("Import must contain between 1 and 1 customers"));
+            verify(customerServiceFacade, never()).importCustomers(any());
+        }
+    }
+
     @Nested
     class RegisterCustomerTests {
 
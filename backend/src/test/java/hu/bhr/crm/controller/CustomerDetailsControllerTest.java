@@ -1,12 +1,19 @@
 package hu.bhr.crm.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import hu.bhr.crm.controller.dto.CustomerDetailsBulkRequest;
+import hu.bhr.crm.controller.dto.CustomerDetailsIdsRequest;
 import hu.bhr.crm.controller.dto.CustomerDetailsRequest;
 import hu.bhr.crm.controller.dto.CustomerDetailsResponse;
 import hu.bhr.crm.exception.CustomerDetailsNotFoundException;
 import hu.bhr.crm.exception.CustomerNotFoundException;
+import hu.bhr.crm.exception.InvalidRequestException;
 import hu.bhr.crm.mapper.CustomerDetailsMapper;
+import hu.bhr.crm.mapper.PageCursorCodec;
+import hu.bhr.crm.model.CursorPage;
 import hu.bhr.crm.model.CustomerDetails;
+import hu.bhr.crm.model.PageCursor;
+import hu.bhr.crm.model.SearchPage;
 import hu.bhr.crm.service.CustomerDetailsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -17,14 +24,19 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -162,6 +174,98 @@ class CustomerDetailsControllerTest {
         }
     }
 
+    @Nested
+    class GetCustomerDetailsPageTests {
+
+        private UUID customerId;
+
+        @BeforeEach
+        void setUp() {
+            customerId = UUID.randomUUID();
+        }
+
+        @Test
+        void shouldReturnPageWithNextCursorAndStatusOk() throws Exception {
+            // Given
+            PageCursor cursor = new PageCursor(Instant.parse("2025-01-01T10:00:00Z"), UUID.randomUUID());
+            CustomerDetails details = createCustomerDetails(UUID.randomUUID(), "Note 1");
+            PageCursor nextCursor = new PageCursor(Instant.parse("2025-01-02T10:00:00Z"), details.id());
+
+            when(customerDetailsService.getCustomerDetailsPage(customerId, cursor, 1, true))
+                    .thenReturn(new CursorPage<>(List.of(details), nextCursor));
+            when(customerDetailsMapper.customerDetailsToCustomerDetailsResponse(details))
+                    .thenReturn(createCustomerDetailsResponse(details));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/customers/{customerId}/details/page", customerId)
+                            .param("cursor", PageCursorCodec.encode(cursor))
+                            .param("limit", "1")
+                            .param("preview", "true")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.items", hasSize(1)))
+                    .andExpect(jsonPath("$.content.items[0].note").value("Note 1"))
+                    .andExpect(jsonPath("$.content.nextCursor").value(PageCursorCodec.encode(nextCursor)));
+        }
+
+        @Test
+        void shouldReturnStatusBadRequestWhenPageSizeIsOutOfRange() throws Exception {
+            // Given
+            when(customerDetailsService.getCustomerDetailsPage(customerId, null, 1000, false))
+                    .thenThrow(new InvalidRequestException("Page size must be between 1 and 200"));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/customers/{customerId}/details/page", customerId)
+                            .param("limit", "1000")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.title").value(TITLE_ERROR_VALIDATION))
+                    .andExpect(jsonPath("$.errorMessages[0]").value("Page size must be between 1 and 200"));
+        }
+    }
+
+    @Nested
+    class SearchCustomerDetailsTests {
+
+        @Test
+        void shouldReturnMatchingDetailsAndStatusOk() throws Exception {
+            // Given
+            UUID customerId = UUID.randomUUID();
+            CustomerDetails details = createCustomerDetails(UUID.randomUUID(), "Customer prefers wine over beer.");
+
+            when(customerDetailsService.searchCustomerDetails("wine", customerId, 0, 20))
+                    .thenReturn(new SearchPage<>(List.of(details), 0, false));
+            when(customerDetailsMapper.customerDetailsToCustomerDetailsResponse(details))
+                    .thenReturn(createCustomerDetailsResponse(details));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/customers/details/search")
+                            .param("text", "wine")
+                            .param("customerId", customerId.toString())
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.items", hasSize(1)))
+                    .andExpect(jsonPath("$.content.items[0].note").value("Customer prefers wine over beer."))
+                    .andExpect(jsonPath("$.content.page").value(0))
+                    .andExpect(jsonPath("$.content.hasNext").value(false));
+        }
+
+        @Test
+        void shouldReturnStatusBadRequestWhenTextIsBlank() throws Exception {
+            // Given
+            when(customerDetailsService.searchCustomerDetails(" ", null, 0, 20))
+                    .thenThrow(new InvalidRequestException("Search text is required"));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/customers/details/search")
+                            .param("text", " ")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.title").value(TITLE_ERROR_VALIDATION))
+                    .andExpect(jsonPath("$.errorMessages[0]").value("Search text is required"));
+        }
+    }
+
     @Nested
     class RegisterCustomerDetailsTests {
 
@@ -236,6 +340,66 @@ class CustomerDetailsControllerTest {
         }
     }
 
+    @Nested
+    class RegisterAllCustomerDetailsTests {
+
+        private UUID customerId;
+
+        @BeforeEach
+        void setUp() {
+            customerId = UUID.randomUUID();
+        }
+
+        @Test
+        void shouldReturnCreatedCustomerDetailsAndStatusCreated() throws Exception {
+            // Given
+            CustomerDetailsBulkRequest bulkRequest = CustomerDetailsBulkRequest.builder()
+                    .notes(List.of(
+                            CustomerDetailsRequest.builder().note("Note 1").build(),
+                            CustomerDetailsRequest.builder().note("Note 2").build()))
+                    .build();
+            CustomerDetails details1 = createCustomerDetails(UUID.randomUUID(), "Note 1");
+            CustomerDetails details2 = createCustomerDetails(UUID.randomUUID(), "Note 2");
+
+            when(customerDetailsService.saveAllCustomerDetails(eq(customerId),
+                    argThat(customerDetailsList -> customerDetailsList.size() == 2
+                            && customerDetailsList.stream().allMatch(details -> customerId.equals(details.customerId())))))
+                    .thenReturn(List.of(details1, details2));
+            when(customerDetailsMapper.customerDetailsToCustomerDetailsResponse(details1))
+                    .thenReturn(createCustomerDetailsResponse(details1));
+            when(customerDetailsMapper.customerDetailsToCustomerDetailsResponse(details2))
+                    .thenReturn(createCustomerDetailsResponse(details2));
+
+            // When / Then
+            mockMvc.perform(post("/api/v1/customers/{customerId}/details/bulk", customerId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(bulkRequest)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.content", hasSize(2)))
+                    .andExpect(jsonPath("$.content[1].note").value("Note 2"));
+        }
+
+        @Test
+        void shouldReturnBadRequestWhenAnyNoteIsEmpty() throws Exception {
+            // Given
+            CustomerDetailsBulkRequest bulkRequest = CustomerDetailsBulkRequest.builder()
+                    .notes(List.of(
+                            CustomerDetailsRequest.builder().note("Note 1").build(),
+                            CustomerDetailsRequest.builder().note("").build()))
+                    .build();
+
+            // When / Then
+            mockMvc.perform(post("/api/v1/customers/{customerId}/details/bulk", customerId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(bulkRequest)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.title").value(TITLE_ERROR_VALIDATION))
+                    .andExpect(jsonPath("$.errorMessages[0]").value(MESSAGE_ERROR_NOTE_MISSING));
+
+            verify(customerDetailsService, never()).saveAllCustomerDetails(any(), any());
+        }
+    }
+
     @Nested
     class UpdateCustomerDetailsTests {
 
@@ -370,6 +534,40 @@ class CustomerDetailsControllerTest {
         }
     }
 
+    @Nested
+    class DeleteAllCustomerDetailsTests {
+
+        @Test
+        void shouldReturnStatusNoContentWhenCustomerDetailsDeleted() throws Exception {
+            // Given
+            Set<UUID> ids = Set.of(UUID.randomUUID(), UUID.randomUUID());
+            CustomerDetailsIdsRequest idsRequest = CustomerDetailsIdsRequest.builder().ids(ids).build();
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/customers/details/bulk-delete")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(idsRequest)))
+                    .andExpect(status().isNoContent());
+
+            verify(customerDetailsService).deleteAllCustomerDetailsByIds(ids);
+        }
+
+        @Test
+        void shouldReturnBadRequestWhenNoIdIsGiven() throws Exception {
+            // Given
+            CustomerDetailsIdsRequest idsRequest = CustomerDetailsIdsRequest.builder().ids(Set.of()).build();
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/customers/details/bulk-delete")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(idsRequest)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errorMessages[0]").value("At least one document ID is required"));
+
+            verify(customerDetailsService, never()).deleteAllCustomerDetailsByIds(any());
+        }
+    }
+
     private CustomerDetails createCustomerDetails(UUID id, String note) {
         return CustomerDetails.builder()
                 .id(id)
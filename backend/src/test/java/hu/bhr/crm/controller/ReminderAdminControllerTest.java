@@ -0,0 +1,91 @@
+package hu.bhr.crm.controller;
+
+import hu.bhr.crm.controller.dto.OverdueReminderResponse;
+import hu.bhr.crm.exception.InvalidRequestException;
+import hu.bhr.crm.mapper.OverdueReminderMapper;
+import hu.bhr.crm.model.OverdueReminder;
+import hu.bhr.crm.service.ReminderMonitoringService;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ReminderAdminController.class)
+class ReminderAdminControllerTest {
+
+    private static final String TITLE_ERROR_VALIDATION = "Validation error during request processing";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ReminderMonitoringService reminderMonitoringService;
+
+    @MockitoBean
+    private OverdueReminderMapper overdueReminderMapper;
+
+    @Nested
+    class GetOverdueRemindersTests {
+
+        @Test
+        void shouldReturnOverdueRemindersWithDefaultLimit() throws Exception {
+            // Given
+            Instant reminder = Instant.parse("2025-02-15T09:00:00Z");
+            OverdueReminder overdueReminder = OverdueReminder.builder()
+                    .taskId(UUID.randomUUID())
+                    .title("Call customer")
+                    .reminder(reminder)
+                    .overdueBy(Duration.ofMinutes(3))
+                    .misfired(true)
+                    .triggerState("NORMAL")
+                    .build();
+            OverdueReminderResponse response = new OverdueReminderResponse(
+                    overdueReminder.taskId(), "Call customer", ZonedDateTime.ofInstant(reminder, ZoneId.of("UTC")),
+                    180, true, "NORMAL");
+
+            when(reminderMonitoringService.getOverdueReminders(100)).thenReturn(List.of(overdueReminder));
+            when(overdueReminderMapper.overdueReminderToOverdueReminderResponse(overdueReminder)).thenReturn(response);
+
+            // When / Then
+            mockMvc.perform(get("/api/v1/admin/reminders/overdue")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].taskId").value(overdueReminder.taskId().toString()))
+                    .andExpect(jsonPath("$.content[0].overdueSeconds").value(180))
+                    .andExpect(jsonPath("$.content[0].misfired").value(true))
+                    .andExpect(jsonPath("$.content[0].triggerState").value("NORMAL"));
+        }
+
+        @Test
+        void shouldReturnStatusBadRequestWhenLimitIsOutOfRange() throws Exception {
+            // Given
+            when(reminderMonitoringService.getOverdueReminders(1000))
+                    .thenThrow(new InvalidRequestException("Limit must be between 1 and 500"));
+
+            // When / Then
+            mockMvc.perform(get("/api/v1/admin/reminders/overdue")
+                            .param("limit", "1000")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.title").value(TITLE_ERROR_VALIDATION))
+                    .andExpect(jsonPath("$.errorMessages[0]").value("Limit must be between 1 and 500"));
+        }
+    }
+}
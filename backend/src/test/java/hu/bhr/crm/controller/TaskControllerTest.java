@@ -1,6 +1,9 @@
 package hu.bhr.crm.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import hu.bhr.crm.controller.dto.TaskIdsRequest;
+import hu.bhr.crm.controller.dto.TaskReminderRequest;
+import hu.bhr.crm.controller.dto.TaskRemindersRequest;
 import hu.bhr.crm.controller.dto.TaskRequest;
 import hu.bhr.crm.controller.dto.TaskResponse;
 import hu.bhr.crm.exception.TaskNotFoundException;
@@ -17,23 +20,35 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(TaskController.class)
@@ -137,6 +152,61 @@ class TaskControllerTest {
         }
     }
 
+    @Nested
+    class ExportAllTasksTests {
+
+        @Test
+        void shouldStreamOneJsonLinePerTaskAndStatusOk() throws Exception {
+            // Given
+            Task task1 = createTask(UUID.randomUUID(), "Task 1");
+            Task task2 = createTask(UUID.randomUUID(), "Task 2");
+
+            TaskResponse taskResponse1 = createTaskResponse(task1);
+            TaskResponse taskResponse2 = createTaskResponse(task2);
+
+            doAnswer(invocation -> {
+                Consumer<Task> consumer = invocation.getArgument(0);
+                consumer.accept(task1);
+                consumer.accept(task2);
+                return null;
+            }).when(taskService).exportAllTasks(any());
+            when(taskMapper.taskToTaskResponse(task1)).thenReturn(taskResponse1);
+            when(taskMapper.taskToTaskResponse(task2)).thenReturn(taskResponse2);
+
+            String expectedBody = objectMapper.writeValueAsString(taskResponse1) + "\n"
+                    + objectMapper.writeValueAsString(taskResponse2) + "\n";
+
+            // When
+            MvcResult mvcResult = mockMvc.perform(get("/api/v1/tasks/export")
+                            .accept(MediaType.APPLICATION_NDJSON))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Then
+            mockMvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                    .andExpect(content().string(expectedBody));
+        }
+
+        @Test
+        void shouldReturnEmptyBodyAndStatusOkWhenNoTasksExist() throws Exception {
+            // Given
+            doNothing().when(taskService).exportAllTasks(any());
+
+            // When
+            MvcResult mvcResult = mockMvc.perform(get("/api/v1/tasks/export")
+                            .accept(MediaType.APPLICATION_NDJSON))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Then
+            mockMvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(""));
+        }
+    }
+
     @Nested
     class GetAllTasksByCustomerIdTests {
 
@@ -351,6 +421,98 @@ class TaskControllerTest {
         }
     }
 
+    @Nested
+    class DeleteTasksTests {
+
+        @Test
+        void shouldReturnStatusNoContentWhenTasksAreSuccessfullyDeleted() throws Exception {
+            // Given
+            Set<UUID> ids = Set.of(UUID.randomUUID(), UUID.randomUUID());
+            TaskIdsRequest request = new TaskIdsRequest(ids);
+
+            // When / Then
+            mockMvc.perform(post("/api/v1/tasks/bulk-delete")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isNoContent());
+
+            verify(taskService).deleteTasks(ids);
+        }
+
+        @Test
+        void shouldReturnStatusBadRequestWhenNoTaskIdIsGiven() throws Exception {
+            // Given
+            TaskIdsRequest request = new TaskIdsRequest(Set.of());
+
+            // When / Then
+            mockMvc.perform(post("/api/v1/tasks/bulk-delete")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.title").value(TITLE_ERROR_VALIDATION));
+
+            verify(taskService, never()).deleteTasks(any());
+        }
+
+        @Test
+        void shouldReturnStatusNotFoundWhenAnyTaskDoesNotExist() throws Exception {
+            // Given
+            TaskIdsRequest request = new TaskIdsRequest(Set.of(UUID.randomUUID()));
+            doThrow(new TaskNotFoundException("Task not found"))
+                    .when(taskService).deleteTasks(any());
+
+            // When / Then
+            mockMvc.perform(post("/api/v1/tasks/bulk-delete")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.errorMessages[0]").value(MESSAGE_ERROR_TASK_NOT_FOUND));
+        }
+    }
+
+    @Nested
+    class UpdateRemindersTests {
+
+        @Test
+        void shouldPassRemindersByTaskIdAndReturnStatusNoContent() throws Exception {
+            // Given
+            UUID movedTaskId = UUID.randomUUID();
+            UUID clearedTaskId = UUID.randomUUID();
+            ZonedDateTime reminder = ZonedDateTime.now(ZoneId.of("UTC")).plusDays(1);
+            TaskRemindersRequest request = new TaskRemindersRequest(List.of(
+                    new TaskReminderRequest(movedTaskId, reminder),
+                    new TaskReminderRequest(clearedTaskId, null)));
+
+            Map<UUID, Instant> expected = new HashMap<>();
+            expected.put(movedTaskId, reminder.toInstant());
+            expected.put(clearedTaskId, null);
+
+            // When / Then
+            mockMvc.perform(put("/api/v1/tasks/reminders")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isNoContent());
+
+            verify(taskService).updateReminders(expected);
+        }
+
+        @Test
+        void shouldReturnStatusBadRequestWhenReminderIsInThePast() throws Exception {
+            // Given
+            TaskRemindersRequest request = new TaskRemindersRequest(List.of(
+                    new TaskReminderRequest(UUID.randomUUID(), ZonedDateTime.now().minusMinutes(1))));
+
+            // When / Then
+            mockMvc.perform(put("/api/v1/tasks/reminders")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.title").value(TITLE_ERROR_VALIDATION));
+
+            verify(taskService, never()).updateReminders(any());
+        }
+    }
+
     private static Stream<TaskRequest> invalidTaskRequests() {
         return Stream.of(
                 new TaskRequest(null, "", "Title is missing", null, null, null),
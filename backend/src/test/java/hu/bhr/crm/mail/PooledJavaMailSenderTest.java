@@ -0,0 +1,124 @@
+package hu.bhr.crm.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PooledJavaMailSenderTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private CountingPooledJavaMailSender underTest;
+
+    @AfterEach
+    void tearDown() {
+        underTest.destroy();
+    }
+
+    @Test
+    void shouldReuseConnectedTransportAcrossSends() throws MessagingException {
+        // Given
+        underTest = new CountingPooledJavaMailSender(Duration.ofMinutes(1), Duration.ofSeconds(5));
+
+        // When
+        underTest.send(message("first"));
+        underTest.send(message("second"));
+        underTest.send(message("third"), message("fourth"));
+
+        // Then
+        assertEquals(4, greenMail.getReceivedMessages().length);
+        assertEquals(1, underTest.connectedTransports.size());
+        assertEquals(1, underTest.getIdleCount());
+    }
+
+    @Test
+    void shouldReplacePooledTransportDroppedByServer() throws MessagingException {
+        // Given
+        underTest = new CountingPooledJavaMailSender(Duration.ofMinutes(1), Duration.ZERO);
+        underTest.send(message("first"));
+        underTest.connectedTransports.getFirst().close();
+
+        // When
+        underTest.send(message("second"));
+
+        // Then
+        assertEquals(2, greenMail.getReceivedMessages().length);
+        assertEquals(2, underTest.connectedTransports.size());
+    }
+
+    @Test
+    void shouldCloseTransportsIdleForLongerThanMaxIdleTime() throws MessagingException {
+        // Given
+        underTest = new CountingPooledJavaMailSender(Duration.ZERO, Duration.ZERO);
+        underTest.send(message("first"));
+
+        // When
+        underTest.evictIdleTransports();
+
+        // Then
+        assertEquals(0, underTest.getIdleCount());
+        assertFalse(underTest.connectedTransports.getFirst().isConnected());
+    }
+
+    @Test
+    void shouldSendOnPlatformThreadWhenCalledOnVirtualThread() throws Exception {
+        // Given
+        underTest = new CountingPooledJavaMailSender(Duration.ofMinutes(1), Duration.ofSeconds(5));
+        MimeMessage message = message("first");
+
+        // When
+        Thread sender = Thread.ofVirtual().start(() -> underTest.send(message));
+        sender.join();
+
+        // Then
+        assertEquals(1, greenMail.getReceivedMessages().length);
+        assertEquals(1, underTest.connectingThreads.size());
+        assertFalse(underTest.connectingThreads.getFirst().isVirtual());
+        assertTrue(sender.isVirtual());
+    }
+
+    private MimeMessage message(String subject) throws MessagingException {
+        MimeMessage mimeMessage = underTest.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, "UTF-8");
+        helper.setFrom("crm@example.com");
+        helper.setTo("owner@example.com");
+        helper.setSubject(subject);
+        helper.setText("<p>" + subject + "</p>", true);
+        return mimeMessage;
+    }
+
+    private static class CountingPooledJavaMailSender extends PooledJavaMailSender {
+
+        private final List<Transport> connectedTransports = new ArrayList<>();
+        private final List<Thread> connectingThreads = new ArrayList<>();
+
+        CountingPooledJavaMailSender(Duration maxIdleTime, Duration validationInterval) {
+            super(2, maxIdleTime, validationInterval);
+            setHost("localhost");
+            setPort(ServerSetupTest.SMTP.getPort());
+        }
+
+        @Override
+        protected Transport connectTransport() throws MessagingException {
+            Transport transport = super.connectTransport();
+            connectedTransports.add(transport);
+            connectingThreads.add(Thread.currentThread());
+            return transport;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package hu.bhr.crm.mapper;
+
+import hu.bhr.crm.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EnumUtilsTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiterString = "=>", value = {
+            "IN_PROGRESS => IN_PROGRESS",
+            "'  in progress  ' => IN_PROGRESS",
+            "In - _ Progress => IN_PROGRESS",
+            "'on\t\fhold' => ON_HOLD",
+            "_open_ => _OPEN_",
+            "'' => ''"
+    })
+    void shouldNormalizeEnumName(String input, String expected) {
+        assertEquals(expected, EnumUtils.normalizeEnumName(input));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "ın progress",
+            "straße",
+            "on hold",
+            " café - au lait ",
+            "open\u0085"
+    })
+    void shouldNormalizeNonAsciiInputLikeUpperCasingAndCollapsingSeparators(String input) {
+        String expected = input.trim().toUpperCase(Locale.ROOT).replaceAll("[\\s\\-_]+", "_");
+
+        assertEquals(expected, EnumUtils.normalizeEnumName(input));
+    }
+
+    @Test
+    void shouldReturnNamesOfEnumConstants() {
+        assertEquals(
+                Set.of("OPEN", "IN_PROGRESS", "ON_HOLD", "BLOCKED", "COMPLETED", "CANCELLED", "ARCHIVED"),
+                EnumUtils.enumNames(TaskStatus.class));
+    }
+
+    @Test
+    void shouldParseTaskStatusWithSameNormalization() {
+        assertEquals(TaskStatus.IN_PROGRESS, TaskStatus.fromString("ın - progress"));
+    }
+}
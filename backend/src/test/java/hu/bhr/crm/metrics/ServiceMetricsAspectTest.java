@@ -0,0 +1,81 @@
+package hu.bhr.crm.metrics;
+
+import hu.bhr.crm.exception.CustomerNotFoundException;
+import hu.bhr.crm.mapper.CustomerMapper;
+import hu.bhr.crm.repository.CustomerRepository;
+import hu.bhr.crm.service.CustomerService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceMetricsAspectTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+    @Mock
+    private CustomerMapper customerMapper;
+    private SimpleMeterRegistry meterRegistry;
+    private CustomerService proxiedService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new CustomerService(customerRepository, customerMapper));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        proxiedService = proxyFactory.getProxy();
+    }
+
+    @Test
+    void shouldRecordSuccessfulCallWithOperationAndOutcomeTags() {
+        // Given
+        UUID customerId = UUID.randomUUID();
+        when(customerRepository.existsById(customerId)).thenReturn(true);
+
+        // When
+        proxiedService.validateCustomerExists(customerId);
+
+        // Then
+        Timer timer = meterRegistry.find(ServiceMetricsAspect.TIMER_NAME)
+                .tags("service", "CustomerService",
+                        "operation", "validateCustomerExists",
+                        "outcome", "success",
+                        "exception", "none")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void shouldRecordFailedCallWithExceptionTagAndRethrow() {
+        // Given
+        UUID customerId = UUID.randomUUID();
+        when(customerRepository.existsById(customerId)).thenReturn(false);
+
+        // When
+        assertThrows(CustomerNotFoundException.class, () -> proxiedService.validateCustomerExists(customerId));
+
+        // Then
+        Timer timer = meterRegistry.find(ServiceMetricsAspect.TIMER_NAME)
+                .tags("operation", "validateCustomerExists",
+                        "outcome", "error",
+                        "exception", "CustomerNotFoundException")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+}
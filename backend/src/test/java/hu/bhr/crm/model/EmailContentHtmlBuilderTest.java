@@ -0,0 +1,224 @@
+package hu.bhr.crm.model;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.text.StringEscapeUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EmailContentHtmlBuilderTest {
+
+    private static final String[] FUZZ_VALUES = {
+            null, "", "   ", "a", "Zoë", "<b>&\"'x", "ő€😀", "  x  ", "%s%n", "– "
+    };
+
+    static Stream<Arguments> goldenFiles() {
+        return Stream.of(
+                Arguments.of("reminder-task-only.html", EmailContent.builder()
+                        .taskTitle("Call the plumber")
+                        .build()),
+                Arguments.of("reminder-missing-title.html", EmailContent.builder()
+                        .taskDescription("   ")
+                        .customerDetailsList(List.of())
+                        .build()),
+                Arguments.of("reminder-full.html", EmailContent.builder()
+                        .taskTitle("Fix \"leaky\" <sink> & tap")
+                        .dueDate(Instant.parse("2025-03-01T09:00:00Z"))
+                        .taskDescription("Bring O'Brien's kit")
+                        .customerFirstName("Zoë")
+                        .customerLastName("Kovács")
+                        .customerPhoneNumber("+36 30 123 4567")
+                        .customerEmail("zoe@example.com")
+                        .customerResidence(Residence.builder()
+                                .zipCode("1051")
+                                .streetAddress("Nádor utca 5.")
+                                .city("Budapest")
+                                .country("Hungary")
+                                .build())
+                        .customerDetailsList(List.of(
+                                note("Prefers calls after 5pm – not before"),
+                                note(null),
+                                note("Price: 100 €"),
+                                note("Emoji 😀 and ő stay")))
+                        .build()),
+                Arguments.of("reminder-empty-residence.html", EmailContent.builder()
+                        .taskTitle("Visit")
+                        .customerFirstName(" ")
+                        .customerResidence(Residence.builder().build())
+                        .build())
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("goldenFiles")
+    void shouldRenderGoldenFile(String goldenFile, EmailContent content) throws IOException {
+        byte[] expected;
+        try (InputStream golden = Objects.requireNonNull(getClass().getResourceAsStream("/email/" + goldenFile))) {
+            expected = golden.readAllBytes();
+        }
+
+        assertArrayEquals(expected, EmailContentHtmlBuilder.build(content).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldRenderSameHtmlAsFormatBasedBuilderOnRandomContent() {
+        Random random = new Random(20250301L);
+
+        for (int i = 0; i < 20_000; i++) {
+            EmailContent content = randomContent(random);
+
+            assertEquals(LegacyEmailContentHtmlBuilder.build(content), EmailContentHtmlBuilder.build(content),
+                    () -> "Mismatch for content: " + content);
+        }
+    }
+
+    @Test
+    void shouldRenderEachReminderOfDigestUnderItsTitle() {
+        Random random = new Random(20250318L);
+        EmailContent first = randomContent(random);
+        EmailContent second = EmailContent.builder()
+                .taskTitle("<Send> offer")
+                .build();
+
+        String digest = EmailContentHtmlBuilder.buildDigest(List.of(first, second));
+
+        String expected = "<h2>Task Reminders</h2>"
+                + "<h3>" + StringEscapeUtils.escapeHtml4(first.taskTitle()) + "</h3>"
+                + reminderList(first)
+                + "<h3>&lt;Send&gt; offer</h3>"
+                + reminderList(second);
+        assertEquals(expected, digest);
+    }
+
+    private static String reminderList(EmailContent content) {
+        return EmailContentHtmlBuilder.build(content).substring("<h2>Task Reminder</h2>".length());
+    }
+
+    private static EmailContent randomContent(Random random) {
+        Residence residence = random.nextInt(3) == 0 ? null : Residence.builder()
+                .zipCode(randomValue(random))
+                .streetAddress(randomValue(random))
+                .addressLine2(randomValue(random))
+                .city(randomValue(random))
+                .country(randomValue(random))
+                .build();
+
+        List<CustomerDetails> details = null;
+        int detailCount = random.nextInt(4);
+        if (detailCount > 0) {
+            details = new ArrayList<>();
+            for (int i = 0; i < detailCount - 1; i++) {
+                details.add(note(randomValue(random)));
+            }
+        }
+
+        return EmailContent.builder()
+                .taskTitle(randomValue(random))
+                .dueDate(random.nextBoolean() ? null : Instant.ofEpochSecond(random.nextInt()))
+                .taskDescription(randomValue(random))
+                .customerFirstName(randomValue(random))
+                .customerLastName(randomValue(random))
+                .customerPhoneNumber(randomValue(random))
+                .customerEmail(randomValue(random))
+                .customerResidence(residence)
+                .customerDetailsList(details)
+                .build();
+    }
+
+    private static String randomValue(Random random) {
+        return FUZZ_VALUES[random.nextInt(FUZZ_VALUES.length)];
+    }
+
+    private static CustomerDetails note(String note) {
+        return CustomerDetails.builder().note(note).build();
+    }
+
+    /**
+     * The former, {@code String.format} based renderer, kept as the reference for the output.
+     */
+    private static final class LegacyEmailContentHtmlBuilder {
+
+        static String build(EmailContent content) {
+            StringBuilder html = new StringBuilder();
+            html.append("<h2>Task Reminder</h2>");
+            html.append("<ul>");
+
+            html.append(String.format("<li><strong>Task Title:</strong> %s</li>", escape(content.taskTitle())));
+            if (content.dueDate() != null) {
+                html.append(String.format("<li><strong>Due Date:</strong> %s</li>", content.dueDate()));
+            }
+            if (notBlank(content.taskDescription())) {
+                html.append(String.format("<li><strong>Task Description:</strong> %s</li>", escape(content.taskDescription())));
+            }
+            html.append("<br>");
+
+            boolean hasCustomer = Arrays.asList(content.customerFirstName(), content.customerLastName(),
+                    content.customerPhoneNumber(), content.customerEmail()).stream().anyMatch(LegacyEmailContentHtmlBuilder::notBlank)
+                    || content.customerResidence() != null
+                    || (content.customerDetailsList() != null && !content.customerDetailsList().isEmpty());
+
+            if (hasCustomer) {
+                html.append("<li><strong>Customer Information:</strong></li>");
+                html.append("<ul>");
+
+                appendIfNotBlank(html, "<li><strong>First Name:</strong> %s</li>", content.customerFirstName());
+                appendIfNotBlank(html, "<li><strong>Last Name:</strong> %s</li>", content.customerLastName());
+                appendIfNotBlank(html, "<li><strong>Phone Number:</strong> %s</li>", content.customerPhoneNumber());
+                appendIfNotBlank(html, "<li><strong>Email:</strong> %s</li>", content.customerEmail());
+                if (content.customerResidence() != null) {
+                    Residence residence = content.customerResidence();
+                    html.append("<li><strong>Residence:</strong></li>");
+                    html.append("<ul>");
+                    appendIfNotBlank(html, "<li>Zip Code: %s</li>", residence.zipCode());
+                    appendIfNotBlank(html, "<li>Street Address: %s</li>", residence.streetAddress());
+                    appendIfNotBlank(html, "<li>Address Line 2: %s</li>", residence.addressLine2());
+                    appendIfNotBlank(html, "<li>City: %s</li>", residence.city());
+                    appendIfNotBlank(html, "<li>Country: %s</li>", residence.country());
+                    html.append("</ul></li>");
+                }
+
+                if (content.customerDetailsList() != null && !content.customerDetailsList().isEmpty()) {
+                    html.append("<li><strong>Additional Details:</strong></li>");
+                    html.append("<ul>");
+                    for (CustomerDetails detail : content.customerDetailsList()) {
+                        html.append(String.format("<li>%s</li>", escape(detail.note())));
+                    }
+                    html.append("</ul></li>");
+                }
+
+                html.append("</ul>");
+            }
+
+            return html.toString();
+        }
+
+        private static void appendIfNotBlank(StringBuilder html, String format, String value) {
+            if (notBlank(value)) {
+                html.append(String.format(format, escape(value)));
+            }
+        }
+
+        private static String escape(String s) {
+            return StringEscapeUtils.escapeHtml4(s);
+        }
+
+        private static boolean notBlank(String s) {
+            return !StringUtils.isBlank(s);
+        }
+    }
+}
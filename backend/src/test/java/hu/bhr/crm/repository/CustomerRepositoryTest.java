@@ -0,0 +1,149 @@
+package hu.bhr.crm.repository;
+
+import hu.bhr.crm.model.CustomerFilter;
+import hu.bhr.crm.repository.entity.CustomerEntity;
+import hu.bhr.crm.repository.entity.ResidenceEntity;
+import hu.bhr.crm.repository.specification.CustomerSpecifications;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.default_schema=crm",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class CustomerRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.6")
+            .withInitScript("db/init-crm-schema.sql");
+
+    @Autowired
+    private CustomerRepository underTest;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = testEntityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Nested
+    class FindAllWithResidenceTests {
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 10})
+        void shouldLoadCustomersWithResidencesInSingleStatement(int customerCount) {
+            // Given
+            persistCustomersWithResidence(customerCount, "Budapest");
+            statistics.clear();
+
+            // When
+            List<CustomerEntity> result = underTest.findAllWithResidence();
+
+            // Then
+            assertEquals(customerCount, result.size());
+            assertTrue(result.stream().allMatch(customer -> customer.getResidence() != null));
+            assertEquals(1, statistics.getPrepareStatementCount());
+        }
+    }
+
+    @Nested
+    class FindWithResidenceByIdTests {
+
+        @Test
+        void shouldLoadCustomerWithResidenceInSingleStatement() {
+            // Given
+            UUID customerId = persistCustomersWithResidence(1, "Budapest").getFirst().getId();
+            statistics.clear();
+
+            // When
+            Optional<CustomerEntity> result = underTest.findWithResidenceById(customerId);
+
+            // Then
+            assertTrue(result.isPresent());
+            assertNotNull(result.get().getResidence());
+            assertEquals(1, statistics.getPrepareStatementCount());
+        }
+    }
+
+    @Nested
+    class FindPageTests {
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 10})
+        void shouldLoadFilteredPageWithResidencesInSingleStatement(int customerCount) {
+            // Given
+            persistCustomersWithResidence(customerCount, "Budapest");
+            persistCustomersWithResidence(2, "Debrecen");
+            CustomerFilter filter = CustomerFilter.builder().city("budapest").build();
+            statistics.clear();
+
+            // When
+            List<CustomerEntity> result = underTest.findBy(
+                    CustomerSpecifications.pageQuery(filter, null),
+                    (FetchableFluentQuery<CustomerEntity> query) -> query
+                            .project("residence")
+                            .limit(50)
+                            .all());
+
+            // Then
+            assertEquals(customerCount, result.size());
+            assertTrue(result.stream().allMatch(customer -> "Budapest".equals(customer.getResidence().getCity())));
+            assertEquals(1, statistics.getPrepareStatementCount());
+        }
+    }
+
+    private List<CustomerEntity> persistCustomersWithResidence(int count, String city) {
+        List<CustomerEntity> customers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            CustomerEntity customer = CustomerEntity.builder()
+                    .id(UUID.randomUUID())
+                    .firstName("Customer " + i)
+                    .relationship("friend")
+                    .build();
+            customer.setResidence(ResidenceEntity.builder()
+                    .id(UUID.randomUUID())
+                    .city(city)
+                    .country("Hungary")
+                    .build());
+            customers.add(testEntityManager.persist(customer));
+        }
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        return customers;
+    }
+}
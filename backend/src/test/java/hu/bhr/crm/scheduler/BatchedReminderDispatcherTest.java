@@ -0,0 +1,87 @@
+package hu.bhr.crm.scheduler;
+
+import hu.bhr.crm.config.ReminderProperties;
+import hu.bhr.crm.metrics.ReminderMetrics;
+import hu.bhr.crm.service.EmailService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BatchedReminderDispatcherTest {
+
+    @Mock
+    private EmailService emailService;
+    private ReminderProperties reminderProperties;
+    private BatchedReminderDispatcher underTest;
+
+    @BeforeEach
+    void setUp() {
+        reminderProperties = new ReminderProperties();
+        reminderProperties.setMaxBatchSize(3);
+        reminderProperties.setBatchWindow(Duration.ofSeconds(30));
+
+        underTest = new BatchedReminderDispatcher(emailService, new ReminderMetrics(new SimpleMeterRegistry()), reminderProperties);
+        underTest.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        underTest.stop();
+    }
+
+    @Test
+    void shouldSendRemindersFiredWithinWindowInOneBatch() {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+
+        // When
+        underTest.dispatch(first);
+        underTest.dispatch(second);
+        underTest.dispatch(third);
+
+        // Then
+        verify(emailService, timeout(5_000)).createAndSendEmails(List.of(first, second, third));
+        verify(emailService, never()).createAndSendEmail(first);
+    }
+
+    @Test
+    void shouldSendPendingRemindersOnStop() throws InterruptedException {
+        // Given
+        UUID taskId = UUID.randomUUID();
+        underTest.dispatch(taskId);
+
+        // When
+        underTest.stop();
+
+        // Then
+        verify(emailService).createAndSendEmails(List.of(taskId));
+    }
+
+    @Test
+    void shouldSendImmediatelyAfterStop() throws InterruptedException {
+        // Given
+        UUID taskId = UUID.randomUUID();
+        underTest.stop();
+
+        // When
+        underTest.dispatch(taskId);
+
+        // Then
+        verify(emailService).createAndSendEmail(taskId);
+    }
+}
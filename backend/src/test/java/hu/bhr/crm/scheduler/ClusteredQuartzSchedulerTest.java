@@ -0,0 +1,196 @@
+package hu.bhr.crm.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.Job;
+import org.quartz.JobBuilder;
+import org.quartz.JobExecutionContext;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.TriggerBuilder;
+import org.quartz.impl.SchedulerRepository;
+import org.quartz.impl.StdSchedulerFactory;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs two Quartz scheduler nodes in process against one Postgres, configured like the backend
+ * with the {@code clustered} profile.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ClusteredQuartzSchedulerTest {
+
+    private static final String SCHEDULER_NAME = "quartzScheduler";
+    private static final String QUARTZ_PROPERTIES_PREFIX = "spring.quartz.properties.";
+    private static final int REMINDER_COUNT = 120;
+    private static final int THREADS_PER_NODE = 4;
+    private static final long SEND_MILLIS = 100;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.6");
+
+    private static final Map<String, List<String>> NODES_BY_REMINDER = new ConcurrentHashMap<>();
+    private static CountDownLatch remindersSent;
+
+    private final List<Scheduler> nodes = new ArrayList<>();
+
+    @BeforeAll
+    static void createQuartzTables() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE SCHEMA IF NOT EXISTS quartz");
+            }
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/changelog/quartz_postgres.sql"));
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws SchedulerException {
+        NODES_BY_REMINDER.clear();
+        remindersSent = new CountDownLatch(REMINDER_COUNT);
+
+        nodes.add(startNode("node-1"));
+        nodes.add(startNode("node-2"));
+    }
+
+    @AfterEach
+    void tearDown() throws SchedulerException {
+        for (Scheduler node : nodes) {
+            node.shutdown(true);
+        }
+    }
+
+    @Test
+    void shouldSendEachReminderExactlyOnceSpreadAcrossNodes() throws SchedulerException, InterruptedException {
+        // Given
+        Date fireAt = Date.from(Instant.now().plusSeconds(2));
+        Scheduler scheduling = nodes.getFirst();
+        for (int i = 0; i < REMINDER_COUNT; i++) {
+            scheduling.scheduleJob(
+                    JobBuilder.newJob(SendReminderJob.class)
+                            .withIdentity(EmailSchedulerConstants.EMAIL_JOB_KEY_PREFIX + i, EmailSchedulerConstants.EMAIL_JOB_GROUP)
+                            .build(),
+                    TriggerBuilder.newTrigger()
+                            .withIdentity(EmailSchedulerConstants.EMAIL_TRIGGER_KEY_PREFIX + i, EmailSchedulerConstants.EMAIL_TRIGGER_GROUP)
+                            .startAt(fireAt)
+                            .withSchedule(SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow())
+                            .build());
+        }
+
+        // When
+        boolean allSent = remindersSent.await(60, TimeUnit.SECONDS);
+        // leaves time for a duplicate firing to show up
+        Thread.sleep(2 * SEND_MILLIS);
+
+        // Then
+        assertTrue(allSent, "Only " + (REMINDER_COUNT - remindersSent.getCount()) + " reminders were sent");
+        assertEquals(REMINDER_COUNT, NODES_BY_REMINDER.size());
+        NODES_BY_REMINDER.forEach((reminder, sendingNodes) ->
+                assertEquals(1, sendingNodes.size(), () -> reminder + " was sent by " + sendingNodes));
+
+        // a node doing a fair share of the work means the cluster sends faster than a single node could
+        Map<String, Long> sentByNode = NODES_BY_REMINDER.values().stream()
+                .map(List::getFirst)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        assertEquals(2, sentByNode.size(), () -> "Reminders sent by node: " + sentByNode);
+        sentByNode.forEach((node, sent) ->
+                assertTrue(sent >= REMINDER_COUNT / 4, () -> "Reminders sent by node: " + sentByNode));
+    }
+
+    private static Scheduler startNode(String instanceId) throws SchedulerException {
+        Properties properties = clusteredProfileQuartzProperties();
+        properties.setProperty("org.quartz.scheduler.instanceName", SCHEDULER_NAME);
+        properties.setProperty("org.quartz.scheduler.instanceId", instanceId);
+        properties.setProperty("org.quartz.scheduler.batchTriggerAcquisitionMaxCount", String.valueOf(THREADS_PER_NODE));
+        properties.setProperty("org.quartz.threadPool.threadCount", String.valueOf(THREADS_PER_NODE));
+        properties.setProperty("org.quartz.jobStore.class", "org.quartz.impl.jdbcjobstore.JobStoreTX");
+        properties.setProperty("org.quartz.jobStore.driverDelegateClass", "org.quartz.impl.jdbcjobstore.PostgreSQLDelegate");
+        properties.setProperty("org.quartz.jobStore.tablePrefix", "quartz.qrtz_");
+        properties.setProperty("org.quartz.jobStore.clusterCheckinInterval", "1000");
+        properties.setProperty("org.quartz.jobStore.dataSource", "crm");
+        properties.setProperty("org.quartz.dataSource.crm.provider", "hikaricp");
+        properties.setProperty("org.quartz.dataSource.crm.driver", postgres.getDriverClassName());
+        properties.setProperty("org.quartz.dataSource.crm.URL", postgres.getJdbcUrl());
+        properties.setProperty("org.quartz.dataSource.crm.user", postgres.getUsername());
+        properties.setProperty("org.quartz.dataSource.crm.password", postgres.getPassword());
+        properties.setProperty("org.quartz.dataSource.crm.maxConnections", String.valueOf(THREADS_PER_NODE + 2));
+
+        Scheduler scheduler = new StdSchedulerFactory(properties).getScheduler();
+        // both nodes share the scheduler name, so the second one must not be looked up as the first
+        SchedulerRepository.getInstance().remove(SCHEDULER_NAME);
+        scheduler.start();
+        return scheduler;
+    }
+
+    /**
+     * Reads the Quartz properties of the {@code clustered} profile, with their placeholders resolved to the defaults.
+     */
+    private static Properties clusteredProfileQuartzProperties() {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application-clustered.yml"));
+        Properties profile = yaml.getObject();
+
+        StandardEnvironment environment = new StandardEnvironment();
+        Properties properties = new Properties();
+        for (String name : profile.stringPropertyNames()) {
+            if (name.startsWith(QUARTZ_PROPERTIES_PREFIX)) {
+                properties.setProperty(name.substring(QUARTZ_PROPERTIES_PREFIX.length()),
+                        environment.resolvePlaceholders(profile.getProperty(name)));
+            }
+        }
+
+        assertEquals("true", properties.getProperty("org.quartz.jobStore.isClustered"));
+        return properties;
+    }
+
+    public static class SendReminderJob implements Job {
+
+        @Override
+        public void execute(JobExecutionContext context) {
+            String node;
+            try {
+                node = context.getScheduler().getSchedulerInstanceId();
+            } catch (SchedulerException e) {
+                throw new IllegalStateException(e);
+            }
+
+            NODES_BY_REMINDER.computeIfAbsent(context.getJobDetail().getKey().getName(),
+                    reminder -> Collections.synchronizedList(new ArrayList<>())).add(node);
+            try {
+                Thread.sleep(SEND_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            remindersSent.countDown();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package hu.bhr.crm.scheduler;
+
+import hu.bhr.crm.config.ReminderProperties;
+import hu.bhr.crm.metrics.ReminderMetrics;
+import hu.bhr.crm.service.EmailService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DigestReminderDispatcherTest {
+
+    @Mock
+    private EmailService emailService;
+    private DigestReminderDispatcher underTest;
+
+    @BeforeEach
+    void setUp() {
+        ReminderProperties reminderProperties = new ReminderProperties();
+        reminderProperties.getDigest().setWindow(Duration.ofMinutes(5));
+        reminderProperties.getDigest().setMaxReminders(3);
+
+        underTest = new DigestReminderDispatcher(emailService, new ReminderMetrics(new SimpleMeterRegistry()), reminderProperties);
+        underTest.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        underTest.stop();
+    }
+
+    @Test
+    void shouldSendRemindersFiredWithinWindowAsOneDigest() {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+
+        // When
+        underTest.dispatch(first);
+        underTest.dispatch(second);
+        underTest.dispatch(third);
+
+        // Then
+        verify(emailService, timeout(5_000)).createAndSendDigest(List.of(first, second, third));
+        verify(emailService, never()).createAndSendEmails(any());
+    }
+
+    @Test
+    void shouldSendCollectedRemindersAsDigestOnShutdown() throws InterruptedException {
+        // Given
+        UUID taskId = UUID.randomUUID();
+        underTest.dispatch(taskId);
+
+        // When
+        underTest.stop();
+
+        // Then
+        verify(emailService).createAndSendDigest(List.of(taskId));
+    }
+}
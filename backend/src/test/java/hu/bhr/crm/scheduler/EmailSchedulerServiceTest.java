@@ -0,0 +1,158 @@
+package hu.bhr.crm.scheduler;
+
+import hu.bhr.crm.exception.EmailScheduleException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class EmailSchedulerServiceTest {
+
+    @Mock
+    private Scheduler scheduler;
+    @Captor
+    private ArgumentCaptor<Map<JobDetail, Set<? extends Trigger>>> jobsCaptor;
+    @Captor
+    private ArgumentCaptor<JobDetail> jobCaptor;
+    @Captor
+    private ArgumentCaptor<Set<? extends Trigger>> triggersCaptor;
+    private EmailSchedulerService underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new EmailSchedulerService(scheduler);
+    }
+
+    @Nested
+    class BulkScheduleTests {
+
+        @Test
+        void shouldStoreAllJobsWithTheirTriggersInOneCall() throws SchedulerException {
+            // Given
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            Instant reminder = Instant.now().plus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.MILLIS);
+
+            // When
+            underTest.scheduleEmails(Map.of(first, reminder, second, reminder));
+
+            // Then
+            verify(scheduler).scheduleJobs(jobsCaptor.capture(), eq(false));
+            Map<JobDetail, Set<? extends Trigger>> jobs = jobsCaptor.getValue();
+            assertEquals(2, jobs.size());
+            jobs.forEach((job, triggers) -> {
+                String taskId = job.getJobDataMap().getString(EmailSchedulerConstants.TASK_ID_KEY);
+                assertEquals(EmailSchedulerConstants.EMAIL_JOB_KEY_PREFIX + taskId, job.getKey().getName());
+                assertEquals(1, triggers.size());
+                assertEquals(Date.from(reminder), triggers.iterator().next().getStartTime());
+            });
+        }
+
+        @Test
+        void shouldReplaceExistingJobsWhenRemindersAreMoved() throws SchedulerException {
+            // When
+            underTest.updateEmailScheduleTimes(Map.of(UUID.randomUUID(), Instant.now().plusSeconds(60)));
+
+            // Then
+            verify(scheduler).scheduleJobs(anyMap(), eq(true));
+        }
+
+        @Test
+        void shouldReplaceJobOfAlreadyFiredReminderWhenItIsMoved() throws SchedulerException {
+            // Given
+            UUID taskId = UUID.randomUUID();
+            Instant reminder = Instant.now().plus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.MILLIS);
+
+            // When
+            underTest.updateEmailScheduleTime(taskId, reminder);
+
+            // Then
+            verify(scheduler).scheduleJob(jobCaptor.capture(), triggersCaptor.capture(), eq(true));
+            assertEquals(jobKey(taskId), jobCaptor.getValue().getKey());
+            assertEquals(Date.from(reminder), triggersCaptor.getValue().iterator().next().getStartTime());
+            verify(scheduler, never()).rescheduleJob(any(), any());
+        }
+
+        @Test
+        void shouldNotCallSchedulerWhenNothingIsToBeScheduled() {
+            // When
+            underTest.scheduleEmails(Map.of());
+            underTest.updateEmailScheduleTimes(Map.of());
+            underTest.deleteEmailSchedules(List.of());
+
+            // Then
+            verifyNoInteractions(scheduler);
+        }
+
+        @Test
+        void shouldThrowEmailScheduleExceptionWhenQuartzFails() throws SchedulerException {
+            // Given
+            doThrow(new SchedulerException("store unavailable")).when(scheduler).scheduleJobs(anyMap(), eq(false));
+            Map<UUID, Instant> reminders = Map.of(UUID.randomUUID(), Instant.now().plusSeconds(60));
+
+            // When / Then
+            assertThrows(EmailScheduleException.class, () -> underTest.scheduleEmails(reminders));
+        }
+    }
+
+    @Nested
+    class DeleteTests {
+
+        @Test
+        void shouldDeleteAllJobsInOneCall() throws SchedulerException {
+            // Given
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+
+            // When
+            underTest.deleteEmailSchedules(List.of(first, second));
+
+            // Then
+            verify(scheduler).deleteJobs(List.of(jobKey(first), jobKey(second)));
+        }
+
+        @Test
+        void shouldDeleteJobWithItsTriggerInOneCall() throws SchedulerException {
+            // Given
+            UUID taskId = UUID.randomUUID();
+
+            // When
+            underTest.deleteEmailSchedule(taskId);
+
+            // Then
+            verify(scheduler).deleteJob(jobKey(taskId));
+        }
+    }
+
+    private static JobKey jobKey(UUID taskId) {
+        return JobKey.jobKey(EmailSchedulerConstants.EMAIL_JOB_KEY_PREFIX + taskId, EmailSchedulerConstants.EMAIL_JOB_GROUP);
+    }
+}
@@ -0,0 +1,276 @@
+package hu.bhr.crm.scheduler;
+
+import hu.bhr.crm.config.ReminderProperties;
+import hu.bhr.crm.exception.EmailScheduleException;
+import hu.bhr.crm.metrics.ReminderMetrics;
+import hu.bhr.crm.repository.TaskRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PollingReminderSchedulerTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private ReminderDispatcher reminderDispatcher;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private Scheduler scheduler;
+    private SimpleMeterRegistry meterRegistry;
+    private PollingReminderScheduler underTest;
+
+    @BeforeEach
+    void setUp() {
+        ReminderProperties reminderProperties = new ReminderProperties();
+        reminderProperties.getPolling().setBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        ReminderMetrics reminderMetrics = new ReminderMetrics(meterRegistry);
+
+        underTest = new PollingReminderScheduler(
+                taskRepository, reminderDispatcher, transactionTemplate, reminderProperties, scheduler, reminderMetrics);
+    }
+
+    @Nested
+    class PollDueRemindersTests {
+
+        private boolean inTransaction;
+
+        @BeforeEach
+        void setUp() {
+            when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+                inTransaction = true;
+                try {
+                    return invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+                } finally {
+                    inTransaction = false;
+                }
+            });
+        }
+
+        @Test
+        void shouldMarkClaimedRemindersFiredBeforeDispatchingThem() {
+            // Given
+            UUID taskId = UUID.randomUUID();
+            when(taskRepository.findDueReminderIdsForUpdate(any(), eq(2))).thenReturn(List.of(taskId));
+
+            // When
+            underTest.pollDueReminders();
+
+            // Then
+            InOrder inOrder = inOrder(taskRepository, reminderDispatcher);
+            inOrder.verify(taskRepository).markRemindersFired(eq(List.of(taskId)), any(Instant.class));
+            inOrder.verify(reminderDispatcher).dispatch(taskId);
+        }
+
+        @Test
+        void shouldDispatchInClaimTransactionWhenDispatcherIsTransactional() {
+            // Given
+            UUID taskId = UUID.randomUUID();
+            List<Boolean> dispatchedInTransaction = new ArrayList<>();
+            when(reminderDispatcher.isTransactional()).thenReturn(true);
+            when(taskRepository.findDueReminderIdsForUpdate(any(), eq(2))).thenReturn(List.of(taskId));
+            doAnswer(invocation -> dispatchedInTransaction.add(inTransaction))
+                    .when(reminderDispatcher).dispatch(taskId);
+
+            // When
+            underTest.pollDueReminders();
+
+            // Then
+            assertEquals(List.of(true), dispatchedInTransaction);
+        }
+
+        @Test
+        void shouldPropagateFailureOfTransactionalDispatchSoTheClaimIsRolledBack() {
+            // Given
+            UUID taskId = UUID.randomUUID();
+            when(reminderDispatcher.isTransactional()).thenReturn(true);
+            when(taskRepository.findDueReminderIdsForUpdate(any(), eq(2))).thenReturn(List.of(taskId));
+            doThrow(new IllegalStateException("outbox unavailable")).when(reminderDispatcher).dispatch(taskId);
+
+            // When / Then
+            assertThrows(IllegalStateException.class, () -> underTest.pollDueReminders());
+        }
+
+        @Test
+        void shouldRecordLagOfClaimedReminders() {
+            // Given
+            UUID taskId = UUID.randomUUID();
+            when(taskRepository.findDueReminderIdsForUpdate(any(), eq(2))).thenReturn(List.of(taskId));
+            when(taskRepository.findRemindersByIdIn(List.of(taskId)))
+                    .thenReturn(List.of(Instant.now().minus(Duration.ofMinutes(5))));
+
+            // When
+            underTest.pollDueReminders();
+
+            // Then
+            Timer lag = meterRegistry.get(ReminderMetrics.LAG_TIMER).tag("engine", "polling").timer();
+            assertEquals(1, lag.count());
+            assertTrue(lag.totalTime(TimeUnit.MINUTES) >= 5);
+        }
+
+        @Test
+        void shouldClaimNextBatchWhileBatchesAreFull() {
+            // Given
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            UUID third = UUID.randomUUID();
+            when(taskRepository.findDueReminderIdsForUpdate(any(), eq(2)))
+                    .thenReturn(List.of(first, second))
+                    .thenReturn(List.of(third));
+
+            // When
+            underTest.pollDueReminders();
+
+            // Then
+            verify(taskRepository, times(2)).findDueReminderIdsForUpdate(any(), eq(2));
+            verify(reminderDispatcher).dispatch(first);
+            verify(reminderDispatcher).dispatch(second);
+            verify(reminderDispatcher).dispatch(third);
+        }
+
+        @Test
+        void shouldNotMarkAnythingWhenNoReminderIsDue() {
+            // Given
+            when(taskRepository.findDueReminderIdsForUpdate(any(), eq(2))).thenReturn(List.of());
+
+            // When
+            underTest.pollDueReminders();
+
+            // Then
+            verify(taskRepository, never()).markRemindersFired(anyList(), any());
+            verifyNoInteractions(reminderDispatcher);
+        }
+
+        @Test
+        void shouldDispatchRemainingRemindersWhenOneDispatchFails() {
+            // Given
+            UUID failing = UUID.randomUUID();
+            UUID next = UUID.randomUUID();
+            when(taskRepository.findDueReminderIdsForUpdate(any(), eq(2)))
+                    .thenReturn(List.of(failing, next))
+                    .thenReturn(List.of());
+            doThrow(new IllegalStateException("SMTP down")).when(reminderDispatcher).dispatch(failing);
+
+            // When
+            underTest.pollDueReminders();
+
+            // Then
+            verify(reminderDispatcher).dispatch(next);
+        }
+    }
+
+    @Nested
+    class ScheduleTests {
+
+        @Test
+        void shouldNotTouchTaskWhenReminderIsScheduled() {
+            // When
+            underTest.scheduleEmail(UUID.randomUUID(), Instant.now());
+
+            // Then
+            verifyNoInteractions(taskRepository, scheduler);
+        }
+
+        @Test
+        void shouldResetFiredStateWhenReminderIsMoved() {
+            // Given
+            UUID taskId = UUID.randomUUID();
+
+            // When
+            underTest.updateEmailScheduleTime(taskId, Instant.now().plusSeconds(3600));
+
+            // Then
+            verify(taskRepository).resetRemindersFiredAt(List.of(taskId));
+        }
+
+        @Test
+        void shouldResetFiredStateWhenReminderIsRemoved() {
+            // Given
+            UUID taskId = UUID.randomUUID();
+
+            // When
+            underTest.deleteEmailSchedule(taskId);
+
+            // Then
+            verify(taskRepository).resetRemindersFiredAt(List.of(taskId));
+        }
+    }
+
+    @Nested
+    class MigrateQuartzJobsTests {
+
+        @Test
+        void shouldDeleteQuartzEmailJobs() throws SchedulerException {
+            // Given
+            JobKey jobKey = JobKey.jobKey(EmailSchedulerConstants.EMAIL_JOB_KEY_PREFIX + UUID.randomUUID(),
+                    EmailSchedulerConstants.EMAIL_JOB_GROUP);
+            when(scheduler.getJobKeys(GroupMatcher.jobGroupEquals(EmailSchedulerConstants.EMAIL_JOB_GROUP)))
+                    .thenReturn(Set.of(jobKey));
+
+            // When
+            underTest.migrateQuartzJobs();
+
+            // Then
+            verify(scheduler).deleteJobs(List.of(jobKey));
+        }
+
+        @Test
+        void shouldSkipDeletionWhenNoQuartzEmailJobIsLeft() throws SchedulerException {
+            // Given
+            when(scheduler.getJobKeys(any())).thenReturn(Set.of());
+
+            // When
+            underTest.migrateQuartzJobs();
+
+            // Then
+            verify(scheduler, never()).deleteJobs(anyList());
+        }
+
+        @Test
+        void shouldThrowEmailScheduleExceptionWhenQuartzFails() throws SchedulerException {
+            // Given
+            when(scheduler.getJobKeys(any())).thenThrow(new SchedulerException("store unavailable"));
+
+            // When / Then
+            assertThrows(EmailScheduleException.class, () -> underTest.migrateQuartzJobs());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package hu.bhr.crm.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.SchedulerConfigException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadPoolTest {
+
+    private VirtualThreadPool underTest;
+
+    @BeforeEach
+    void setUp() throws SchedulerConfigException {
+        underTest = new VirtualThreadPool();
+        underTest.setThreadCount(2);
+        underTest.setInstanceName("crm");
+        underTest.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.shutdown(false);
+    }
+
+    @Test
+    void shouldRunJobOnVirtualThread() throws InterruptedException {
+        // Given
+        AtomicBoolean virtual = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(1);
+
+        // When
+        boolean accepted = underTest.runInThread(() -> {
+            virtual.set(Thread.currentThread().isVirtual());
+            done.countDown();
+        });
+
+        // Then
+        assertTrue(accepted);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(virtual.get());
+    }
+
+    @Test
+    void shouldReportFreeSlotsOnly() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        // When
+        underTest.runInThread(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        started.await(5, TimeUnit.SECONDS);
+        int available = underTest.blockForAvailableThreads();
+        release.countDown();
+
+        // Then
+        assertEquals(1, available);
+        assertEquals(2, underTest.getPoolSize());
+    }
+
+    @Test
+    void shouldRejectJobsAfterShutdown() {
+        // Given
+        underTest.shutdown(true);
+
+        // When
+        boolean accepted = underTest.runInThread(() -> {});
+
+        // Then
+        assertFalse(accepted);
+        assertEquals(0, underTest.blockForAvailableThreads());
+    }
+
+    @Test
+    void shouldRejectNonPositiveThreadCount() {
+        // Given
+        VirtualThreadPool threadPool = new VirtualThreadPool();
+        threadPool.setThreadCount(0);
+
+        // When / Then
+        assertThrows(SchedulerConfigException.class, threadPool::initialize);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,29 +1,48 @@
 package hu.bhr.crm.service;
 
+import hu.bhr.crm.config.CustomerDetailsProperties;
+import hu.bhr.crm.event.CustomerChangedEvent;
 import hu.bhr.crm.exception.CustomerDetailsNotFoundException;
 import hu.bhr.crm.exception.CustomerNotFoundException;
+import hu.bhr.crm.exception.InvalidRequestException;
 import hu.bhr.crm.mapper.CustomerDetailsMapper;
+import hu.bhr.crm.model.CursorPage;
 import hu.bhr.crm.model.CustomerDetails;
+import hu.bhr.crm.model.PageCursor;
+import hu.bhr.crm.model.SearchPage;
 import hu.bhr.crm.repository.mongo.CustomerDocumentRepository;
 import hu.bhr.crm.repository.mongo.document.CustomerDocument;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,11 +54,16 @@ class CustomerDetailsServiceTest {
     private CustomerDetailsMapper customerDetailsMapper;
     @Mock
     private CustomerService customerService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    private CustomerDetailsProperties customerDetailsProperties;
     private CustomerDetailsService underTest;
 
     @BeforeEach
     void setUp() {
-        underTest = new CustomerDetailsService(customerDocumentRepository, customerDetailsMapper, customerService);
+        customerDetailsProperties = new CustomerDetailsProperties();
+        underTest = new CustomerDetailsService(customerDocumentRepository, customerDetailsMapper, customerService,
+                eventPublisher, customerDetailsProperties);
     }
 
     @Nested
@@ -156,6 +180,142 @@ class CustomerDetailsServiceTest {
 
     }
 
+    @Nested
+    class GetCustomerDetailsPageTests {
+
+        private UUID customerId;
+
+        @BeforeEach
+        void setUp() {
+            customerId = UUID.randomUUID();
+        }
+
+        @Test
+        void shouldReturnPageWithCursorOfLastDocumentWhenMoreDocumentsExist() {
+            // Given
+            PageCursor after = new PageCursor(Instant.parse("2025-01-01T10:00:00Z"), UUID.randomUUID());
+            CustomerDocument customerDocument1 = createCustomerDocument(Instant.parse("2025-01-02T10:00:00Z"));
+            CustomerDocument customerDocument2 = createCustomerDocument(Instant.parse("2025-01-03T10:00:00Z"));
+            CustomerDocument customerDocument3 = createCustomerDocument(Instant.parse("2025-01-04T10:00:00Z"));
+            CustomerDetails customerDetails1 = CustomerDetails.builder().id(customerDocument1.getId()).build();
+            CustomerDetails customerDetails2 = CustomerDetails.builder().id(customerDocument2.getId()).build();
+
+            when(customerDocumentRepository.findPageByCustomerId(customerId, after, 3, true))
+                    .thenReturn(List.of(customerDocument1, customerDocument2, customerDocument3));
+            when(customerDetailsMapper.customerDocumentToCustomerDetails(customerDocument1)).thenReturn(customerDetails1);
+            when(customerDetailsMapper.customerDocumentToCustomerDetails(customerDocument2)).thenReturn(customerDetails2);
+
+            // When
+            CursorPage<CustomerDetails> result = underTest.getCustomerDetailsPage(customerId, after, 2, true);
+
+            // Then
+            assertEquals(List.of(customerDetails1, customerDetails2), result.items());
+            assertEquals(new PageCursor(customerDocument2.getCreatedAt(), customerDocument2.getId()), result.nextCursor());
+        }
+
+        @Test
+        void shouldReturnLastPageWithoutCursor() {
+            // Given
+            CustomerDocument customerDocument = createCustomerDocument(Instant.parse("2025-01-02T10:00:00Z"));
+            CustomerDetails customerDetails = CustomerDetails.builder().id(customerDocument.getId()).build();
+
+            when(customerDocumentRepository.findPageByCustomerId(customerId, null, 51, false))
+                    .thenReturn(List.of(customerDocument));
+            when(customerDetailsMapper.customerDocumentToCustomerDetails(customerDocument)).thenReturn(customerDetails);
+
+            // When
+            CursorPage<CustomerDetails> result = underTest.getCustomerDetailsPage(customerId, null, 50, false);
+
+            // Then
+            assertEquals(List.of(customerDetails), result.items());
+            assertFalse(result.hasNext());
+        }
+
+        @Test
+        void shouldThrowInvalidRequestExceptionWhenPageSizeIsOutOfRange() {
+            // When / Then
+            assertThrows(InvalidRequestException.class,
+                    () -> underTest.getCustomerDetailsPage(customerId, null, 0, false));
+            verifyNoInteractions(customerDocumentRepository);
+        }
+
+        @Test
+        void shouldThrowCustomerNotFoundExceptionWhenCustomerDoesNotExist() {
+            // Given
+            doThrow(new CustomerNotFoundException("Customer not found"))
+                    .when(customerService).validateCustomerExists(customerId);
+
+            // When / Then
+            assertThrows(CustomerNotFoundException.class,
+                    () -> underTest.getCustomerDetailsPage(customerId, null, 50, false));
+            verifyNoInteractions(customerDocumentRepository);
+        }
+
+        private CustomerDocument createCustomerDocument(Instant createdAt) {
+            return CustomerDocument.builder()
+                    .id(UUID.randomUUID())
+                    .customerId(customerId)
+                    .note("Note")
+                    .createdAt(createdAt)
+                    .build();
+        }
+    }
+
+    @Nested
+    class SearchCustomerDetailsTests {
+
+        @Test
+        void shouldSearchAllNotesRankedByRelevance() {
+            // Given
+            CustomerDocument customerDocument = new CustomerDocument();
+            customerDocument.setId(UUID.randomUUID());
+            CustomerDetails customerDetails = CustomerDetails.builder().id(customerDocument.getId()).build();
+
+            when(customerDocumentRepository.findAllBy(any(TextCriteria.class), any(Pageable.class)))
+                    .thenReturn(new SliceImpl<>(List.of(customerDocument), PageRequest.of(1, 10), true));
+            when(customerDetailsMapper.customerDocumentToCustomerDetails(customerDocument)).thenReturn(customerDetails);
+
+            // When
+            SearchPage<CustomerDetails> result = underTest.searchCustomerDetails("wine", null, 1, 10);
+
+            // Then
+            assertEquals(List.of(customerDetails), result.items());
+            assertEquals(1, result.page());
+            assertTrue(result.hasNext());
+
+            ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+            verify(customerDocumentRepository).findAllBy(any(TextCriteria.class), pageable.capture());
+            assertEquals(10, pageable.getValue().getOffset());
+            assertEquals(Sort.Direction.ASC, pageable.getValue().getSort().getOrderFor("score").getDirection());
+            verifyNoInteractions(customerService);
+        }
+
+        @Test
+        void shouldSearchNotesOfCustomerOnly() {
+            // Given
+            UUID customerId = UUID.randomUUID();
+
+            when(customerDocumentRepository.findAllByCustomerId(eq(customerId), any(TextCriteria.class), any(Pageable.class)))
+                    .thenReturn(new SliceImpl<>(List.of()));
+
+            // When
+            SearchPage<CustomerDetails> result = underTest.searchCustomerDetails("wine", customerId, 0, 20);
+
+            // Then
+            assertTrue(result.items().isEmpty());
+            assertFalse(result.hasNext());
+            verify(customerService).validateCustomerExists(customerId);
+            verify(customerDocumentRepository, never()).findAllBy(any(), any());
+        }
+
+        @Test
+        void shouldThrowInvalidRequestExceptionWhenTextIsBlank() {
+            // When / Then
+            assertThrows(InvalidRequestException.class, () -> underTest.searchCustomerDetails(" ", null, 0, 20));
+            verifyNoInteractions(customerDocumentRepository);
+        }
+    }
+
     @Nested
     class SaveCustomerDetailsTests {
 
@@ -359,4 +519,92 @@ class CustomerDetailsServiceTest {
             verify(customerDocumentRepository, never()).delete(any());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class SaveAllCustomerDetailsTests {
+
+        private UUID customerId;
+
+        @BeforeEach
+        void setUp() {
+            customerId = UUID.randomUUID();
+        }
+
+        @Test
+        void shouldValidateCustomerOnceAndInsertNotesInChunks() {
+            // Given
+            customerDetailsProperties.setBulkChunkSize(2);
+            List<CustomerDetails> customerDetailsList = List.of(
+                    createCustomerDetails("Note 1"), createCustomerDetails("Note 2"), createCustomerDetails("Note 3"));
+            List<CustomerDocument> customerDocuments = new ArrayList<>();
+            for (CustomerDetails customerDetails : customerDetailsList) {
+                CustomerDocument customerDocument = CustomerDocument.builder().id(customerDetails.id()).build();
+                customerDocuments.add(customerDocument);
+                when(customerDetailsMapper.customerDetailsToCustomerDocument(customerDetails)).thenReturn(customerDocument);
+                when(customerDetailsMapper.customerDocumentToCustomerDetails(customerDocument)).thenReturn(customerDetails);
+            }
+
+            // When
+            List<CustomerDetails> result = underTest.saveAllCustomerDetails(customerId, customerDetailsList);
+
+            // Then
+            assertEquals(customerDetailsList, result);
+            verify(customerService).validateCustomerExists(customerId);
+            verify(customerDocumentRepository).insertUnordered(customerDocuments.subList(0, 2));
+            verify(customerDocumentRepository).insertUnordered(customerDocuments.subList(2, 3));
+            verify(eventPublisher).publishEvent(new CustomerChangedEvent(customerId));
+        }
+
+        @Test
+        void shouldThrowInvalidRequestExceptionWhenTooManyNotesAreGiven() {
+            // Given
+            customerDetailsProperties.setMaxBulkSize(1);
+            List<CustomerDetails> customerDetailsList = List.of(createCustomerDetails("Note 1"), createCustomerDetails("Note 2"));
+
+            // When / Then
+            assertThrows(InvalidRequestException.class,
+                    () -> underTest.saveAllCustomerDetails(customerId, customerDetailsList));
+            verifyNoInteractions(customerService, customerDocumentRepository);
+        }
+
+        @Test
+        void shouldThrowCustomerNotFoundExceptionWhenCustomerDoesNotExist() {
+            // Given
+            doThrow(new CustomerNotFoundException("Customer not found"))
+                    .when(customerService).validateCustomerExists(customerId);
+
+            // When / Then
+            assertThrows(CustomerNotFoundException.class,
+                    () -> underTest.saveAllCustomerDetails(customerId, List.of(createCustomerDetails("Note 1"))));
+            verifyNoInteractions(customerDocumentRepository);
+        }
+
+        private CustomerDetails createCustomerDetails(String note) {
+            return CustomerDetails.builder()
+                    .id(UUID.randomUUID())
+                    .customerId(customerId)
+                    .note(note)
+                    .build();
+        }
+    }
+
+    @Nested
+    class DeleteAllCustomerDetailsByIdsTests {
+
+        @Test
+        void shouldDeleteDocumentsAndNotifyAboutTheirCustomers() {
+            // Given
+            List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+            UUID customerId = UUID.randomUUID();
+
+            when(customerDocumentRepository.findCustomerIdsByIdIn(ids)).thenReturn(Set.of(customerId));
+
+            // When
+            underTest.deleteAllCustomerDetailsByIds(ids);
+
+            // Then
+            verify(customerDocumentRepository).deleteAllById(ids);
+            verify(eventPublisher).publishEvent(new CustomerChangedEvent(customerId));
+        }
+    }
+}
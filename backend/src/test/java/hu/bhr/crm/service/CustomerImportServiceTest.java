@@ -0,0 +1,210 @@
+package hu.bhr.crm.service;
+
+import hu.bhr.crm.config.CustomerImportProperties;
+import hu.bhr.crm.exception.InvalidRequestException;
+import hu.bhr.crm.mapper.CustomerMapper;
+import hu.bhr.crm.model.Customer;
+import hu.bhr.crm.model.CustomerImportRow;
+import hu.bhr.crm.model.CustomerImportRowResult;
+import hu.bhr.crm.model.CustomerImportStatus;
+import hu.bhr.crm.repository.CustomerRepository;
+import hu.bhr.crm.repository.entity.CustomerEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerImportServiceTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+    @Mock
+    private CustomerMapper customerMapper;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    private CustomerImportService underTest;
+
+    @BeforeEach
+    void setUp() {
+        CustomerImportProperties importProperties = new CustomerImportProperties();
+        importProperties.setChunkSize(2);
+        importProperties.setMaxRows(5);
+
+        underTest = new CustomerImportService(
+                customerRepository, customerMapper, entityManager, transactionTemplate, importProperties);
+    }
+
+    @Nested
+    class ImportCustomersTests {
+
+        @Test
+        void shouldPersistValidRowsInChunksAndReportThemAsImported() {
+            // Given
+            List<CustomerImportRow> rows = List.of(
+                    validRow(0, "harry@hogwarts.com", "+36301111111"),
+                    validRow(1, "ron@hogwarts.com", "+36302222222"),
+                    validRow(2, "hermione@hogwarts.com", "+36303333333"));
+
+            executeTransactionCallbacks();
+            when(customerMapper.customerToCustomerEntity(any(Customer.class))).thenReturn(new CustomerEntity());
+
+            // When
+            List<CustomerImportRowResult> result = underTest.importCustomers(rows);
+
+            // Then
+            assertEquals(3, result.size());
+            for (int i = 0; i < rows.size(); i++) {
+                assertEquals(i, result.get(i).index());
+                assertEquals(CustomerImportStatus.IMPORTED, result.get(i).status());
+                assertEquals(rows.get(i).customer().id(), result.get(i).customerId());
+            }
+            verify(transactionTemplate, times(2)).execute(any());
+            verify(entityManager, times(3)).persist(any(CustomerEntity.class));
+            verify(entityManager, times(2)).flush();
+        }
+
+        @Test
+        void shouldReportInvalidRowsWithoutTouchingDatabase() {
+            // Given
+            List<CustomerImportRow> rows = List.of(
+                    CustomerImportRow.invalid(0, List.of("Relationship is required")));
+
+            // When
+            List<CustomerImportRowResult> result = underTest.importCustomers(rows);
+
+            // Then
+            assertEquals(1, result.size());
+            assertEquals(CustomerImportStatus.FAILED, result.getFirst().status());
+            assertEquals(List.of("Relationship is required"), result.getFirst().errors());
+            verifyNoInteractions(transactionTemplate, entityManager);
+        }
+
+        @Test
+        void shouldReportRowsRepeatingEmailOrPhoneOfPreviousRow() {
+            // Given
+            List<CustomerImportRow> rows = List.of(
+                    validRow(0, "harry@hogwarts.com", "+36301111111"),
+                    validRow(1, "harry@hogwarts.com", "+36301111111"));
+
+            executeTransactionCallbacks();
+            when(customerMapper.customerToCustomerEntity(rows.getFirst().customer())).thenReturn(new CustomerEntity());
+
+            // When
+            List<CustomerImportRowResult> result = underTest.importCustomers(rows);
+
+            // Then
+            assertEquals(CustomerImportStatus.IMPORTED, result.get(0).status());
+            assertEquals(CustomerImportStatus.FAILED, result.get(1).status());
+            assertEquals(List.of(
+                    "Email is used by another row of the import",
+                    "Phone number is used by another row of the import"), result.get(1).errors());
+            verify(entityManager, times(1)).persist(any(CustomerEntity.class));
+        }
+
+        @Test
+        void shouldReportRowsWhoseEmailIsAlreadyStored() {
+            // Given
+            List<CustomerImportRow> rows = List.of(
+                    validRow(0, "harry@hogwarts.com", "+36301111111"),
+                    validRow(1, "ron@hogwarts.com", "+36302222222"));
+
+            executeTransactionCallbacks();
+            when(customerRepository.findExistingEmails(any())).thenReturn(Set.of("ron@hogwarts.com"));
+            when(customerMapper.customerToCustomerEntity(rows.getFirst().customer())).thenReturn(new CustomerEntity());
+
+            // When
+            List<CustomerImportRowResult> result = underTest.importCustomers(rows);
+
+            // Then
+            assertEquals(CustomerImportStatus.IMPORTED, result.get(0).status());
+            assertEquals(CustomerImportStatus.FAILED, result.get(1).status());
+            assertEquals(List.of("Email is already used by another customer"), result.get(1).errors());
+            verify(customerMapper, never()).customerToCustomerEntity(rows.get(1).customer());
+        }
+
+        @Test
+        void shouldRetryRowByRowWhenChunkFailsAndReportOnlyFailingRow() {
+            // Given
+            List<CustomerImportRow> rows = List.of(
+                    validRow(0, "harry@hogwarts.com", "+36301111111"),
+                    validRow(1, "ron@hogwarts.com", "+36302222222"));
+
+            executeTransactionCallbacks();
+            when(customerMapper.customerToCustomerEntity(any(Customer.class))).thenReturn(new CustomerEntity());
+            doThrow(new PersistenceException("chunk failed"))
+                    .doNothing()
+                    .doThrow(new PersistenceException("row failed"))
+                    .when(entityManager).flush();
+
+            // When
+            List<CustomerImportRowResult> result = underTest.importCustomers(rows);
+
+            // Then
+            assertEquals(CustomerImportStatus.IMPORTED, result.get(0).status());
+            assertEquals(CustomerImportStatus.FAILED, result.get(1).status());
+            assertEquals(List.of("Customer could not be saved"), result.get(1).errors());
+            verify(transactionTemplate, times(3)).execute(any());
+        }
+
+        @Test
+        void shouldThrowInvalidRequestExceptionWhenImportIsEmpty() {
+            // When / Then
+            assertThrows(InvalidRequestException.class, () -> underTest.importCustomers(List.of()));
+            verifyNoInteractions(transactionTemplate);
+        }
+
+        @Test
+        void shouldThrowInvalidRequestExceptionWhenImportExceedsMaxRows() {
+            // Given
+            List<CustomerImportRow> rows = List.of(
+                    validRow(0, null, null), validRow(1, null, null), validRow(2, null, null),
+                    validRow(3, null, null), validRow(4, null, null), validRow(5, null, null));
+
+            // When / Then
+            assertThrows(InvalidRequestException.class, () -> underTest.importCustomers(rows));
+            verifyNoInteractions(transactionTemplate);
+        }
+    }
+
+    private void executeTransactionCallbacks() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    private CustomerImportRow validRow(int index, String email, String phoneNumber) {
+        Customer customer = Customer.builder()
+                .id(UUID.randomUUID())
+                .firstName("Customer " + index)
+                .email(email)
+                .phoneNumber(phoneNumber)
+                .relationship("friend")
+                .build();
+
+        return CustomerImportRow.valid(index, customer);
+    }
+}
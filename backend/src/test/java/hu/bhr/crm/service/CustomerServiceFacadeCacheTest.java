@@ -0,0 +1,162 @@
+package hu.bhr.crm.service;
+
+import hu.bhr.crm.config.CacheConfig;
+import hu.bhr.crm.exception.CustomerNotFoundException;
+import hu.bhr.crm.mapper.CustomerMapper;
+import hu.bhr.crm.model.Customer;
+import hu.bhr.crm.model.CustomerDetails;
+import hu.bhr.crm.model.CustomerOverview;
+import hu.bhr.crm.model.Task;
+import hu.bhr.crm.repository.CustomerRepository;
+import hu.bhr.crm.repository.entity.CustomerEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig
+class CustomerServiceFacadeCacheTest {
+
+    @Configuration
+    @EnableCaching
+    @Import({CustomerServiceFacade.class, CustomerService.class})
+    static class TestConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(CacheConfig.CUSTOMERS, CacheConfig.CUSTOMER_EXISTS);
+        }
+    }
+
+    @MockitoBean
+    private CustomerRepository customerRepository;
+    @MockitoBean
+    private CustomerMapper customerMapper;
+    @MockitoBean
+    private CustomerDetailsService customerDetailsService;
+    @MockitoBean
+    private TaskService taskService;
+    @MockitoBean
+    private CustomerImportService customerImportService;
+
+    @Autowired
+    private CustomerServiceFacade underTest;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private UUID customerId;
+    private CustomerEntity customerEntity;
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        customerId = UUID.randomUUID();
+        customerEntity = new CustomerEntity();
+        customerEntity.setId(customerId);
+        customer = Customer.builder()
+                .id(customerId)
+                .firstName("Harry")
+                .relationship("friend")
+                .build();
+
+        when(customerRepository.findWithResidenceById(customerId)).thenReturn(Optional.of(customerEntity));
+        when(customerMapper.customerEntityToCustomer(customerEntity)).thenReturn(customer);
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCache() {
+        // When
+        Customer first = underTest.getCustomerById(customerId);
+        Customer second = underTest.getCustomerById(customerId);
+
+        // Then
+        assertEquals(customer, first);
+        assertEquals(customer, second);
+        verify(customerRepository, times(1)).findWithResidenceById(customerId);
+    }
+
+    @Test
+    void shouldEvictCachedCustomerWhenCustomerIsUpdated() {
+        // Given
+        when(customerRepository.save(any(CustomerEntity.class))).thenReturn(customerEntity);
+        when(customerMapper.customerToCustomerEntity(customer)).thenReturn(customerEntity);
+        underTest.getCustomerById(customerId);
+
+        // When
+        underTest.updateCustomer(customer);
+        underTest.getCustomerById(customerId);
+
+        // Then
+        // one lookup for each read and one for the update itself
+        verify(customerRepository, times(3)).findWithResidenceById(customerId);
+    }
+
+    @Test
+    void shouldEvictCachedCustomerWhenCustomerIsDeleted() {
+        // Given
+        when(customerRepository.existsById(customerId)).thenReturn(true);
+        underTest.getCustomerById(customerId);
+
+        // When
+        underTest.deleteCustomer(customerId);
+        underTest.getCustomerById(customerId);
+
+        // Then
+        verify(customerRepository, times(2)).findWithResidenceById(customerId);
+    }
+
+    @Test
+    void shouldLoadCustomerOverviewWithCachedCustomer() {
+        // Given
+        CustomerDetails customerDetails = CustomerDetails.builder().id(UUID.randomUUID()).customerId(customerId).build();
+        Task task = Task.builder().id(UUID.randomUUID()).customerId(customerId).build();
+
+        when(customerDetailsService.getAllCustomerDetailsByCustomerIds(List.of(customerId)))
+                .thenReturn(Map.of(customerId, List.of(customerDetails)));
+        when(taskService.getAllTasksByCustomerId(customerId)).thenReturn(List.of(task));
+        underTest.getCustomerById(customerId);
+
+        // When
+        CustomerOverview customerOverview = underTest.getCustomerOverview(customerId);
+
+        // Then
+        assertEquals(customer, customerOverview.customer());
+        assertEquals(List.of(customerDetails), customerOverview.customerDetails());
+        assertEquals(List.of(task), customerOverview.tasks());
+        verify(customerRepository, times(1)).findWithResidenceById(customerId);
+        verify(customerDetailsService, never()).getAllCustomerDetails(any());
+    }
+
+    @Test
+    void shouldThrowCustomerNotFoundExceptionWhenOverviewOfMissingCustomerIsLoaded() {
+        // Given
+        UUID missingCustomerId = UUID.randomUUID();
+        when(customerRepository.findWithResidenceById(missingCustomerId)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThrows(CustomerNotFoundException.class, () -> underTest.getCustomerOverview(missingCustomerId));
+    }
+}
@@ -1,8 +1,12 @@
 package hu.bhr.crm.service;
 
 import hu.bhr.crm.exception.CustomerNotFoundException;
+import hu.bhr.crm.exception.InvalidRequestException;
 import hu.bhr.crm.mapper.CustomerMapper;
+import hu.bhr.crm.model.CursorPage;
 import hu.bhr.crm.model.Customer;
+import hu.bhr.crm.model.CustomerFilter;
+import hu.bhr.crm.model.PageCursor;
 import hu.bhr.crm.model.Residence;
 import hu.bhr.crm.repository.CustomerRepository;
 import hu.bhr.crm.repository.entity.CustomerEntity;
@@ -13,13 +17,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -65,7 +72,7 @@ class CustomerServiceTest {
                     .lastName("Doe")
                     .build();
 
-            when(customerRepository.findById(customerId)).thenReturn(Optional.of(customerEntity));
+            when(customerRepository.findWithResidenceById(customerId)).thenReturn(Optional.of(customerEntity));
             when(customerMapper.customerEntityToCustomer(customerEntity)).thenReturn(expectedCustomer);
 
             // When
@@ -78,7 +85,7 @@ class CustomerServiceTest {
         @Test
         void shouldThrowCustomerNotFoundExceptionWhenCustomerDoesNotExist() {
             // Given
-            when(customerRepository.findById(customerId)).thenReturn(Optional.empty());
+            when(customerRepository.findWithResidenceById(customerId)).thenReturn(Optional.empty());
 
             // When / Then
             assertThrows(CustomerNotFoundException.class, () -> underTest.getCustomerById(customerId));
@@ -107,7 +114,7 @@ class CustomerServiceTest {
                     .lastName("Potter")
                     .build();
 
-            when(customerRepository.findAll()).thenReturn(List.of(customerEntity1, customerEntity2));
+            when(customerRepository.findAllWithResidence()).thenReturn(List.of(customerEntity1, customerEntity2));
             when(customerMapper.customerEntityToCustomer(customerEntity1)).thenReturn(customer1);
             when(customerMapper.customerEntityToCustomer(customerEntity2)).thenReturn(customer2);
 
@@ -122,7 +129,7 @@ class CustomerServiceTest {
         @Test
         void shouldReturnEmptyListWhenNoCustomersExist() {
             // Given
-            when(customerRepository.findAll()).thenReturn(List.of());
+            when(customerRepository.findAllWithResidence()).thenReturn(List.of());
 
             // When
             List<Customer> result = underTest.getAllCustomers();
@@ -132,6 +139,72 @@ class CustomerServiceTest {
         }
     }
 
+    @Nested
+    class GetCustomerPageTests {
+
+        private final CustomerFilter filter = CustomerFilter.builder().build();
+
+        @Test
+        void shouldReturnPageWithNextCursorWhenMoreCustomersExist() {
+            // Given
+            CustomerEntity customerEntity1 = createCustomerEntity(Instant.parse("2025-01-01T10:00:00Z"));
+            CustomerEntity customerEntity2 = createCustomerEntity(Instant.parse("2025-01-02T10:00:00Z"));
+            CustomerEntity customerEntity3 = createCustomerEntity(Instant.parse("2025-01-03T10:00:00Z"));
+
+            Customer customer1 = Customer.builder().id(customerEntity1.getId()).build();
+            Customer customer2 = Customer.builder().id(customerEntity2.getId()).build();
+
+            when(customerRepository.findBy(any(Specification.class), any()))
+                    .thenReturn(List.of(customerEntity1, customerEntity2, customerEntity3));
+            when(customerMapper.customerEntityToCustomer(customerEntity1)).thenReturn(customer1);
+            when(customerMapper.customerEntityToCustomer(customerEntity2)).thenReturn(customer2);
+
+            // When
+            CursorPage<Customer> result = underTest.getCustomerPage(filter, null, 2);
+
+            // Then
+            assertEquals(List.of(customer1, customer2), result.items());
+            assertTrue(result.hasNext());
+            assertEquals(new PageCursor(customerEntity2.getCreatedAt(), customerEntity2.getId()), result.nextCursor());
+            verify(customerMapper, never()).customerEntityToCustomer(customerEntity3);
+        }
+
+        @Test
+        void shouldReturnLastPageWithoutNextCursor() {
+            // Given
+            CustomerEntity customerEntity = createCustomerEntity(Instant.parse("2025-01-01T10:00:00Z"));
+            Customer customer = Customer.builder().id(customerEntity.getId()).build();
+            PageCursor after = new PageCursor(Instant.parse("2024-12-31T10:00:00Z"), UUID.randomUUID());
+
+            when(customerRepository.findBy(any(Specification.class), any())).thenReturn(List.of(customerEntity));
+            when(customerMapper.customerEntityToCustomer(customerEntity)).thenReturn(customer);
+
+            // When
+            CursorPage<Customer> result = underTest.getCustomerPage(filter, after, 2);
+
+            // Then
+            assertEquals(List.of(customer), result.items());
+            assertFalse(result.hasNext());
+            assertNull(result.nextCursor());
+        }
+
+        @Test
+        void shouldThrowInvalidRequestExceptionWhenPageSizeIsOutOfRange() {
+            // When / Then
+            assertThrows(InvalidRequestException.class, () -> underTest.getCustomerPage(filter, null, 0));
+            assertThrows(InvalidRequestException.class,
+                    () -> underTest.getCustomerPage(filter, null, CustomerService.MAX_PAGE_SIZE + 1));
+            verify(customerRepository, never()).findBy(any(Specification.class), any());
+        }
+
+        private CustomerEntity createCustomerEntity(Instant createdAt) {
+            CustomerEntity customerEntity = new CustomerEntity();
+            customerEntity.setId(UUID.randomUUID());
+            customerEntity.setCreatedAt(createdAt);
+            return customerEntity;
+        }
+    }
+
     @Nested
     class RegisterCustomerTests {
 
@@ -253,7 +326,7 @@ class CustomerServiceTest {
             CustomerEntity existingCustomerEntity = new CustomerEntity();
             CustomerEntity updatedCustomerEntity = new CustomerEntity();
 
-            when(customerRepository.findById(customerId)).thenReturn(Optional.of(existingCustomerEntity));
+            when(customerRepository.findWithResidenceById(customerId)).thenReturn(Optional.of(existingCustomerEntity));
             when(customerMapper.customerToCustomerEntity(updatedCustomer)).thenReturn(updatedCustomerEntity);
             when(customerRepository.save(updatedCustomerEntity)).thenReturn(updatedCustomerEntity);
             when(customerMapper.customerEntityToCustomer(updatedCustomerEntity)).thenReturn(updatedCustomer);
@@ -281,7 +354,7 @@ class CustomerServiceTest {
             CustomerEntity existingCustomerEntity = new CustomerEntity();
             CustomerEntity updatedCustomerEntity = new CustomerEntity();
 
-            when(customerRepository.findById(customerId)).thenReturn(Optional.of(existingCustomerEntity));
+            when(customerRepository.findWithResidenceById(customerId)).thenReturn(Optional.of(existingCustomerEntity));
             when(customerMapper.customerToCustomerEntity(any(Customer.class))).thenReturn(updatedCustomerEntity);
             when(customerRepository.save(updatedCustomerEntity)).thenReturn(updatedCustomerEntity);
             when(customerMapper.customerEntityToCustomer(updatedCustomerEntity)).thenReturn(updatedCustomer);
@@ -305,7 +378,7 @@ class CustomerServiceTest {
                     .lastName("Potter")
                     .build();
 
-            when(customerRepository.findById(customerId)).thenReturn(Optional.empty());
+            when(customerRepository.findWithResidenceById(customerId)).thenReturn(Optional.empty());
 
             // When / Then
             assertThrows(CustomerNotFoundException.class, () -> underTest.updateCustomer(updatedCustomer));
@@ -335,7 +408,7 @@ class CustomerServiceTest {
                     newResidence.withId(generatedResidenceId)
             );
 
-            when(customerRepository.findById(customerId)).thenReturn(Optional.of(existingCustomerEntity));
+            when(customerRepository.findWithResidenceById(customerId)).thenReturn(Optional.of(existingCustomerEntity));
             when(customerMapper.customerToCustomerEntity(any(Customer.class)))
                     .thenReturn(updatedCustomerEntity);
             when(customerRepository.save(updatedCustomerEntity)).thenReturn(updatedCustomerEntity);
@@ -371,7 +444,7 @@ class CustomerServiceTest {
             Customer expectedUpdatedCustomer = customerPayload.withResidence(updatedResidence);
             CustomerEntity updatedCustomerEntity = new CustomerEntity();
 
-            when(customerRepository.findById(customerId)).thenReturn(Optional.of(existingCustomerEntity));
+            when(customerRepository.findWithResidenceById(customerId)).thenReturn(Optional.of(existingCustomerEntity));
             when(customerMapper.customerToCustomerEntity(any(Customer.class))).thenReturn(updatedCustomerEntity);
             when(customerRepository.save(updatedCustomerEntity)).thenReturn(updatedCustomerEntity);
             when(customerMapper.customerEntityToCustomer(updatedCustomerEntity)).thenReturn(expectedUpdatedCustomer);
@@ -412,7 +485,7 @@ class CustomerServiceTest {
                     updatedResidence.withId(existingResidenceId)
             );
 
-            when(customerRepository.findById(customerId)).thenReturn(Optional.of(existingCustomerEntity));
+            when(customerRepository.findWithResidenceById(customerId)).thenReturn(Optional.of(existingCustomerEntity));
             when(customerMapper.customerToCustomerEntity(any(Customer.class))).thenReturn(updatedCustomerEntity);
             when(customerRepository.save(updatedCustomerEntity)).thenReturn(updatedCustomerEntity);
             when(customerMapper.customerEntityToCustomer(updatedCustomerEntity)).thenReturn(expectedUpdatedCustomer);
@@ -447,7 +520,7 @@ class CustomerServiceTest {
             Customer expectedCustomer = customerPayload.withResidence(expectedResidence);
             CustomerEntity updatedCustomerEntity = new CustomerEntity();
 
-            when(customerRepository.findById(customerId)).thenReturn(Optional.of(existingCustomerEntity));
+            when(customerRepository.findWithResidenceById(customerId)).thenReturn(Optional.of(existingCustomerEntity));
             when(customerMapper.customerToCustomerEntity(any(Customer.class))).thenReturn(updatedCustomerEntity);
             when(customerRepository.save(updatedCustomerEntity)).thenReturn(updatedCustomerEntity);
             when(customerMapper.customerEntityToCustomer(updatedCustomerEntity)).thenReturn(expectedCustomer);
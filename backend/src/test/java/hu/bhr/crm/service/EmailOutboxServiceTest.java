@@ -0,0 +1,262 @@
+package hu.bhr.crm.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import hu.bhr.crm.config.MailProperties;
+import hu.bhr.crm.config.ReminderProperties;
+import hu.bhr.crm.exception.TaskNotFoundException;
+import hu.bhr.crm.metrics.ReminderMetrics;
+import hu.bhr.crm.model.EmailOutboxStatus;
+import hu.bhr.crm.model.Task;
+import hu.bhr.crm.repository.EmailOutboxRepository;
+import hu.bhr.crm.repository.ReminderSnapshotRepository;
+import hu.bhr.crm.repository.entity.EmailOutboxEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxServiceTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+    @Mock
+    private TaskService taskService;
+    @Mock
+    private CustomerService customerService;
+    @Mock
+    private CustomerDetailsService customerDetailsService;
+    @Mock
+    private ReminderSnapshotRepository reminderSnapshotRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    private ReminderProperties reminderProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private EmailOutboxService underTest;
+
+    private Task task;
+    private EmailOutboxEntity entry;
+
+    @BeforeEach
+    void setUp() {
+        reminderProperties = new ReminderProperties();
+        reminderProperties.getOutbox().setMaxAttempts(3);
+        reminderProperties.getOutbox().setInitialBackoff(Duration.ofSeconds(30));
+        reminderProperties.getOutbox().setMaxBackoff(Duration.ofHours(1));
+        meterRegistry = new SimpleMeterRegistry();
+
+        underTest = outboxServiceSendingTo(ServerSetupTest.SMTP.getPort());
+
+        task = Task.builder()
+                .id(UUID.randomUUID())
+                .title("Call back")
+                .build();
+        entry = EmailOutboxEntity.builder()
+                .id(UUID.randomUUID())
+                .taskId(task.id())
+                .status(EmailOutboxStatus.SENDING)
+                .attempts(1)
+                .nextAttemptAt(Instant.now())
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    @Nested
+    class DeliverTests {
+
+        @Test
+        void shouldSendReminderOverSmtpAndMarkEntrySent() throws MessagingException {
+            // Given
+            when(taskService.getTaskById(task.id())).thenReturn(task);
+
+            // When
+            underTest.deliver(entry);
+
+            // Then
+            MimeMessage[] receivedMessages = greenMail.getReceivedMessages();
+            assertEquals(1, receivedMessages.length);
+            assertEquals("Task Reminder - Call back", receivedMessages[0].getSubject());
+            assertEquals(EmailOutboxStatus.SENT, entry.getStatus());
+            assertNotNull(entry.getSentAt());
+            verify(emailOutboxRepository).save(entry);
+            assertEquals(1, deliveries("sent"));
+            assertEquals(1, meterRegistry.get(ReminderMetrics.DELIVERY_TIMER).tag("outcome", "sent").timer().count());
+        }
+
+        @Test
+        void shouldScheduleRetryWithBackoffWhenSmtpServerIsUnreachable() throws IOException {
+            // Given
+            underTest = outboxServiceSendingTo(unusedPort());
+            entry.setAttempts(2);
+            when(taskService.getTaskById(task.id())).thenReturn(task);
+            Instant before = Instant.now();
+
+            // When
+            underTest.deliver(entry);
+
+            // Then
+            assertEquals(EmailOutboxStatus.PENDING, entry.getStatus());
+            assertFalse(entry.getNextAttemptAt().isBefore(before.plus(Duration.ofSeconds(60))));
+            assertNotNull(entry.getLastError());
+            verify(emailOutboxRepository).save(entry);
+            assertEquals(1, deliveries("retry"));
+        }
+
+        @Test
+        void shouldMarkEntryDeadWhenLastAttemptFails() throws IOException {
+            // Given
+            underTest = outboxServiceSendingTo(unusedPort());
+            entry.setAttempts(3);
+            when(taskService.getTaskById(task.id())).thenReturn(task);
+
+            // When
+            underTest.deliver(entry);
+
+            // Then
+            assertEquals(EmailOutboxStatus.DEAD, entry.getStatus());
+            assertEquals(1, deliveries("dead"));
+        }
+
+        @Test
+        void shouldMarkEntryDeadWithoutRetryWhenTaskNoLongerExists() {
+            // Given
+            when(taskService.getTaskById(task.id())).thenThrow(new TaskNotFoundException(task.id()));
+
+            // When
+            underTest.deliver(entry);
+
+            // Then
+            assertEquals(EmailOutboxStatus.DEAD, entry.getStatus());
+            assertEquals(0, greenMail.getReceivedMessages().length);
+        }
+    }
+
+    @Nested
+    class LeaseTests {
+
+        @Test
+        void shouldDropOutcomeWhenEntryWasClaimedAgainDuringTheSend() {
+            // Given
+            when(taskService.getTaskById(task.id())).thenReturn(task);
+            when(emailOutboxRepository.save(entry))
+                    .thenThrow(new ObjectOptimisticLockingFailureException(EmailOutboxEntity.class, entry.getId()));
+
+            // When
+            underTest.deliver(entry);
+
+            // Then
+            assertEquals(1, deliveries("lease-expired"));
+            assertNull(meterRegistry.find(EmailOutboxService.DELIVERIES_COUNTER).tag("outcome", "sent").counter());
+            assertNull(meterRegistry.find(ReminderMetrics.DELIVERY_TIMER).timer());
+        }
+    }
+
+    @Nested
+    class PurgeSentEntriesTests {
+
+        @Test
+        void shouldDeleteSentEntriesOlderThanRetentionInBatches() {
+            // Given
+            reminderProperties.getOutbox().setRetention(Duration.ofDays(7));
+            when(emailOutboxRepository.deleteSentBefore(any(Instant.class), eq(1000)))
+                    .thenReturn(1000)
+                    .thenReturn(42);
+            Instant before = Instant.now();
+
+            // When
+            int purged = underTest.purgeSentEntries();
+
+            // Then
+            assertEquals(1042, purged);
+            ArgumentCaptor<Instant> sentBefore = ArgumentCaptor.captor();
+            verify(emailOutboxRepository, times(2)).deleteSentBefore(sentBefore.capture(), eq(1000));
+            assertFalse(sentBefore.getValue().isBefore(before.minus(Duration.ofDays(7))));
+        }
+    }
+
+    @Nested
+    class ClaimDueEntriesTests {
+
+        @Test
+        void shouldLeaseClaimedEntriesAndCountTheAttempt() {
+            // Given
+            entry.setStatus(EmailOutboxStatus.PENDING);
+            entry.setAttempts(0);
+            when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+                TransactionCallback<?> callback = invocation.getArgument(0);
+                return callback.doInTransaction(null);
+            });
+            when(emailOutboxRepository.findDueForUpdate(any(Instant.class), eq(5))).thenReturn(List.of(entry));
+            Instant before = Instant.now();
+
+            // When
+            List<EmailOutboxEntity> result = underTest.claimDueEntries(5);
+
+            // Then
+            assertEquals(List.of(entry), result);
+            assertEquals(EmailOutboxStatus.SENDING, entry.getStatus());
+            assertEquals(1, entry.getAttempts());
+            assertTrue(entry.getNextAttemptAt().isAfter(before));
+        }
+    }
+
+    private EmailOutboxService outboxServiceSendingTo(int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+
+        MailProperties mailProperties = new MailProperties();
+        mailProperties.setFrom("crm@example.com");
+        mailProperties.setTo("owner@example.com");
+
+        EmailService emailService =
+                new EmailService(mailSender, mailProperties, taskService, customerService, customerDetailsService,
+                        reminderSnapshotRepository, reminderProperties);
+        return new EmailOutboxService(
+                emailOutboxRepository, emailService, transactionTemplate, reminderProperties, meterRegistry,
+                new ReminderMetrics(meterRegistry));
+    }
+
+    private double deliveries(String outcome) {
+        return meterRegistry.get(EmailOutboxService.DELIVERIES_COUNTER).tag("outcome", outcome).counter().count();
+    }
+
+    private static int unusedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
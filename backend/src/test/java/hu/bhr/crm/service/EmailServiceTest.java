@@ -0,0 +1,397 @@
+package hu.bhr.crm.service;
+
+import hu.bhr.crm.config.MailProperties;
+import hu.bhr.crm.config.ReminderProperties;
+import hu.bhr.crm.exception.EmailSendingException;
+import hu.bhr.crm.exception.TaskNotFoundException;
+import hu.bhr.crm.model.Customer;
+import hu.bhr.crm.model.CustomerDetails;
+import hu.bhr.crm.model.Task;
+import hu.bhr.crm.repository.ReminderSnapshotRepository;
+import hu.bhr.crm.repository.entity.ReminderSnapshotEntity;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmailServiceTest {
+
+    @Mock
+    private JavaMailSender javaMailSender;
+    @Mock
+    private TaskService taskService;
+    @Mock
+    private CustomerService customerService;
+    @Mock
+    private CustomerDetailsService customerDetailsService;
+    @Mock
+    private ReminderSnapshotRepository reminderSnapshotRepository;
+    private ReminderProperties reminderProperties;
+    private EmailService underTest;
+
+    @BeforeEach
+    void setUp() {
+        MailProperties mailProperties = new MailProperties();
+        mailProperties.setFrom("crm@example.com");
+        mailProperties.setTo("owner@example.com");
+
+        reminderProperties = new ReminderProperties();
+
+        underTest = new EmailService(javaMailSender, mailProperties, taskService, customerService, customerDetailsService,
+                reminderSnapshotRepository, reminderProperties);
+    }
+
+    @Nested
+    class CreateAndSendEmailsTests {
+
+        @Test
+        void shouldLoadEverythingInBulkAndSendAllMessagesAtOnce() {
+            // Given
+            UUID customerId = UUID.randomUUID();
+            Task firstTask = task(customerId);
+            Task secondTask = task(customerId);
+            Task taskWithoutCustomer = task(null);
+            List<UUID> taskIds = List.of(firstTask.id(), secondTask.id(), taskWithoutCustomer.id());
+            Customer customer = Customer.builder().id(customerId).firstName("Harry").build();
+            CustomerDetails note = CustomerDetails.builder().customerId(customerId).note("Likes owls").build();
+
+            when(taskService.getTasksByIds(taskIds)).thenReturn(List.of(firstTask, secondTask, taskWithoutCustomer));
+            when(customerService.getCustomersByIds(Set.of(customerId))).thenReturn(List.of(customer));
+            when(customerDetailsService.getAllCustomerDetailsByCustomerIds(Set.of(customerId)))
+                    .thenReturn(Map.of(customerId, List.of(note)));
+            when(javaMailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+
+            // When
+            Map<UUID, RuntimeException> failures = underTest.createAndSendEmails(taskIds);
+
+            // Then
+            assertTrue(failures.isEmpty());
+            ArgumentCaptor<MimeMessage[]> messages = ArgumentCaptor.forClass(MimeMessage[].class);
+            verify(javaMailSender).send(messages.capture());
+            assertEquals(3, messages.getValue().length);
+            verify(customerService, never()).getCustomerById(any());
+        }
+
+        @Test
+        void shouldReportMissingTaskAndRejectedMessageSeparately() throws MessagingException {
+            // Given
+            Task task = task(null);
+            UUID missingTaskId = UUID.randomUUID();
+            MimeMessage message = new MimeMessage((Session) null);
+
+            when(taskService.getTasksByIds(List.of(task.id(), missingTaskId))).thenReturn(List.of(task));
+            when(javaMailSender.createMimeMessage()).thenReturn(message);
+            doThrow(new MailSendException(Map.<Object, Exception>of(message, new MessagingException("Mailbox unavailable"))))
+                    .when(javaMailSender).send(any(MimeMessage[].class));
+
+            // When
+            Map<UUID, RuntimeException> failures = underTest.createAndSendEmails(List.of(task.id(), missingTaskId));
+
+            // Then
+            assertEquals(2, failures.size());
+            assertInstanceOf(EmailSendingException.class, failures.get(task.id()));
+            assertInstanceOf(TaskNotFoundException.class, failures.get(missingTaskId));
+        }
+
+        @Test
+        void shouldReportEveryReminderWhenMailServerRejectsConnection() {
+            // Given
+            Task firstTask = task(null);
+            Task secondTask = task(null);
+            List<UUID> taskIds = List.of(firstTask.id(), secondTask.id());
+
+            when(taskService.getTasksByIds(taskIds)).thenReturn(List.of(firstTask, secondTask));
+            when(javaMailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+            doThrow(new MailAuthenticationException("Bad credentials"))
+                    .when(javaMailSender).send(any(MimeMessage[].class));
+
+            // When
+            Map<UUID, RuntimeException> failures = underTest.createAndSendEmails(taskIds);
+
+            // Then
+            assertEquals(Set.of(firstTask.id(), secondTask.id()), failures.keySet());
+            verify(customerService, never()).getCustomersByIds(any());
+        }
+    }
+
+    @Nested
+    class CreateAndSendDigestTests {
+
+        @Test
+        void shouldSendAllRemindersInOneMessageListingEachTaskOnce() throws Exception {
+            // Given
+            Task firstTask = task(null, "Call back");
+            Task secondTask = task(null, "Send offer");
+            MimeMessage message = new MimeMessage((Session) null);
+
+            when(taskService.getTasksByIds(Set.of(firstTask.id(), secondTask.id())))
+                    .thenReturn(List.of(firstTask, secondTask));
+            when(javaMailSender.createMimeMessage()).thenReturn(message);
+
+            // When
+            Map<UUID, RuntimeException> failures =
+                    underTest.createAndSendDigest(List.of(firstTask.id(), secondTask.id(), firstTask.id()));
+
+            // Then
+            assertTrue(failures.isEmpty());
+            verify(javaMailSender).send(message);
+            assertEquals("Task Reminders - 2 tasks", message.getSubject());
+            String html = (String) message.getContent();
+            assertTrue(html.startsWith("<h2>Task Reminders</h2><h3>Call back</h3><ul>"));
+            assertTrue(html.contains("<h3>Send offer</h3><ul>"));
+            verify(taskService).getTasksByIds(any());
+            verify(customerService, never()).getCustomersByIds(any());
+        }
+
+        @Test
+        void shouldSendRegularReminderWhenDigestHasOneTask() throws Exception {
+            // Given
+            Task task = task(null, "Call back");
+            MimeMessage message = new MimeMessage((Session) null);
+
+            when(taskService.getTasksByIds(Set.of(task.id()))).thenReturn(List.of(task));
+            when(javaMailSender.createMimeMessage()).thenReturn(message);
+
+            // When
+            underTest.createAndSendDigest(List.of(task.id()));
+
+            // Then
+            verify(javaMailSender).send(message);
+            assertEquals("Task Reminder - Call back", message.getSubject());
+        }
+
+        @Test
+        void shouldReportEveryReminderOfDigestWhenSendingFails() {
+            // Given
+            Task firstTask = task(null, "Call back");
+            Task secondTask = task(null, "Send offer");
+            UUID missingTaskId = UUID.randomUUID();
+            List<UUID> taskIds = List.of(firstTask.id(), secondTask.id(), missingTaskId);
+
+            when(taskService.getTasksByIds(Set.copyOf(taskIds))).thenReturn(List.of(firstTask, secondTask));
+            when(javaMailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+            doThrow(new MailSendException("Connection refused")).when(javaMailSender).send(any(MimeMessage.class));
+
+            // When
+            Map<UUID, RuntimeException> failures = underTest.createAndSendDigest(taskIds);
+
+            // Then
+            assertInstanceOf(EmailSendingException.class, failures.get(firstTask.id()));
+            assertInstanceOf(EmailSendingException.class, failures.get(secondTask.id()));
+            assertInstanceOf(TaskNotFoundException.class, failures.get(missingTaskId));
+        }
+
+        @Test
+        void shouldNotSendAnythingWhenNoTaskExists() {
+            // Given
+            UUID missingTaskId = UUID.randomUUID();
+            when(taskService.getTasksByIds(Set.of(missingTaskId))).thenReturn(List.of());
+
+            // When
+            Map<UUID, RuntimeException> failures = underTest.createAndSendDigest(List.of(missingTaskId));
+
+            // Then
+            assertEquals(Set.of(missingTaskId), failures.keySet());
+            verify(javaMailSender, never()).send(any(MimeMessage.class));
+        }
+    }
+
+    @Nested
+    class SnapshotTests {
+
+        @BeforeEach
+        void enableSnapshots() {
+            reminderProperties.getSnapshot().setEnabled(true);
+        }
+
+        @Test
+        void shouldSendStoredEmailWithoutLoadingTask() throws Exception {
+            // Given
+            UUID taskId = UUID.randomUUID();
+            MimeMessage message = new MimeMessage((Session) null);
+
+            when(reminderSnapshotRepository.findAllById(List.of(taskId)))
+                    .thenReturn(List.of(snapshot(taskId, "Task Reminder - Call back")));
+            when(javaMailSender.createMimeMessage()).thenReturn(message);
+
+            // When
+            underTest.createAndSendEmail(taskId);
+
+            // Then
+            verify(javaMailSender).send(message);
+            assertEquals("Task Reminder - Call back", message.getSubject());
+            assertEquals("<h2>Task Reminder</h2>", message.getContent());
+            verify(taskService, never()).getTaskById(any());
+            verify(reminderSnapshotRepository).deleteRenderedBefore(eq(List.of(taskId)), any());
+        }
+
+        @Test
+        void shouldKeepStoredEmailWhenSendingFails() {
+            // Given
+            UUID taskId = UUID.randomUUID();
+            MimeMessage message = new MimeMessage((Session) null);
+
+            when(reminderSnapshotRepository.findAllById(List.of(taskId)))
+                    .thenReturn(List.of(snapshot(taskId, "Task Reminder - Call back")));
+            when(javaMailSender.createMimeMessage()).thenReturn(message);
+            doThrow(new MailSendException("Connection refused")).when(javaMailSender).send(message);
+
+            // When / Then
+            assertThrows(MailSendException.class, () -> underTest.createAndSendEmail(taskId));
+            verify(reminderSnapshotRepository, never()).deleteRenderedBefore(any(), any());
+        }
+
+        @Test
+        void shouldNotReportSentReminderFailedWhenDroppingItsStoredEmailFails() {
+            // Given
+            UUID taskId = UUID.randomUUID();
+
+            when(reminderSnapshotRepository.findAllById(List.of(taskId)))
+                    .thenReturn(List.of(snapshot(taskId, "Task Reminder - Call back")));
+            when(javaMailSender.createMimeMessage()).thenReturn(new MimeMessage((Session) null));
+            doThrow(new QueryTimeoutException("Statement timed out"))
+                    .when(reminderSnapshotRepository).deleteRenderedBefore(any(), any());
+
+            // When / Then
+            assertDoesNotThrow(() -> underTest.createAndSendEmail(taskId));
+        }
+
+        @Test
+        void shouldDropStoredEmailsOfSentRemindersOnly() {
+            // Given
+            UUID sentTaskId = UUID.randomUUID();
+            UUID rejectedTaskId = UUID.randomUUID();
+            List<UUID> taskIds = List.of(sentTaskId, rejectedTaskId);
+
+            when(reminderSnapshotRepository.findAllById(taskIds)).thenReturn(List.of(
+                    snapshot(sentTaskId, "Task Reminder - Sent"), snapshot(rejectedTaskId, "Task Reminder - Rejected")));
+            when(javaMailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+            doAnswer(invocation -> {
+                for (Object message : invocation.getArguments()) {
+                    if (((MimeMessage) message).getSubject().equals("Task Reminder - Rejected")) {
+                        throw new MailSendException(
+                                Map.<Object, Exception>of(message, new MessagingException("Mailbox full")));
+                    }
+                }
+                return null;
+            }).when(javaMailSender).send(any(MimeMessage[].class));
+
+            // When
+            Map<UUID, RuntimeException> failures = underTest.createAndSendEmails(taskIds);
+
+            // Then
+            assertEquals(Set.of(rejectedTaskId), failures.keySet());
+            verify(reminderSnapshotRepository).deleteRenderedBefore(eq(List.of(sentTaskId)), any());
+        }
+
+        @Test
+        void shouldDropStoredEmailsOfRemindersSentInDigest() {
+            // Given
+            Task firstTask = task(null);
+            Task secondTask = task(null);
+            List<UUID> taskIds = List.of(firstTask.id(), secondTask.id());
+
+            when(taskService.getTasksByIds(Set.copyOf(taskIds))).thenReturn(List.of(firstTask, secondTask));
+            when(javaMailSender.createMimeMessage()).thenReturn(new MimeMessage((Session) null));
+
+            // When
+            Map<UUID, RuntimeException> failures = underTest.createAndSendDigest(taskIds);
+
+            // Then
+            assertTrue(failures.isEmpty());
+            verify(reminderSnapshotRepository).deleteRenderedBefore(eq(Set.of(firstTask.id(), secondTask.id())), any());
+        }
+
+        @Test
+        void shouldLoadOnlyTheRemindersWithoutStoredEmail() {
+            // Given
+            UUID storedTaskId = UUID.randomUUID();
+            Task task = task(null);
+            List<UUID> taskIds = List.of(storedTaskId, task.id());
+
+            when(reminderSnapshotRepository.findAllById(taskIds))
+                    .thenReturn(List.of(snapshot(storedTaskId, "Task Reminder - Stored")));
+            when(taskService.getTasksByIds(List.of(task.id()))).thenReturn(List.of(task));
+            when(javaMailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+
+            // When
+            Map<UUID, RuntimeException> failures = underTest.createAndSendEmails(taskIds);
+
+            // Then
+            assertTrue(failures.isEmpty());
+            ArgumentCaptor<MimeMessage[]> messages = ArgumentCaptor.forClass(MimeMessage[].class);
+            verify(javaMailSender).send(messages.capture());
+            assertEquals(2, messages.getValue().length);
+        }
+
+        @Test
+        void shouldIgnoreStoredEmailsWhenDisabled() {
+            // Given
+            reminderProperties.getSnapshot().setEnabled(false);
+            Task task = task(null);
+
+            when(taskService.getTaskById(task.id())).thenReturn(task);
+            when(javaMailSender.createMimeMessage()).thenReturn(new MimeMessage((Session) null));
+
+            // When
+            underTest.createAndSendEmail(task.id());
+
+            // Then
+            verify(reminderSnapshotRepository, never()).findAllById(any());
+            verify(javaMailSender).send(any(MimeMessage.class));
+        }
+
+        private ReminderSnapshotEntity snapshot(UUID taskId, String subject) {
+            return ReminderSnapshotEntity.builder()
+                    .taskId(taskId)
+                    .subject(subject)
+                    .html("<h2>Task Reminder</h2>")
+                    .build();
+        }
+    }
+
+    private Task task(UUID customerId, String title) {
+        return Task.builder()
+                .id(UUID.randomUUID())
+                .customerId(customerId)
+                .title(title)
+                .build();
+    }
+
+    private Task task(UUID customerId) {
+        return Task.builder()
+                .id(UUID.randomUUID())
+                .customerId(customerId)
+                .title("Call back")
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package hu.bhr.crm.service;
+
+import hu.bhr.crm.config.ReminderProperties;
+import hu.bhr.crm.exception.InvalidRequestException;
+import hu.bhr.crm.metrics.ReminderMetrics;
+import hu.bhr.crm.model.OverdueReminder;
+import hu.bhr.crm.repository.TaskRepository;
+import hu.bhr.crm.repository.entity.TaskEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.Scheduler;
+import org.quartz.Trigger;
+import org.quartz.TriggerKey;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderMonitoringServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private Scheduler scheduler;
+    private SimpleMeterRegistry meterRegistry;
+    private ReminderProperties reminderProperties;
+    private ReminderMonitoringService underTest;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reminderProperties = new ReminderProperties();
+        reminderProperties.getMonitoring().setMisfireThreshold(Duration.ofMinutes(1));
+
+        underTest = new ReminderMonitoringService(
+                taskRepository, scheduler, new ReminderMetrics(meterRegistry), reminderProperties);
+    }
+
+    @Test
+    void shouldPublishNumberOfOverdueReminders() {
+        // Given
+        when(taskRepository.countOverdueReminders(any())).thenReturn(42L);
+
+        // When
+        underTest.refreshOverdueReminderCount();
+
+        // Then
+        assertEquals(42, meterRegistry.get(ReminderMetrics.OVERDUE_GAUGE).gauge().value());
+    }
+
+    @Nested
+    class GetOverdueRemindersTests {
+
+        @Test
+        void shouldFlagRemindersOverdueByMoreThanMisfireThresholdWithTheirTriggerState() throws Exception {
+            // Given
+            TaskEntity misfired = task(Instant.now().minus(Duration.ofMinutes(10)));
+            TaskEntity late = task(Instant.now().minus(Duration.ofSeconds(5)));
+
+            when(taskRepository.findOverdueReminders(any(), eq(10))).thenReturn(List.of(misfired, late));
+            when(scheduler.getTriggerState(any(TriggerKey.class)))
+                    .thenReturn(Trigger.TriggerState.ERROR)
+                    .thenReturn(Trigger.TriggerState.NORMAL);
+
+            // When
+            List<OverdueReminder> overdueReminders = underTest.getOverdueReminders(10);
+
+            // Then
+            assertEquals(2, overdueReminders.size());
+            assertEquals(misfired.getId(), overdueReminders.get(0).taskId());
+            assertTrue(overdueReminders.get(0).misfired());
+            assertTrue(overdueReminders.get(0).overdueBy().compareTo(Duration.ofMinutes(10)) >= 0);
+            assertEquals("ERROR", overdueReminders.get(0).triggerState());
+            assertFalse(overdueReminders.get(1).misfired());
+            assertEquals("NORMAL", overdueReminders.get(1).triggerState());
+        }
+
+        @Test
+        void shouldNotReadTriggersWithPollingEngine() {
+            // Given
+            reminderProperties.setEngine(ReminderProperties.Engine.POLLING);
+            TaskEntity task = task(Instant.now().minus(Duration.ofMinutes(10)));
+
+            when(taskRepository.findOverdueReminders(any(), eq(10))).thenReturn(List.of(task));
+
+            // When
+            List<OverdueReminder> overdueReminders = underTest.getOverdueReminders(10);
+
+            // Then
+            assertNull(overdueReminders.getFirst().triggerState());
+            verifyNoInteractions(scheduler);
+        }
+
+        @Test
+        void shouldThrowInvalidRequestExceptionWhenLimitIsOutOfRange() {
+            // When / Then
+            assertThrows(InvalidRequestException.class, () -> underTest.getOverdueReminders(501));
+            verifyNoInteractions(taskRepository);
+        }
+    }
+
+    private TaskEntity task(Instant reminder) {
+        return TaskEntity.builder()
+                .id(UUID.randomUUID())
+                .title("Call back")
+                .reminder(reminder)
+                .build();
+    }
+}
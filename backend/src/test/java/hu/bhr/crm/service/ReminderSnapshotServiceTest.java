@@ -0,0 +1,191 @@
+package hu.bhr.crm.service;
+
+import hu.bhr.crm.config.ReminderProperties;
+import hu.bhr.crm.event.CustomerChangedEvent;
+import hu.bhr.crm.event.TaskChangedEvent;
+import hu.bhr.crm.model.EmailContent;
+import hu.bhr.crm.model.Task;
+import hu.bhr.crm.repository.ReminderSnapshotRepository;
+import hu.bhr.crm.repository.converter.CompressedStringConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderSnapshotServiceTest {
+
+    @Mock
+    private ReminderSnapshotRepository reminderSnapshotRepository;
+    @Mock
+    private TaskService taskService;
+    @Mock
+    private EmailService emailService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private ReminderProperties reminderProperties;
+    private ReminderSnapshotService underTest;
+
+    @BeforeEach
+    void setUp() {
+        reminderProperties = new ReminderProperties();
+        reminderProperties.getSnapshot().setEnabled(true);
+
+        underTest = new ReminderSnapshotService(
+                reminderSnapshotRepository, taskService, emailService, reminderProperties, transactionManager);
+    }
+
+    @Nested
+    class OnTaskChangedTests {
+
+        @Test
+        void shouldStorePendingReminderAndDropTheOthers() {
+            // Given
+            UUID customerId = UUID.randomUUID();
+            Task pendingTask = task(customerId, Instant.now().plus(Duration.ofDays(1)));
+            Task firedTask = task(customerId, Instant.now().minus(Duration.ofDays(1)));
+            Task taskWithoutReminder = task(null, null);
+            List<UUID> taskIds = List.of(pendingTask.id(), firedTask.id(), taskWithoutReminder.id());
+            EmailContent emailContent = EmailContent.builder().taskTitle("Call back").build();
+
+            when(taskService.getTasksByIds(taskIds)).thenReturn(List.of(pendingTask, firedTask, taskWithoutReminder));
+            when(emailService.createEmailContents(any(), any())).thenReturn(Map.of(pendingTask.id(), emailContent));
+
+            // When
+            underTest.onTaskChanged(new TaskChangedEvent(taskIds));
+
+            // Then
+            verify(emailService).createEmailContents(List.of(pendingTask), Map.of());
+
+            ArgumentCaptor<Instant> renderedAt = ArgumentCaptor.captor();
+            ArgumentCaptor<byte[]> html = ArgumentCaptor.captor();
+            verify(reminderSnapshotRepository).saveIfRenderedLater(
+                    eq(pendingTask.id()), eq("Task Reminder - Call back"), html.capture(), renderedAt.capture());
+            assertTrue(new CompressedStringConverter().convertToEntityAttribute(html.getValue())
+                    .startsWith("<h2>Task Reminder</h2><ul><li><strong>Task Title:</strong> Call back"));
+            verify(reminderSnapshotRepository)
+                    .deleteRenderedBefore(Set.of(firedTask.id(), taskWithoutReminder.id()), renderedAt.getValue());
+        }
+
+        @Test
+        void shouldStampRemindersWithTheTimeRenderingStarted() {
+            // Given
+            Task task = task(null, Instant.now().plus(Duration.ofDays(1)));
+            List<UUID> taskIds = List.of(task.id());
+            AtomicReference<Instant> loadedAt = new AtomicReference<>();
+
+            when(taskService.getTasksByIds(taskIds)).thenAnswer(invocation -> {
+                loadedAt.set(Instant.now());
+                return List.of(task);
+            });
+            when(emailService.createEmailContents(any(), any()))
+                    .thenReturn(Map.of(task.id(), EmailContent.builder().taskTitle("Call back").build()));
+
+            // When
+            underTest.onTaskChanged(new TaskChangedEvent(taskIds));
+
+            // Then
+            ArgumentCaptor<Instant> renderedAt = ArgumentCaptor.captor();
+            verify(reminderSnapshotRepository).saveIfRenderedLater(eq(task.id()), any(), any(), renderedAt.capture());
+            assertFalse(renderedAt.getValue().isAfter(loadedAt.get()));
+        }
+
+        @Test
+        void shouldDropRemindersWhenRenderingFails() {
+            // Given
+            Task task = task(null, Instant.now().plus(Duration.ofDays(1)));
+            List<UUID> taskIds = List.of(task.id());
+
+            when(taskService.getTasksByIds(taskIds)).thenReturn(List.of(task));
+            when(emailService.createEmailContents(any(), any()))
+                    .thenReturn(Map.of(task.id(), EmailContent.builder().taskTitle("Call back").build()));
+            when(reminderSnapshotRepository.saveIfRenderedLater(eq(task.id()), any(), any(), any()))
+                    .thenThrow(new DataIntegrityViolationException("Value too long"));
+
+            // When
+            underTest.onTaskChanged(new TaskChangedEvent(taskIds));
+
+            // Then
+            verify(reminderSnapshotRepository).deleteAllByIdInBatch(taskIds);
+        }
+
+        @Test
+        void shouldDoNothingWhenDisabled() {
+            // Given
+            reminderProperties.getSnapshot().setEnabled(false);
+
+            // When
+            underTest.onTaskChanged(new TaskChangedEvent(List.of(UUID.randomUUID())));
+
+            // Then
+            verifyNoInteractions(taskService, emailService, reminderSnapshotRepository);
+        }
+    }
+
+    @Nested
+    class OnCustomerChangedTests {
+
+        @Test
+        void shouldRenderStoredRemindersOfCustomerAgain() {
+            // Given
+            UUID customerId = UUID.randomUUID();
+            Task task = task(customerId, Instant.now().plus(Duration.ofDays(1)));
+
+            when(reminderSnapshotRepository.findTaskIdsByCustomerId(customerId)).thenReturn(List.of(task.id()));
+            when(taskService.getTasksByIds(List.of(task.id()))).thenReturn(List.of(task));
+            when(emailService.createEmailContents(any(), any()))
+                    .thenReturn(Map.of(task.id(), EmailContent.builder().taskTitle("Call back").build()));
+
+            // When
+            underTest.onCustomerChanged(new CustomerChangedEvent(customerId));
+
+            // Then
+            verify(reminderSnapshotRepository).saveIfRenderedLater(eq(task.id()), any(), any(), any());
+            verify(reminderSnapshotRepository, never()).deleteRenderedBefore(any(), any());
+        }
+
+        @Test
+        void shouldNotLoadAnythingWhenCustomerHasNoStoredReminder() {
+            // Given
+            UUID customerId = UUID.randomUUID();
+            when(reminderSnapshotRepository.findTaskIdsByCustomerId(customerId)).thenReturn(List.of());
+
+            // When
+            underTest.onCustomerChanged(new CustomerChangedEvent(customerId));
+
+            // Then
+            verifyNoInteractions(taskService, emailService);
+        }
+    }
+
+    private Task task(UUID customerId, Instant reminder) {
+        return Task.builder()
+                .id(UUID.randomUUID())
+                .customerId(customerId)
+                .title("Call back")
+                .reminder(reminder)
+                .build();
+    }
+}
@@ -7,6 +7,7 @@ import hu.bhr.crm.model.TaskStatus;
 import hu.bhr.crm.repository.TaskRepository;
 import hu.bhr.crm.repository.entity.TaskEntity;
 import hu.bhr.crm.scheduler.EmailSchedulerService;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -14,12 +15,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -44,11 +51,16 @@ class TaskServiceTest {
     private CustomerService customerService;
     @Mock
     private EmailSchedulerService emailSchedulerService;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     private TaskService underTest;
 
     @BeforeEach
     void setUp() {
-        underTest = new TaskService(taskRepository, taskMapper, customerService, emailSchedulerService);
+        underTest = new TaskService(taskRepository, taskMapper, customerService, emailSchedulerService, entityManager,
+                eventPublisher);
     }
 
 
@@ -135,6 +147,55 @@ class TaskServiceTest {
         }
     }
 
+    @Nested
+    class ExportAllTasksTests {
+
+        @Test
+        void shouldPassEveryStreamedTaskToConsumerAndDetachEntities() {
+            // Given
+            TaskEntity taskEntity1 = new TaskEntity();
+            taskEntity1.setId(UUID.randomUUID());
+            TaskEntity taskEntity2 = new TaskEntity();
+            taskEntity2.setId(UUID.randomUUID());
+
+            when(taskRepository.streamAll()).thenReturn(Stream.of(taskEntity1, taskEntity2));
+
+            Task task1 = new Task(taskEntity1.getId(), null, "title1", "description1",
+                    null, null, null, null, null, null
+            );
+            Task task2 = new Task(taskEntity2.getId(), null, "title2", "description2",
+                    null, null, null, null, null, null
+            );
+
+            when(taskMapper.taskEntityToTask(taskEntity1)).thenReturn(task1);
+            when(taskMapper.taskEntityToTask(taskEntity2)).thenReturn(task2);
+
+            List<Task> exportedTasks = new ArrayList<>();
+
+            // When
+            underTest.exportAllTasks(exportedTasks::add);
+
+            // Then
+            assertEquals(List.of(task1, task2), exportedTasks);
+            verify(entityManager).detach(taskEntity1);
+            verify(entityManager).detach(taskEntity2);
+        }
+
+        @Test
+        void shouldNotCallConsumerWhenNoTasksExist() {
+            // Given
+            when(taskRepository.streamAll()).thenReturn(Stream.empty());
+
+            List<Task> exportedTasks = new ArrayList<>();
+
+            // When
+            underTest.exportAllTasks(exportedTasks::add);
+
+            // Then
+            assertTrue(exportedTasks.isEmpty());
+        }
+    }
+
     @Nested
     class GetAllTasksByCustomerIdTests {
 
@@ -607,6 +668,34 @@ class TaskServiceTest {
             verify(emailSchedulerService, never()).deleteEmailSchedule(any());
         }
 
+        @Test
+        void shouldMakeAlreadyFiredReminderPendingAgainWhenItIsMoved() {
+            // Given
+            Instant firedReminderInstant = Instant.now().minusSeconds(3600);
+            Instant newReminderInstant = Instant.now().plusSeconds(3600);
+
+            oldTaskEntity.setReminder(firedReminderInstant);
+            newTaskEntity.setReminder(newReminderInstant);
+
+            mockRepositoryUpdate(oldTaskEntity, newTaskEntity);
+
+            task = Task.builder()
+                    .id(taskId)
+                    .title("title")
+                    .description("description")
+                    .reminder(newReminderInstant)
+                    .status(TaskStatus.fromString("ON_HOLD"))
+                    .build();
+
+            // When
+            underTest.updateTask(task);
+
+            // Then
+            InOrder inOrder = inOrder(taskRepository, emailSchedulerService);
+            inOrder.verify(taskRepository).resetRemindersFiredAt(List.of(taskId));
+            inOrder.verify(emailSchedulerService).updateEmailScheduleTime(taskId, newReminderInstant);
+        }
+
         @Test
         void shouldDoNothingWhenReminderDateRemainsTheSame() {
             // Given
@@ -796,4 +885,136 @@ class TaskServiceTest {
             return taskEntity;
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class DeleteTasksTests {
+
+        @Test
+        void shouldCancelRemindersOfTasksWithReminderAndDeleteAllTasks() {
+            // Given
+            TaskEntity withReminder = createTaskEntity(Instant.now().plusSeconds(3600));
+            TaskEntity withoutReminder = createTaskEntity(null);
+            Set<UUID> ids = Set.of(withReminder.getId(), withoutReminder.getId());
+
+            when(taskRepository.findAllById(ids)).thenReturn(List.of(withReminder, withoutReminder));
+
+            // When
+            underTest.deleteTasks(ids);
+
+            // Then
+            verify(emailSchedulerService).deleteEmailSchedules(List.of(withReminder.getId()));
+            verify(emailSchedulerService, never()).deleteEmailSchedule(any());
+            verify(taskRepository).deleteAllByIdInBatch(ids);
+        }
+
+        @Test
+        void shouldThrowTaskNotFoundExceptionAndDeleteNothingWhenTaskDoesNotExist() {
+            // Given
+            TaskEntity existing = createTaskEntity(null);
+            UUID missingId = UUID.randomUUID();
+            Set<UUID> ids = Set.of(existing.getId(), missingId);
+
+            when(taskRepository.findAllById(ids)).thenReturn(List.of(existing));
+
+            // When
+            TaskNotFoundException exception = assertThrows(TaskNotFoundException.class, () -> underTest.deleteTasks(ids));
+
+            // Then
+            assertTrue(exception.getMessage().contains(missingId.toString()));
+            verify(emailSchedulerService, never()).deleteEmailSchedules(any());
+            verify(taskRepository, never()).deleteAllByIdInBatch(any());
+        }
+    }
+
+    @Nested
+    class UpdateRemindersTests {
+
+        @Test
+        void shouldApplyEachKindOfReminderChangeWithOneBulkOperation() {
+            // Given
+            Instant now = Instant.now();
+            TaskEntity added = createTaskEntity(null);
+            TaskEntity moved = createTaskEntity(now.plusSeconds(3600));
+            TaskEntity removed = createTaskEntity(now.plusSeconds(3600));
+            TaskEntity unchanged = createTaskEntity(now.plusSeconds(7200));
+
+            Map<UUID, Instant> remindersByTaskId = new HashMap<>();
+            remindersByTaskId.put(added.getId(), now.plusSeconds(60));
+            remindersByTaskId.put(moved.getId(), now.plusSeconds(120));
+            remindersByTaskId.put(removed.getId(), null);
+            remindersByTaskId.put(unchanged.getId(), unchanged.getReminder());
+
+            List<TaskEntity> taskEntities = List.of(added, moved, removed, unchanged);
+            when(taskRepository.findAllById(remindersByTaskId.keySet())).thenReturn(taskEntities);
+
+            // When
+            underTest.updateReminders(remindersByTaskId);
+
+            // Then
+            verify(emailSchedulerService).scheduleEmails(Map.of(added.getId(), now.plusSeconds(60)));
+            verify(emailSchedulerService).updateEmailScheduleTimes(Map.of(moved.getId(), now.plusSeconds(120)));
+            verify(emailSchedulerService).deleteEmailSchedules(List.of(removed.getId()));
+            verify(taskRepository).saveAll(taskEntities);
+            verify(taskRepository).resetRemindersFiredAt(Set.of(added.getId(), moved.getId()));
+
+            assertEquals(now.plusSeconds(60), added.getReminder());
+            assertEquals(now.plusSeconds(120), moved.getReminder());
+            assertNull(removed.getReminder());
+            assertEquals(now.plusSeconds(7200), unchanged.getReminder());
+        }
+
+        @Test
+        void shouldMakeAlreadyFiredReminderPendingAgainBeforeReschedulingIt() {
+            // Given
+            TaskEntity fired = createTaskEntity(Instant.now().minusSeconds(3600));
+            Instant newReminder = Instant.now().plusSeconds(3600);
+            Map<UUID, Instant> remindersByTaskId = Map.of(fired.getId(), newReminder);
+
+            when(taskRepository.findAllById(remindersByTaskId.keySet())).thenReturn(List.of(fired));
+
+            // When
+            underTest.updateReminders(remindersByTaskId);
+
+            // Then
+            InOrder inOrder = inOrder(taskRepository, emailSchedulerService);
+            inOrder.verify(taskRepository).resetRemindersFiredAt(Set.of(fired.getId()));
+            inOrder.verify(emailSchedulerService).updateEmailScheduleTimes(remindersByTaskId);
+        }
+
+        @Test
+        void shouldNotResetFiredStateWhenNoReminderIsAddedOrMoved() {
+            // Given
+            TaskEntity removed = createTaskEntity(Instant.now().minusSeconds(3600));
+            Map<UUID, Instant> remindersByTaskId = new HashMap<>();
+            remindersByTaskId.put(removed.getId(), null);
+
+            when(taskRepository.findAllById(remindersByTaskId.keySet())).thenReturn(List.of(removed));
+
+            // When
+            underTest.updateReminders(remindersByTaskId);
+
+            // Then
+            verify(taskRepository, never()).resetRemindersFiredAt(any());
+        }
+
+        @Test
+        void shouldThrowTaskNotFoundExceptionAndUpdateNothingWhenTaskDoesNotExist() {
+            // Given
+            Map<UUID, Instant> remindersByTaskId = Map.of(UUID.randomUUID(), Instant.now().plusSeconds(60));
+
+            when(taskRepository.findAllById(remindersByTaskId.keySet())).thenReturn(List.of());
+
+            // When / Then
+            assertThrows(TaskNotFoundException.class, () -> underTest.updateReminders(remindersByTaskId));
+            verify(taskRepository, never()).saveAll(any());
+            verify(emailSchedulerService, never()).scheduleEmails(any());
+        }
+    }
+
+    private static TaskEntity createTaskEntity(Instant reminder) {
+        TaskEntity taskEntity = new TaskEntity();
+        taskEntity.setId(UUID.randomUUID());
+        taskEntity.setReminder(reminder);
+        return taskEntity;
+    }
+}
@@ -1,8 +1,10 @@
 package hu.bhr.crm.validation.validator;
 
 import hu.bhr.crm.validation.annotation.AtLeastOneFieldRequired;
+import jakarta.validation.ConstraintDeclarationException;
 import jakarta.validation.ConstraintValidatorContext;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.FieldSource;
@@ -10,6 +12,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
@@ -72,4 +75,23 @@ class AtLeastOneFieldRequiredValidatorTest {
 
         assertFalse(underTest.isValid(dto, context));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnTrueWhenSameValidatorValidatesRepeatedly() {
+        assertTrue(underTest.isValid(new TestDto(null, null, "value"), null));
+        assertTrue(underTest.isValid(new TestDto("value", null, null), null));
+    }
+
+    @Test
+    void shouldThrowConstraintDeclarationExceptionWhenFieldDoesNotExist(@Mock AtLeastOneFieldRequired invalidAnnotation) {
+        // Given
+        when(invalidAnnotation.message()).thenReturn("At least one field must be provided.");
+        when(invalidAnnotation.fields()).thenReturn(new String[]{"field1", "missingField"});
+        AtLeastOneFieldRequiredValidator validator = new AtLeastOneFieldRequiredValidator();
+        validator.initialize(invalidAnnotation);
+        TestDto dto = new TestDto("value", null, null);
+
+        // When / Then
+        assertThrows(ConstraintDeclarationException.class, () -> validator.isValid(dto, null));
+    }
+}
@@ -6,11 +6,24 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 class EmailValidatorTest {
 
+    private static final Pattern LEGACY_EMAIL_PATTERN = Pattern.compile(
+            "^(?=.{1,64}@)[A-Za-z0-9_-]+(\\.[A-Za-z0-9_-]+)*@[^-][A-Za-z0-9-]+(\\.[A-Za-z0-9-]+)*(\\.[A-Za-z]{2,})$");
+
+    private static final String[] WELL_FORMED_FRAGMENTS = {"a", "Z", "0", "9", ".", "-", "_", "co", "com", "x1"};
+    private static final String[] FUZZ_FRAGMENTS = {
+            "a", "Z", "0", "9", ".", "-", "_", "@", " ", "\t", "\n", "\r", "\u0085", "\u2028",
+            "+", "\u00e9", "\ud83d\ude00", "\ud83d", "co", "com", "x1"
+    };
+
     private EmailValidator underTest;
 
     @BeforeEach
@@ -99,4 +112,56 @@ class EmailValidatorTest {
     void shouldReturnTrueWhenEmailIsNullOrBlank(String email) {
         assertTrue(underTest.isValid(email, null));
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "username@@domain.com",
+            "username@.domain.com",
+            "username@\ndomain.com",
+            "username@\ud83d\ude00domain.com",
+            "username@-domain.com",
+            "username@d.com",
+            "username@domain.c0m",
+            "username@domain.com\n"
+    })
+    void shouldAcceptExactlyWhatLegacyRegexAcceptsForDomainEdgeCases(String email) {
+        assertEquals(LEGACY_EMAIL_PATTERN.matcher(email).matches(), underTest.isValid(email, null));
+    }
+
+    @Test
+    void shouldMatchLegacyRegexOnRandomInputs() {
+        Random random = new Random(20250301L);
+
+        for (int i = 0; i < 200_000; i++) {
+            String email = randomEmailLikeString(random);
+            boolean expected = email.isBlank() || LEGACY_EMAIL_PATTERN.matcher(email).matches();
+
+            assertEquals(expected, underTest.isValid(email, null), () -> "Mismatch for input: [" + email + "]");
+        }
+    }
+
+    private static String randomEmailLikeString(Random random) {
+        StringBuilder email = new StringBuilder();
+        if (random.nextInt(4) == 0) {
+            email.append("a".repeat(55 + random.nextInt(15)));
+        }
+        appendRandomFragments(email, random, random.nextInt(12));
+
+        if (random.nextBoolean()) {
+            email.append('@');
+            appendRandomFragments(email, random, random.nextInt(10));
+            if (random.nextBoolean()) {
+                email.append(".com");
+            }
+        }
+
+        return email.toString();
+    }
+
+    private static void appendRandomFragments(StringBuilder email, Random random, int count) {
+        for (int i = 0; i < count; i++) {
+            String[] fragments = random.nextInt(8) == 0 ? FUZZ_FRAGMENTS : WELL_FORMED_FRAGMENTS;
+            email.append(fragments[random.nextInt(fragments.length)]);
+        }
+    }
+}
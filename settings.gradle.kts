@@ -1,2 +1,2 @@
 rootProject.name = "crm"
-include("backend", "backend-integration-test")
\ No newline at end of file
+include("backend", "backend-integration-test", "backend-benchmarks")
\ No newline at end of file